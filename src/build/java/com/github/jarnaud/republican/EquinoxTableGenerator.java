@@ -0,0 +1,204 @@
+package com.github.jarnaud.republican;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generator of the sextile years of the {@link RLeapRule#EQUINOX} rule, run at build time (see the pom) to create
+ * the resource loaded by {@link EquinoxLeapRule}.
+ * <p>
+ * Each Republican year starts on the day (from midnight, Paris mean time) of the autumn equinox at the Paris
+ * Observatory. The equinox is computed with the algorithm of Jean Meeus (Astronomical Algorithms, chapter 27: mean
+ * equinox and 24 periodic terms), converted from dynamical time to universal time with the polynomial expressions
+ * of ΔT by Espenak and Meeus. The expressions are only given for the years 1000 to 3000 (ΔT is unknown beyond,
+ * and reaches hours a few millennia later), so the table stops at An 1208 (the year starting in 2999). Even then,
+ * the years starting within a few minutes of midnight may differ from other sources.
+ * <p>
+ * The resource contains the number of years (int), then one bit per year (set if sextile, An 1 being the lowest bit
+ * of the first word) in 64 bits words (longs), all big-endian.
+ * <p>
+ * This class is a build-only tool (compiled from {@code src/build/java}, not packaged in the jar). It is public to be
+ * run by the build.
+ */
+public final class EquinoxTableGenerator {
+
+    /**
+     * The number of years in the resource: the years ending before the end of the validity of the ΔT expressions
+     * (Gregorian year 3000).
+     */
+    static final int YEARS = 1208;
+
+    private static final double JULIAN_DAY_1970 = 2_440_587.5;
+    private static final double J2000 = 2_451_545.0;
+    private static final double SECONDS_PER_DAY = 86_400;
+
+    /**
+     * Offset of the Paris Observatory meridian (2°20'14" East) from Greenwich, in seconds.
+     */
+    private static final double PARIS_OFFSET_SECONDS = 561;
+
+    /**
+     * Periodic terms of the equinoxes (Meeus, table 27.C): amplitude, phase and speed (in degrees).
+     */
+    private static final double[][] PERIODIC_TERMS = {
+            {485, 324.96, 1934.136}, {203, 337.23, 32964.467}, {199, 342.08, 20.186}, {182, 27.85, 445267.112},
+            {156, 73.14, 45036.886}, {136, 171.52, 22518.443}, {77, 222.54, 65928.934}, {74, 296.72, 3034.906},
+            {70, 243.58, 9037.513}, {58, 119.81, 33718.147}, {52, 297.17, 150.678}, {50, 21.02, 2281.226},
+            {45, 247.54, 29929.562}, {44, 325.15, 31555.956}, {29, 60.93, 4443.417}, {18, 155.12, 67555.328},
+            {17, 288.79, 4562.452}, {16, 198.04, 62894.029}, {14, 199.76, 31436.921}, {12, 95.39, 14577.848},
+            {12, 287.11, 31931.756}, {12, 320.81, 34777.259}, {9, 227.73, 1222.114}, {8, 15.45, 16859.074}
+    };
+
+    private EquinoxTableGenerator() {
+    }
+
+    /**
+     * Generate the resource.
+     *
+     * @param args the output directory (the classes directory).
+     * @throws IOException if the resource cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args[0]).resolve(EquinoxLeapRule.class.getPackage().getName().replace('.', '/'))
+                .resolve(EquinoxLeapRule.RESOURCE);
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(sextileBits(YEARS), YEARS, out);
+        }
+    }
+
+    /**
+     * Write the resource.
+     *
+     * @param bits  the sextile bits.
+     * @param years the number of years.
+     * @param out   the output stream.
+     * @throws IOException if the stream cannot be written.
+     */
+    static void write(long[] bits, int years, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(years);
+        for (long word : bits) {
+            data.writeLong(word);
+        }
+        data.flush();
+    }
+
+    /**
+     * Compute the sextile bits of the first Republican years.
+     *
+     * @param years the number of years.
+     * @return the bits, set for the sextile years (An 1 being the lowest bit of the first word).
+     * @throws IllegalStateException if the computed years are invalid.
+     */
+    static long[] sextileBits(int years) {
+        long[] bits = new long[(years + 63) >>> 6];
+        long start = yearStartEpochDay(1);
+        if (start != RDate.FIRST_EPOCH_DAY) {
+            throw new IllegalStateException("An 1 starts on epoch day " + start);
+        }
+        for (int year = 1; year <= years; year++) {
+            long next = yearStartEpochDay(year + 1);
+            long length = next - start;
+            if (length == 366) {
+                bits[(year - 1) >>> 6] |= 1L << (year - 1);
+            } else if (length != 365) {
+                throw new IllegalStateException("An " + year + " lasts " + length + " days");
+            }
+            start = next;
+        }
+        return bits;
+    }
+
+    /**
+     * Return the epoch day of the first day of a Republican year: the day of the autumn equinox in Paris.
+     *
+     * @param year the Republican year.
+     * @return the epoch day.
+     */
+    static long yearStartEpochDay(int year) {
+        int gregorianYear = year + 1791;
+        double julianDay = septemberEquinox(gregorianYear)
+                + (PARIS_OFFSET_SECONDS - deltaT(gregorianYear + 0.72)) / SECONDS_PER_DAY;
+        return (long) Math.floor(julianDay - JULIAN_DAY_1970);
+    }
+
+    /**
+     * Compute the instant of the September equinox (Meeus, chapter 27).
+     *
+     * @param year the Gregorian year (after 1000).
+     * @return the Julian ephemeris day (dynamical time).
+     */
+    static double septemberEquinox(int year) {
+        double y = (year - 2000) / 1000.0;
+        double jde0 = 2_451_810.21715 + 365_242.01767 * y - 0.11575 * y * y + 0.00337 * y * y * y
+                + 0.00078 * y * y * y * y;
+        double t = (jde0 - J2000) / 36_525;
+        double w = Math.toRadians(35_999.373 * t - 2.47);
+        double deltaLambda = 1 + 0.0334 * Math.cos(w) + 0.0007 * Math.cos(2 * w);
+        double s = 0;
+        for (double[] term : PERIODIC_TERMS) {
+            s += term[0] * Math.cos(Math.toRadians(term[1] + term[2] * t));
+        }
+        return jde0 + 0.00001 * s / deltaLambda;
+    }
+
+    /**
+     * Return ΔT, the difference between dynamical time and universal time (Espenak and Meeus expressions).
+     *
+     * @param y the decimal Gregorian year (after 1700).
+     * @return ΔT in seconds.
+     */
+    static double deltaT(double y) {
+        double t;
+        if (y < 1800) {
+            t = y - 1700;
+            return 8.83 + 0.1603 * t - 0.0059285 * t * t + 0.00013336 * t * t * t - t * t * t * t / 1_174_000;
+        }
+        if (y < 1860) {
+            t = y - 1800;
+            return 13.72 - 0.332447 * t + 0.0068612 * Math.pow(t, 2) + 0.0041116 * Math.pow(t, 3)
+                    - 0.00037436 * Math.pow(t, 4) + 0.0000121272 * Math.pow(t, 5) - 0.0000001699 * Math.pow(t, 6)
+                    + 0.000000000875 * Math.pow(t, 7);
+        }
+        if (y < 1900) {
+            t = y - 1860;
+            return 7.62 + 0.5737 * t - 0.251754 * Math.pow(t, 2) + 0.01680668 * Math.pow(t, 3)
+                    - 0.0004473624 * Math.pow(t, 4) + Math.pow(t, 5) / 233_174;
+        }
+        if (y < 1920) {
+            t = y - 1900;
+            return -2.79 + 1.494119 * t - 0.0598939 * t * t + 0.0061966 * t * t * t - 0.000197 * t * t * t * t;
+        }
+        if (y < 1941) {
+            t = y - 1920;
+            return 21.20 + 0.84493 * t - 0.076100 * t * t + 0.0020936 * t * t * t;
+        }
+        if (y < 1961) {
+            t = y - 1950;
+            return 29.07 + 0.407 * t - t * t / 233 + t * t * t / 2547;
+        }
+        if (y < 1986) {
+            t = y - 1975;
+            return 45.45 + 1.067 * t - t * t / 260 - t * t * t / 718;
+        }
+        if (y < 2005) {
+            t = y - 2000;
+            return 63.86 + 0.3345 * t - 0.060374 * Math.pow(t, 2) + 0.0017275 * Math.pow(t, 3)
+                    + 0.000651814 * Math.pow(t, 4) + 0.00002373599 * Math.pow(t, 5);
+        }
+        if (y < 2050) {
+            t = y - 2000;
+            return 62.92 + 0.32217 * t + 0.005589 * t * t;
+        }
+        double u = (y - 1820) / 100;
+        if (y < 2150) {
+            return -20 + 32 * u * u - 0.5628 * (2150 - y);
+        }
+        return -20 + 32 * u * u;
+    }
+}
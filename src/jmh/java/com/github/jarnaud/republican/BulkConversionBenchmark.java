@@ -0,0 +1,58 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the bulk conversions, compared with converting one date at a time through RDate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkConversionBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private long[] epochDays;
+    private int[] packedDates;
+    private long[] epochDaysOut;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = RDate.FIRST_EPOCH_DAY + random.nextInt(300 * 365);
+        }
+        packedDates = new int[size];
+        epochDaysOut = new long[size];
+        BulkConverter.toPackedDates(epochDays, packedDates);
+    }
+
+    @Benchmark
+    public int[] toPackedDates() {
+        BulkConverter.toPackedDates(epochDays, packedDates);
+        return packedDates;
+    }
+
+    @Benchmark
+    public long[] toEpochDays() {
+        BulkConverter.toEpochDays(packedDates, epochDaysOut);
+        return epochDaysOut;
+    }
+
+    @Benchmark
+    public int[] singleValueOfLocalDate() {
+        for (int i = 0; i < size; i++) {
+            packedDates[i] = RPacked.packDate(RDate.of(LocalDate.ofEpochDay(epochDays[i])));
+        }
+        return packedDates;
+    }
+}
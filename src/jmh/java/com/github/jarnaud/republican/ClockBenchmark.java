@@ -0,0 +1,48 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the current Republican date and time, computed on each call or from a {@link RepublicanClock}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClockBenchmark {
+
+    private final Clock clock = Clock.system(ZoneId.of("Europe/Paris"));
+    private final RepublicanClock republicanClock = RepublicanClock.of(clock);
+
+    @Benchmark
+    public LocalDate localDateNow() {
+        return LocalDate.now(clock);
+    }
+
+    @Benchmark
+    public RDate rDateNow() {
+        return RDate.now(clock);
+    }
+
+    @Benchmark
+    public RDateTime rDateTimeNow() {
+        return RDateTime.now(clock);
+    }
+
+    @Benchmark
+    public RDateTime republicanClockDateTime() {
+        return republicanClock.dateTime();
+    }
+
+    @Benchmark
+    public long republicanClockNanoOfDay() {
+        return republicanClock.nanoOfDay();
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Same benchmarks as {@link ConversionBenchmark}, run on all available processors to check the scaling.
+ * Each thread has its own state, so the results only depend on shared state inside the library.
+ */
+@Threads(Threads.MAX)
+public class ConcurrentConversionBenchmark extends ConversionBenchmark {
+}
@@ -0,0 +1,172 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the conversion and construction hot paths, on a single thread.
+ * Each benchmark cycles through a set of random values taken in the selected period.
+ * <p>
+ * Run with the gc profiler (default arguments of the benchmark profile) to check the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+public class ConversionBenchmark {
+
+    private static final int SIZE = 1024; // power of 2, for cheap index wrapping.
+    private static final int MASK = SIZE - 1;
+
+    /**
+     * Periods of the benchmarked dates.
+     */
+    public enum Period {
+        /**
+         * Official usage of the Republican calendar (An I to An XIV).
+         */
+        HISTORICAL(LocalDate.of(1792, 9, 22), LocalDate.of(1805, 12, 31)),
+        /**
+         * Present-day dates.
+         */
+        PRESENT(LocalDate.of(1970, 1, 1), LocalDate.of(2070, 1, 1)),
+        /**
+         * Far-future dates (up to An 1,000,000).
+         */
+        FAR_FUTURE(LocalDate.of(100_000, 1, 1), LocalDate.of(1_000_000, 1, 1));
+
+        private final LocalDate from;
+        private final LocalDate to;
+
+        Period(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    @Param
+    private Period period;
+
+    private final LocalDate[] localDates = new LocalDate[SIZE];
+    private final LocalTime[] localTimes = new LocalTime[SIZE];
+    private final LocalDateTime[] localDateTimes = new LocalDateTime[SIZE];
+    private final long[] epochMillis = new long[SIZE];
+    private final RDate[] rDates = new RDate[SIZE];
+    private final RTime[] rTimes = new RTime[SIZE];
+    private final RDateTime[] rDateTimes = new RDateTime[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long fromDay = period.from.toEpochDay();
+        long days = period.to.toEpochDay() - fromDay;
+        for (int i = 0; i < SIZE; i++) {
+            localDates[i] = LocalDate.ofEpochDay(fromDay + (long) (random.nextDouble() * days));
+            localTimes[i] = LocalTime.ofNanoOfDay((long) (random.nextDouble() * 86_400_000_000_000L));
+            localDateTimes[i] = LocalDateTime.of(localDates[i], localTimes[i]);
+            epochMillis[i] = localDateTimes[i].toInstant(ZoneOffset.UTC).toEpochMilli();
+            rDates[i] = RDate.of(localDates[i]);
+            rTimes[i] = RTime.of(localTimes[i]);
+            rDateTimes[i] = RDateTime.of(localDateTimes[i]);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public RDate rDateOfLocalDate() {
+        return RDate.of(localDates[next()]);
+    }
+
+    @Benchmark
+    public LocalDate rDateToLocalDate() {
+        return rDates[next()].toLocalDate();
+    }
+
+    @Benchmark
+    public RDate rDatePlusDays() {
+        int i = next();
+        return rDates[i].plusDays(i);
+    }
+
+    @Benchmark
+    public RTime rTimeOfLocalTime() {
+        return RTime.of(localTimes[next()]);
+    }
+
+    @Benchmark
+    public LocalTime rTimeToLocalTime() {
+        return rTimes[next()].toLocalTime();
+    }
+
+    @Benchmark
+    public RDateTime rDateTimeOfLocalDateTime() {
+        return RDateTime.of(localDateTimes[next()]);
+    }
+
+    @Benchmark
+    public RDateTime rDateTimeOfEpochMilli() {
+        return RDateTime.ofEpochMilli(epochMillis[next()], ZoneOffset.UTC);
+    }
+
+    @Benchmark
+    public RDateTime rDateTimeOfEpochMilliViaLocalDateTime() {
+        return RDateTime.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[next()]), ZoneOffset.UTC));
+    }
+
+    @Benchmark
+    public LocalDateTime rDateTimeToLocalDateTime() {
+        return rDateTimes[next()].toLocalDateTime();
+    }
+
+    @Benchmark
+    public String rDateToString() {
+        return rDates[next()].toString();
+    }
+
+    @Benchmark
+    public String rTimeToString() {
+        return rTimes[next()].toString();
+    }
+
+    @Benchmark
+    public String rDateTimeToString() {
+        return rDateTimes[next()].toString();
+    }
+
+    @Benchmark
+    public int rDateHashCode() {
+        return rDates[next()].hashCode();
+    }
+
+    @Benchmark
+    public int rDateTimeHashCode() {
+        return rDateTimes[next()].hashCode();
+    }
+
+    @Benchmark
+    public int rDateCompareTo() {
+        int i = next();
+        return rDates[i].compareTo(rDates[(i + 1) & MASK]);
+    }
+
+    @Benchmark
+    public int rDateTimeCompareTo() {
+        int i = next();
+        return rDateTimes[i].compareTo(rDateTimes[(i + 1) & MASK]);
+    }
+}
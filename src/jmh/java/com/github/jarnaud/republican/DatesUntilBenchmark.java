@@ -0,0 +1,39 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the iteration over a century of Republican dates, with {@link RDate#plusDays(long)} or
+ * {@link RDate#datesUntil(RDate)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DatesUntilBenchmark {
+
+    private final RDate start = RDate.of(200, RMonth.Vendemiaire, 1);
+    private final RDate end = RDate.of(300, RMonth.Vendemiaire, 1);
+
+    @Benchmark
+    public void plusDaysLoop(Blackhole bh) {
+        for (RDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            bh.consume(date);
+        }
+    }
+
+    @Benchmark
+    public void datesUntil(Blackhole bh) {
+        start.datesUntil(end).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public long datesUntilParallel() {
+        return start.datesUntil(end).parallel().filter(RDate::isSpecialDay).count();
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the decade adjusters and queries on Republican dates, compared with stepping day by day.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecadeAdjustersBenchmark {
+
+    private static final int SIZE = 1024; // power of 2, for cheap index wrapping.
+    private static final int MASK = SIZE - 1;
+
+    private final RDate[] dates = new RDate[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long fromDay = LocalDate.of(1970, 1, 1).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = RDate.ofEpochDay(fromDay + random.nextInt(100 * 365));
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public RDate nextDecadi() {
+        return dates[next()].with(RTemporalAdjusters.nextDecadi());
+    }
+
+    @Benchmark
+    public RDate nextDecadiByDays() {
+        RDate date = dates[next()].plusDays(1);
+        while (date.getDecadeDay() != RDayOfDecade.Decadi) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+
+    @Benchmark
+    public RDate firstDayOfDecade() {
+        return dates[next()].with(RTemporalAdjusters.firstDayOfDecade());
+    }
+
+    @Benchmark
+    public int decadeOfYear() {
+        return dates[next()].query(RTemporalQueries.decadeOfYear());
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the formatting of Republican dates and times, into a reused output (no allocation expected)
+ * compared to {@code String.format}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatterBenchmark {
+
+    private static final int SIZE = 1024; // power of 2, for cheap index wrapping.
+    private static final int MASK = SIZE - 1;
+
+    private static final RFormatter FORMATTER = RFormatter.ofPattern("'An' R, d MMM (D) hh:mm:ss");
+
+    private final RDateTime[] rDateTimes = new RDateTime[SIZE];
+    private final StringBuilder sb = new StringBuilder(64);
+    private final byte[] bytes = new byte[64];
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        LocalDateTime from = LocalDateTime.of(1792, 9, 22, 0, 0);
+        for (int i = 0; i < SIZE; i++) {
+            rDateTimes[i] = RDateTime.of(from.plusSeconds((long) (random.nextDouble() * 13 * 365 * 86_400L)));
+        }
+    }
+
+    private RDateTime next() {
+        return rDateTimes[index = (index + 1) & MASK];
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        RDateTime dateTime = next();
+        return String.format("An %d, %d %s (%d) %02d:%02d:%02d", dateTime.getYear(), dateTime.getDay(),
+                dateTime.getMonth().getName(), 1 + (dateTime.getDay() - 1) / 10, dateTime.getHour(), dateTime.getMinute(),
+                dateTime.getSecond());
+    }
+
+    @Benchmark
+    public String format() {
+        return FORMATTER.format(next());
+    }
+
+    @Benchmark
+    public int formatToStringBuilder() {
+        sb.setLength(0);
+        return FORMATTER.formatTo(next(), sb).length();
+    }
+
+    @Benchmark
+    public int formatToBytes() {
+        return FORMATTER.formatTo(next(), bytes, 0);
+    }
+
+    @Benchmark
+    public int formatToDirectBuffer() {
+        buffer.clear();
+        return FORMATTER.formatTo(next(), buffer);
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the date conversions with each leap rule, which should all cost the same (the year starts being
+ * precomputed in a table), and of the rules themselves (used after the table).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LeapRuleBenchmark {
+
+    private static final int SIZE = 1024; // power of 2, for cheap index wrapping.
+    private static final int MASK = SIZE - 1;
+
+    @Param({"romme", "continuous", "equinox"})
+    private String rule;
+
+    private RLeapRule leapRule;
+    private GRConverter grConverter;
+    private RGConverter rgConverter;
+
+    private final long[] epochDays = new long[SIZE];
+    private final int[] packedDates = new int[SIZE];
+    private final int[] years = new int[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        leapRule = YearStartTable.ruleOf(rule);
+        YearStartTable table = new YearStartTable(leapRule, YearStartTable.DEFAULT_MAX_YEARS);
+        grConverter = new GRConverter(table);
+        rgConverter = new RGConverter(table);
+        Random random = new Random(42);
+        long fromDay = LocalDate.of(1970, 1, 1).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = fromDay + random.nextInt(100 * 365);
+            packedDates[i] = grConverter.convertToPacked(epochDays[i]);
+            years[i] = 1 + random.nextInt(4000);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public int toPackedDate() {
+        return grConverter.convertToPacked(epochDays[next()]);
+    }
+
+    @Benchmark
+    public long toEpochDay() {
+        int packed = packedDates[next()];
+        return rgConverter.toEpochDay(RPacked.dateYear(packed), RPacked.dateMonth(packed), RPacked.dateDay(packed));
+    }
+
+    @Benchmark
+    public long daysBeforeYear() {
+        return leapRule.daysBeforeYear(years[next()]);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the leap years counting, which is performed on every date conversion.
+ * The cost should be flat whatever the year.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class LeapYearCalculatorBenchmark {
+
+    @Param({"1", "229", "1000", "10000", "100000", "1000000"})
+    private int year;
+
+    private final LeapYearCalculator calculator = new LeapYearCalculator();
+
+    private RDate date;
+
+    @Setup
+    public void setup() {
+        date = RDate.of(year, RMonth.Nivose, 12);
+    }
+
+    @Benchmark
+    public void leapRepublicanYears(Blackhole bh) {
+        bh.consume(calculator.leapRepublicanYears(year));
+    }
+
+    @Benchmark
+    public void leapYears(Blackhole bh) {
+        bh.consume(calculator.leapYears(year + 1792));
+    }
+
+    @Benchmark
+    public Object toLocalDate() {
+        return date.toLocalDate();
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of bulk conversions of 4 million timestamps, sequential or in parallel on the common pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelBulkConversionBenchmark {
+
+    private static final int SIZE = 1 << 22;
+
+    private final long[] epochSeconds = new long[SIZE];
+    private final int[] nanos = new int[SIZE];
+    private final long[] packedDateTimes = new long[SIZE];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1792);
+        long firstSecond = RDate.FIRST_DAY.toEpochDay() * 86_400L;
+        for (int i = 0; i < SIZE; i++) {
+            epochSeconds[i] = firstSecond + (long) (random.nextDouble() * 300 * 365 * 86_400L);
+            nanos[i] = random.nextInt(1_000_000_000);
+        }
+    }
+
+    @Benchmark
+    public long[] sequential() {
+        BulkConverter.toPackedDateTimes(epochSeconds, nanos, ZoneOffset.UTC, packedDateTimes);
+        return packedDateTimes;
+    }
+
+    @Benchmark
+    public long[] parallel() {
+        ParallelBulkConverter.commonPool().toPackedDateTimes(epochSeconds, nanos, ZoneOffset.UTC, packedDateTimes);
+        return packedDateTimes;
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the parsing of Republican dates into packed dates (no allocation expected), from strings and from
+ * UTF-8 bytes, in the toString and archival forms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+    private static final int SIZE = 1024; // power of 2, for cheap index wrapping.
+    private static final int MASK = SIZE - 1;
+
+    private static final RFormatter ARCHIVAL = RFormatter.ofPattern("d MMM 'an' R");
+
+    @Param({"toString", "archival"})
+    private String form;
+
+    private final String[] texts = new String[SIZE];
+    private final byte[][] bytes = new byte[SIZE][];
+    private final ParsePosition position = new ParsePosition(0);
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            RDate date = RDate.of(1 + random.nextInt(14), 1 + random.nextInt(12), 1 + random.nextInt(30));
+            texts[i] = "toString".equals(form) ? date.toString() : ARCHIVAL.format(date);
+            bytes[i] = texts[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public int parseString() {
+        position.setIndex(0);
+        return RParser.parsePackedDate(texts[index = (index + 1) & MASK], position);
+    }
+
+    @Benchmark
+    public int parseBytes() {
+        byte[] text = bytes[index = (index + 1) & MASK];
+        position.setIndex(0);
+        return RParser.parsePackedDate(text, text.length, position);
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.jarnaud.republican;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the conversion of nanoseconds of the day between normal and decimal time, with the exact integer
+ * arithmetic of {@link RTime} compared to the former {@code double} ratio.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeConversionBenchmark {
+
+    private static final int SIZE = 1024; // power of 2, for cheap index wrapping.
+    private static final int MASK = SIZE - 1;
+
+    /**
+     * The former ratio, kept for comparison.
+     */
+    private static final double RG_SECOND_RATIO = 0.864;
+
+    private final long[] gNanos = new long[SIZE];
+    private final long[] rNanos = new long[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            gNanos[i] = (long) (random.nextDouble() * 86_400_000_000_000L);
+            rNanos[i] = (long) (random.nextDouble() * RTime.NANOS_PER_DAY);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public long toRepublicanExact() {
+        return RTime.toRepublicanNanoOfDay(gNanos[next()]);
+    }
+
+    @Benchmark
+    public long toRepublicanDouble() {
+        return (long) (gNanos[next()] / RG_SECOND_RATIO);
+    }
+
+    @Benchmark
+    public long toGregorianExact() {
+        return RTime.toGregorianNanoOfDay(rNanos[next()]);
+    }
+
+    @Benchmark
+    public long toGregorianDouble() {
+        return (long) (rNanos[next()] * RG_SECOND_RATIO);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.jarnaud.republican.cli;
+
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RFormatter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the conversion of a file of 4 million ISO dates, with the {@link FileConverter} or line by line with
+ * a {@link BufferedReader}, {@link LocalDate#parse(CharSequence)} and {@link RDate#of(LocalDate)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileConverterBenchmark {
+
+    private static final int LINES = 4_000_000;
+
+    private final RFormatter formatter = RFormatter.ofPattern(FileConverter.DEFAULT_DATE_PATTERN);
+    private Path dir;
+    private Path input;
+    private Path output;
+
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("republican-benchmark");
+        input = dir.resolve("dates.txt");
+        output = dir.resolve("output.txt");
+        Random random = new Random(1792);
+        try (BufferedWriter writer = Files.newBufferedWriter(input, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < LINES; i++) {
+                writer.write(RDate.FIRST_DAY.plusDays(random.nextInt(400 * 365)).toString());
+                writer.write('\n');
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public int fileConverter() {
+        return FileConverter.run(new PrintStream(System.err), input.toString(), output.toString());
+    }
+
+    @Benchmark
+    public void bufferedReader() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.write(formatter.format(RDate.of(LocalDate.parse(line))));
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.jarnaud.republican.log4j;
+
+import org.apache.log4j.Layout;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the log4j layout with a Republican timestamp, compared to the standard ISO 8601 timestamp.
+ * Each thread has its own layout (as appenders serialize the calls to their layout), and the events are
+ * timestamped with the current time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Thread)
+public class LayoutBenchmark {
+
+    private static final Logger LOGGER = Logger.getLogger(LayoutBenchmark.class);
+
+    @Param({"iso", "republican"})
+    private String timestamp;
+
+    private Layout layout;
+
+    @Setup
+    public void setup() {
+        layout = "iso".equals(timestamp)
+                ? new PatternLayout("%d{ISO8601} %-5p %m%n")
+                : new RepublicanPatternLayout("%R %-5p %m%n");
+    }
+
+    @Benchmark
+    public String format() {
+        return layout.format(new LoggingEvent(Logger.class.getName(), LOGGER, System.currentTimeMillis(), Level.INFO, "Hello", null));
+    }
+}
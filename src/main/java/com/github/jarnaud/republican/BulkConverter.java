@@ -0,0 +1,180 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.time.ZoneOffset;
+
+/**
+ * Batch conversions between Gregorian and Republican dates and timestamps, stored in primitive arrays.
+ * <p>
+ * Republican values are packed with {@link RPacked}. The conversions do not create any object per element,
+ * and give the same results as the single-value APIs (eg. {@link RDate#ofEpochDay(long)}).
+ */
+public final class BulkConverter {
+
+    private static final GRConverter GR_CONVERTER = new GRConverter();
+    private static final RGConverter RG_CONVERTER = new RGConverter();
+
+    private BulkConverter() {
+    }
+
+    /**
+     * Convert epoch days (number of days since 1970-01-01) into packed Republican dates.
+     *
+     * @param epochDays   the epoch days.
+     * @param packedDates the array receiving the packed dates, at least as long as the epoch days.
+     * @throws RepublicanCalendarException if an epoch day is before the first day of the Republican calendar.
+     */
+    public static void toPackedDates(long[] epochDays, int[] packedDates) {
+        toPackedDates(epochDays, 0, packedDates, 0, epochDays.length);
+    }
+
+    /**
+     * Convert a range of epoch days (number of days since 1970-01-01) into packed Republican dates.
+     *
+     * @param epochDays   the epoch days.
+     * @param srcPos      the index of the first epoch day to convert.
+     * @param packedDates the array receiving the packed dates.
+     * @param destPos     the index of the first packed date to write.
+     * @param length      the number of values to convert.
+     * @throws RepublicanCalendarException if an epoch day is before the first day of the Republican calendar.
+     */
+    public static void toPackedDates(long[] epochDays, int srcPos, int[] packedDates, int destPos, int length) {
+        checkRange(epochDays.length, srcPos, packedDates.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            packedDates[destPos + i] = GR_CONVERTER.convertToPacked(epochDays[srcPos + i]);
+        }
+    }
+
+    /**
+     * Convert packed Republican dates into epoch days (number of days since 1970-01-01).
+     *
+     * @param packedDates the packed dates.
+     * @param epochDays   the array receiving the epoch days, at least as long as the packed dates.
+     * @throws RepublicanCalendarException if a packed date is invalid.
+     */
+    public static void toEpochDays(int[] packedDates, long[] epochDays) {
+        toEpochDays(packedDates, 0, epochDays, 0, packedDates.length);
+    }
+
+    /**
+     * Convert a range of packed Republican dates into epoch days (number of days since 1970-01-01).
+     *
+     * @param packedDates the packed dates.
+     * @param srcPos      the index of the first packed date to convert.
+     * @param epochDays   the array receiving the epoch days.
+     * @param destPos     the index of the first epoch day to write.
+     * @param length      the number of values to convert.
+     * @throws RepublicanCalendarException if a packed date is invalid.
+     */
+    public static void toEpochDays(int[] packedDates, int srcPos, long[] epochDays, int destPos, int length) {
+        checkRange(packedDates.length, srcPos, epochDays.length, destPos, length);
+        for (int i = 0; i < length; i++) {
+            int packed = packedDates[srcPos + i];
+            epochDays[destPos + i] = toEpochDay(packed);
+        }
+    }
+
+    /**
+     * Convert timestamps into packed Republican dates and times, at the given offset.
+     * Timestamps are provided as epoch seconds (since 1970-01-01T00:00:00Z) and nanoseconds of the second.
+     *
+     * @param epochSeconds    the epoch seconds.
+     * @param nanos           the nanoseconds of the second, same length as the epoch seconds.
+     * @param offset          the zone offset of the Republican dates and times.
+     * @param packedDateTimes the array receiving the packed dates and times, at least as long as the epoch seconds.
+     * @throws RepublicanCalendarException if a nano is invalid or a timestamp is before the first day of the
+     *                                     Republican calendar.
+     */
+    public static void toPackedDateTimes(long[] epochSeconds, int[] nanos, ZoneOffset offset, long[] packedDateTimes) {
+        toPackedDateTimes(epochSeconds, nanos, 0, offset, packedDateTimes, 0, epochSeconds.length);
+    }
+
+    /**
+     * Convert a range of timestamps into packed Republican dates and times, at the given offset.
+     *
+     * @param epochSeconds    the epoch seconds.
+     * @param nanos           the nanoseconds of the second.
+     * @param srcPos          the index of the first timestamp to convert.
+     * @param offset          the zone offset of the Republican dates and times.
+     * @param packedDateTimes the array receiving the packed dates and times.
+     * @param destPos         the index of the first packed date and time to write.
+     * @param length          the number of values to convert.
+     * @throws RepublicanCalendarException if a nano is invalid (not between 0 and 999,999,999) or a timestamp is
+     *                                     before the first day of the Republican calendar.
+     */
+    public static void toPackedDateTimes(long[] epochSeconds, int[] nanos, int srcPos, ZoneOffset offset,
+                                         long[] packedDateTimes, int destPos, int length) {
+        checkRange(Math.min(epochSeconds.length, nanos.length), srcPos, packedDateTimes.length, destPos, length);
+        int offsetSeconds = offset.getTotalSeconds();
+        for (int i = 0; i < length; i++) {
+            int nano = nanos[srcPos + i];
+            if (nano < 0 || nano >= RTime.NANOS_PER_SECOND) {
+                throw new RepublicanCalendarException("Invalid nano");
+            }
+            long localSecond = Math.addExact(epochSeconds[srcPos + i], offsetSeconds);
+            int packedDate = GR_CONVERTER.convertToPacked(Math.floorDiv(localSecond, RTime.SECONDS_PER_GREGORIAN_DAY));
+            packedDateTimes[destPos + i] = RPacked.packDateTime(packedDate, RTime.toRepublicanNanoOfDay(localSecond, nano));
+        }
+    }
+
+    /**
+     * Convert packed Republican dates and times into timestamps, at the given offset.
+     * Timestamps are written as epoch seconds (since 1970-01-01T00:00:00Z) and nanoseconds of the second.
+     *
+     * @param packedDateTimes the packed dates and times.
+     * @param offset          the zone offset of the Republican dates and times.
+     * @param epochSeconds    the array receiving the epoch seconds, at least as long as the packed dates and times.
+     * @param nanos           the array receiving the nanoseconds of the second, at least as long as the packed dates and times.
+     * @throws RepublicanCalendarException if a packed date and time is invalid.
+     */
+    public static void toEpochSeconds(long[] packedDateTimes, ZoneOffset offset, long[] epochSeconds, int[] nanos) {
+        toEpochSeconds(packedDateTimes, 0, offset, epochSeconds, nanos, 0, packedDateTimes.length);
+    }
+
+    /**
+     * Convert a range of packed Republican dates and times into timestamps, at the given offset.
+     *
+     * @param packedDateTimes the packed dates and times.
+     * @param srcPos          the index of the first packed date and time to convert.
+     * @param offset          the zone offset of the Republican dates and times.
+     * @param epochSeconds    the array receiving the epoch seconds.
+     * @param nanos           the array receiving the nanoseconds of the second.
+     * @param destPos         the index of the first timestamp to write.
+     * @param length          the number of values to convert.
+     * @throws RepublicanCalendarException if a packed date and time is invalid.
+     */
+    public static void toEpochSeconds(long[] packedDateTimes, int srcPos, ZoneOffset offset,
+                                      long[] epochSeconds, int[] nanos, int destPos, int length) {
+        checkRange(packedDateTimes.length, srcPos, Math.min(epochSeconds.length, nanos.length), destPos, length);
+        int offsetSeconds = offset.getTotalSeconds();
+        for (int i = 0; i < length; i++) {
+            long packed = packedDateTimes[srcPos + i];
+            long epochDay = toEpochDay(RPacked.dateTimeDate(packed));
+            long nanoOfDay = RPacked.dateTimeTime(packed);
+            if (nanoOfDay >= RTime.NANOS_PER_DAY) {
+                throw new RepublicanCalendarException("Invalid nano");
+            }
+            long gNanoOfDay = RTime.toGregorianNanoOfDay(nanoOfDay);
+            epochSeconds[destPos + i] = epochDay * RTime.SECONDS_PER_GREGORIAN_DAY + gNanoOfDay / RTime.NANOS_PER_SECOND - offsetSeconds;
+            nanos[destPos + i] = (int) (gNanoOfDay % RTime.NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Convert a packed date into an epoch day, checking it as {@link RPacked#unpackDate(int)} does.
+     */
+    private static long toEpochDay(int packedDate) {
+        int year = RPacked.dateYear(packedDate);
+        int month = RPacked.dateMonth(packedDate);
+        int day = RPacked.dateDay(packedDate);
+        RDate.checkDate(year, month, day);
+        return RG_CONVERTER.toEpochDay(year, month, day);
+    }
+
+    static void checkRange(int srcLength, int srcPos, int destLength, int destPos, int length) {
+        if (length < 0 || srcPos < 0 || destPos < 0 || srcPos > srcLength - length || destPos > destLength - length) {
+            throw new RepublicanCalendarException("Invalid array range (srcPos=" + srcPos + ", destPos=" + destPos + ", length=" + length + ")");
+        }
+    }
+}
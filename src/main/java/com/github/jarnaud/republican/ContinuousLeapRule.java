@@ -0,0 +1,31 @@
+package com.github.jarnaud.republican;
+
+/**
+ * The continuous rule (see {@link RLeapRule#CONTINUOUS}): An Y is sextile if Y + 1 is a leap year of the Gregorian
+ * rule.
+ */
+final class ContinuousLeapRule implements RLeapRule {
+
+    static final ContinuousLeapRule INSTANCE = new ContinuousLeapRule();
+
+    private ContinuousLeapRule() {
+    }
+
+    @Override
+    public boolean isSextile(int year) {
+        long next = year + 1L;
+        return year >= 1 && next % 4 == 0 && (next % 100 != 0 || next % 400 == 0);
+    }
+
+    @Override
+    public long daysBeforeYear(int year) {
+        // An 1 to An Y - 1 are sextile when years 2 to Y are leap, ie. all the leap years up to Y.
+        long y = year;
+        return 365L * (y - 1) + Math.floorDiv(y, 4) - Math.floorDiv(y, 100) + Math.floorDiv(y, 400);
+    }
+
+    @Override
+    public String toString() {
+        return "continuous";
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.jarnaud.republican;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The equinox rule (see {@link RLeapRule#EQUINOX}), read from the resource generated at build time by the
+ * {@code EquinoxTableGenerator} (a build-only tool, see {@code src/build/java}).
+ * <p>
+ * The resource is loaded once, on first use. The days before a year are then computed in constant time by counting
+ * the sextile bits: a count is kept for each 64 years word. After the years of the resource, the years follow
+ * Romme's rule.
+ */
+final class EquinoxLeapRule implements RLeapRule {
+
+    /**
+     * The name of the resource generated by the build, next to this class.
+     */
+    static final String RESOURCE = "equinox.bin";
+
+    static final EquinoxLeapRule INSTANCE = new EquinoxLeapRule();
+
+    private EquinoxLeapRule() {
+    }
+
+    @Override
+    public boolean isSextile(int year) {
+        if (year < 1) {
+            return false;
+        }
+        if (year > Table.YEARS) {
+            return RLeapRule.ROMME.isSextile(year);
+        }
+        int index = year - 1;
+        return (Table.BITS[index >>> 6] & 1L << index) != 0;
+    }
+
+    @Override
+    public long daysBeforeYear(int year) {
+        if (year < 1) {
+            // No sextile year before An I, as with Romme's rule.
+            return RLeapRule.ROMME.daysBeforeYear(year);
+        }
+        if (year > Table.YEARS) {
+            return Table.DAYS_AFTER_TABLE + RLeapRule.ROMME.daysBeforeYear(year)
+                    - RLeapRule.ROMME.daysBeforeYear(Table.YEARS + 1);
+        }
+        int index = year - 1;
+        int word = index >>> 6;
+        // Sextile years before the year in its word (none for the first year of the word).
+        long mask = (1L << index) - 1;
+        return 365L * index + Table.COUNTS[word] + Long.bitCount(Table.BITS[word] & mask);
+    }
+
+    @Override
+    public String toString() {
+        return "equinox";
+    }
+
+    /**
+     * The sextile years loaded from the resource.
+     */
+    private static final class Table {
+
+        static final int YEARS;
+        static final long[] BITS;
+
+        /**
+         * For each word, the number of sextile years in the previous words.
+         */
+        static final int[] COUNTS;
+
+        /**
+         * The number of days before the first year after the resource.
+         */
+        static final long DAYS_AFTER_TABLE;
+
+        static {
+            try (InputStream in = EquinoxLeapRule.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IOException("Missing resource " + RESOURCE + ", generated by the build at the"
+                            + " process-classes phase: run 'mvn process-classes' (or any later phase) before running"
+                            + " from the compiled classes");
+                }
+                DataInputStream data = new DataInputStream(in);
+                YEARS = data.readInt();
+                BITS = new long[(YEARS + 63) >>> 6];
+                COUNTS = new int[BITS.length];
+                int count = 0;
+                for (int i = 0; i < BITS.length; i++) {
+                    BITS[i] = data.readLong();
+                    COUNTS[i] = count;
+                    count += Long.bitCount(BITS[i]);
+                }
+                DAYS_AFTER_TABLE = 365L * YEARS + count;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot load the equinox table", e);
+            }
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.github.jarnaud.republican;
 
-import java.time.LocalDate;
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
 
-import static java.time.temporal.ChronoUnit.DAYS;
+import java.time.LocalDate;
 
 /**
  * Converter from Gregorian to Republican dates.
@@ -10,13 +10,32 @@ import static java.time.temporal.ChronoUnit.DAYS;
 class GRConverter {
 
     /**
-     * Officially the Republican calendar started on 1792-09-22 (An I Vendemiaire 1).
+     * Maximum number of days since An I Vendemiaire 1, so that the year fits in an int.
+     */
+    private static final long MAX_DAYS = 365L * (Integer.MAX_VALUE - 2);
+
+    /**
+     * Maximum epoch day which can be converted.
      */
-    private static final int START_YEAR = 1792;
-    private static final int START_MONTH = 9;
-    private static final int START_DAY = 22;
+    static final long MAX_EPOCH_DAY = RDate.FIRST_EPOCH_DAY + MAX_DAYS;
+
+    private final YearStartTable yearStartTable;
 
-    private final LeapYearCalculator leapYearCalculator = new LeapYearCalculator();
+    /**
+     * Constructor, using the leap rule of the library.
+     */
+    GRConverter() {
+        this(YearStartTable.INSTANCE);
+    }
+
+    /**
+     * Constructor, only used to test and compare the rules (the dates always use the rule of the library).
+     *
+     * @param yearStartTable the first days of the years, according to a leap rule.
+     */
+    GRConverter(YearStartTable yearStartTable) {
+        this.yearStartTable = yearStartTable;
+    }
 
     /**
      * Convert a local date into a Republican date.
@@ -25,46 +44,52 @@ class GRConverter {
      * @return the corresponding Republican date.
      */
     public RDate convert(LocalDate date) {
-        int rYear = date.getYear() - START_YEAR;
-        // Default starting date of the Republican year.
-        LocalDate start = getRepublicanYearStartDay(date);
-        if (date.isBefore(start)) {
-            // Compute start on previous Gregorian year.
-            start = getRepublicanYearStartDay(start.minusYears(1));
-        } else {
-            rYear++;
-        }
+        return convert(date.toEpochDay());
+    }
 
-        int daysSinceStartYear = (int) DAYS.between(start, date);
+    /**
+     * Convert an epoch day (number of days since 1970-01-01) into a Republican date.
+     *
+     * @param epochDay the epoch day.
+     * @return the corresponding Republican date.
+     */
+    public RDate convert(long epochDay) {
+        long days = getDays(epochDay);
+        int year = yearStartTable.yearOf(days);
+        int dayOfYear = (int) (days - yearStartTable.daysBeforeYear(year));
 
-        // Create Republican date.
-        int months = daysSinceStartYear / 30; // each Republican month last 30 days.
-        RMonth rMonth = RMonth.values()[months];
-        int rDay = 1 + daysSinceStartYear % 30; // Add one since we count days from 1, not 0.
-        return RDate.of(rYear, rMonth, rDay);
+        // Each Republican month last 30 days. Add one since we count days from 1, not 0.
+        return RDateCache.INSTANCE.get(year, RMonth.of(1 + dayOfYear / RDate.DAYS_PER_MONTH), 1 + dayOfYear % RDate.DAYS_PER_MONTH);
     }
 
     /**
-     * Return the first day of the new Republican year for the year of the provided date.
+     * Convert an epoch day (number of days since 1970-01-01) into a packed Republican date (see {@link RPacked}).
+     * Same as packing the result of {@link #convert(long)}, without creating the date.
      *
-     * @param date the date.
-     * @return the first day of the Republican year.
+     * @param epochDay the epoch day.
+     * @return the corresponding packed Republican date.
      */
-    private LocalDate getRepublicanYearStartDay(LocalDate date) {
-        LocalDate start = LocalDate.of(date.getYear(), START_MONTH, START_DAY);
-        return start.plusDays(processShifts(date));
+    public int convertToPacked(long epochDay) {
+        long days = getDays(epochDay);
+        int year = yearStartTable.yearOf(days);
+        int dayOfYear = (int) (days - yearStartTable.daysBeforeYear(year));
+        return RPacked.packDate(year, 1 + dayOfYear / RDate.DAYS_PER_MONTH, 1 + dayOfYear % RDate.DAYS_PER_MONTH);
     }
 
     /**
-     * Process the leap years difference between Republican and Gregorian on a given year.
+     * Return the number of days since An I Vendemiaire 1.
      *
-     * @param date the date (Gregorian).
-     * @return the leap delta.
+     * @param epochDay the epoch day.
+     * @return the number of days.
      */
-    private int processShifts(LocalDate date) {
-        int leapR = leapYearCalculator.leapRepublicanYears(date.getYear() - START_YEAR);
-        int leapG = leapYearCalculator.leapYears(date.getYear());
-        return leapR - leapG;
+    private long getDays(long epochDay) {
+        if (epochDay < RDate.FIRST_EPOCH_DAY) {
+            throw new RepublicanCalendarException("Date is undefined in the Republican calendar (before " + RDate.FIRST_DAY + ").");
+        }
+        if (epochDay > MAX_EPOCH_DAY) {
+            throw new RepublicanCalendarException("Date is out of the supported Republican years.");
+        }
+        return epochDay - RDate.FIRST_EPOCH_DAY;
     }
 
 }
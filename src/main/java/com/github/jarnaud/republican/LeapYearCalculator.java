@@ -27,6 +27,16 @@ class LeapYearCalculator {
         return nb;
     }
 
+    /**
+     * Process the number of days between An I Vendemiaire 1 and the first day of a given Republican year.
+     *
+     * @param year the Republican year.
+     * @return the number of days before the year.
+     */
+    public long daysBeforeRepublicanYear(int year) {
+        return 365L * (year - 1) + leapRepublicanYears(year - 1);
+    }
+
     public int leapYears(int year) {
         return leapYearsSince(year, START_REPUBLICAN_YEAR);
     }
@@ -41,25 +51,26 @@ class LeapYearCalculator {
 
     /**
      * Process the number of non-leap century years between two years (included).
+     * Computed in constant time by counting the non-leap centuries up to each bound.
      *
      * @param year  the year.
      * @param start the starting year.
      * @return the number of non-leap years.
      */
     private int processCenturyNonLeapYears(int year, int start) {
-        int nb = 0;
-        int century = roundNextCentury(start);
-        while (century <= year) {
-            if (century % 400 != 0) {
-                // Non-leap century years (eg. 1800, 1900 but not 2000).
-                nb++;
-            }
-            century += 100;
+        if (year < start) {
+            return 0;
         }
-        return nb;
+        return nonLeapCenturiesUpTo(year) - nonLeapCenturiesUpTo(start - 1);
     }
 
-    private int roundNextCentury(int year) {
-        return ((year + 99) / 100) * 100;
+    /**
+     * Process the number of non-leap century years (eg. 1800, 1900 but not 2000) between year 1 and a given year (included).
+     *
+     * @param year the year.
+     * @return the number of non-leap century years.
+     */
+    private int nonLeapCenturiesUpTo(int year) {
+        return Math.floorDiv(year, 100) - Math.floorDiv(year, 400);
     }
 }
@@ -0,0 +1,251 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel version of the {@link BulkConverter} conversions, for very large arrays.
+ * <p>
+ * The arrays are split into chunks converted by the tasks of a {@link ForkJoinPool} (the common pool by default),
+ * and the results are written into the pre-allocated destination arrays. Below a threshold (number of values),
+ * the conversion runs sequentially in the calling thread.
+ * <p>
+ * The results are the same as with {@link BulkConverter}. If a value is invalid, the exception is rethrown in the
+ * calling thread, and the destination arrays may have been partially written.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class ParallelBulkConverter {
+
+    /**
+     * The default minimum number of values per task.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    private static final ParallelBulkConverter COMMON = new ParallelBulkConverter(null, DEFAULT_THRESHOLD);
+
+    /**
+     * The pool, or null for the common pool (looked up on each call, as it may be disabled).
+     */
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Obtains a converter using the common pool and the default threshold.
+     *
+     * @return the converter.
+     */
+    public static ParallelBulkConverter commonPool() {
+        return COMMON;
+    }
+
+    /**
+     * Obtains a converter using a given pool.
+     *
+     * @param pool      the pool running the conversions.
+     * @param threshold the minimum number of values per task (below which conversions are sequential).
+     * @return the converter.
+     * @throws RepublicanCalendarException if the threshold is not positive.
+     */
+    public static ParallelBulkConverter of(ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(pool, "pool");
+        return new ParallelBulkConverter(pool, threshold);
+    }
+
+    private ParallelBulkConverter(ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new RepublicanCalendarException("Invalid threshold (must be positive)");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Return the minimum number of values per task.
+     *
+     * @return the threshold.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Convert epoch days (number of days since 1970-01-01) into packed Republican dates.
+     *
+     * @param epochDays   the epoch days.
+     * @param packedDates the array receiving the packed dates, at least as long as the epoch days.
+     * @throws RepublicanCalendarException if an epoch day is before the first day of the Republican calendar.
+     * @see BulkConverter#toPackedDates(long[], int[])
+     */
+    public void toPackedDates(long[] epochDays, int[] packedDates) {
+        toPackedDates(epochDays, 0, packedDates, 0, epochDays.length);
+    }
+
+    /**
+     * Convert a range of epoch days (number of days since 1970-01-01) into packed Republican dates.
+     *
+     * @param epochDays   the epoch days.
+     * @param srcPos      the index of the first epoch day to convert.
+     * @param packedDates the array receiving the packed dates.
+     * @param destPos     the index of the first packed date to write.
+     * @param length      the number of values to convert.
+     * @throws RepublicanCalendarException if an epoch day is before the first day of the Republican calendar.
+     * @see BulkConverter#toPackedDates(long[], int, int[], int, int)
+     */
+    public void toPackedDates(long[] epochDays, int srcPos, int[] packedDates, int destPos, int length) {
+        BulkConverter.checkRange(epochDays.length, srcPos, packedDates.length, destPos, length);
+        run(length, (from, count) -> BulkConverter.toPackedDates(epochDays, srcPos + from, packedDates, destPos + from, count));
+    }
+
+    /**
+     * Convert packed Republican dates into epoch days (number of days since 1970-01-01).
+     *
+     * @param packedDates the packed dates.
+     * @param epochDays   the array receiving the epoch days, at least as long as the packed dates.
+     * @throws RepublicanCalendarException if a packed date is invalid.
+     * @see BulkConverter#toEpochDays(int[], long[])
+     */
+    public void toEpochDays(int[] packedDates, long[] epochDays) {
+        toEpochDays(packedDates, 0, epochDays, 0, packedDates.length);
+    }
+
+    /**
+     * Convert a range of packed Republican dates into epoch days (number of days since 1970-01-01).
+     *
+     * @param packedDates the packed dates.
+     * @param srcPos      the index of the first packed date to convert.
+     * @param epochDays   the array receiving the epoch days.
+     * @param destPos     the index of the first epoch day to write.
+     * @param length      the number of values to convert.
+     * @throws RepublicanCalendarException if a packed date is invalid.
+     * @see BulkConverter#toEpochDays(int[], int, long[], int, int)
+     */
+    public void toEpochDays(int[] packedDates, int srcPos, long[] epochDays, int destPos, int length) {
+        BulkConverter.checkRange(packedDates.length, srcPos, epochDays.length, destPos, length);
+        run(length, (from, count) -> BulkConverter.toEpochDays(packedDates, srcPos + from, epochDays, destPos + from, count));
+    }
+
+    /**
+     * Convert timestamps into packed Republican dates and times, at the given offset.
+     *
+     * @param epochSeconds    the epoch seconds.
+     * @param nanos           the nanoseconds of the second, same length as the epoch seconds.
+     * @param offset          the zone offset of the Republican dates and times.
+     * @param packedDateTimes the array receiving the packed dates and times, at least as long as the epoch seconds.
+     * @throws RepublicanCalendarException if a nano is invalid or a timestamp is before the first day of the
+     *                                     Republican calendar.
+     * @see BulkConverter#toPackedDateTimes(long[], int[], ZoneOffset, long[])
+     */
+    public void toPackedDateTimes(long[] epochSeconds, int[] nanos, ZoneOffset offset, long[] packedDateTimes) {
+        toPackedDateTimes(epochSeconds, nanos, 0, offset, packedDateTimes, 0, epochSeconds.length);
+    }
+
+    /**
+     * Convert a range of timestamps into packed Republican dates and times, at the given offset.
+     *
+     * @param epochSeconds    the epoch seconds.
+     * @param nanos           the nanoseconds of the second.
+     * @param srcPos          the index of the first timestamp to convert.
+     * @param offset          the zone offset of the Republican dates and times.
+     * @param packedDateTimes the array receiving the packed dates and times.
+     * @param destPos         the index of the first packed date and time to write.
+     * @param length          the number of values to convert.
+     * @throws RepublicanCalendarException if a nano is invalid or a timestamp is before the first day of the
+     *                                     Republican calendar.
+     * @see BulkConverter#toPackedDateTimes(long[], int[], int, ZoneOffset, long[], int, int)
+     */
+    public void toPackedDateTimes(long[] epochSeconds, int[] nanos, int srcPos, ZoneOffset offset,
+                                  long[] packedDateTimes, int destPos, int length) {
+        BulkConverter.checkRange(Math.min(epochSeconds.length, nanos.length), srcPos, packedDateTimes.length, destPos, length);
+        run(length, (from, count) -> BulkConverter.toPackedDateTimes(epochSeconds, nanos, srcPos + from, offset,
+                packedDateTimes, destPos + from, count));
+    }
+
+    /**
+     * Convert packed Republican dates and times into timestamps, at the given offset.
+     *
+     * @param packedDateTimes the packed dates and times.
+     * @param offset          the zone offset of the Republican dates and times.
+     * @param epochSeconds    the array receiving the epoch seconds, at least as long as the packed dates and times.
+     * @param nanos           the array receiving the nanoseconds of the second, at least as long as the packed dates and times.
+     * @throws RepublicanCalendarException if a packed date and time is invalid.
+     * @see BulkConverter#toEpochSeconds(long[], ZoneOffset, long[], int[])
+     */
+    public void toEpochSeconds(long[] packedDateTimes, ZoneOffset offset, long[] epochSeconds, int[] nanos) {
+        toEpochSeconds(packedDateTimes, 0, offset, epochSeconds, nanos, 0, packedDateTimes.length);
+    }
+
+    /**
+     * Convert a range of packed Republican dates and times into timestamps, at the given offset.
+     *
+     * @param packedDateTimes the packed dates and times.
+     * @param srcPos          the index of the first packed date and time to convert.
+     * @param offset          the zone offset of the Republican dates and times.
+     * @param epochSeconds    the array receiving the epoch seconds.
+     * @param nanos           the array receiving the nanoseconds of the second.
+     * @param destPos         the index of the first timestamp to write.
+     * @param length          the number of values to convert.
+     * @throws RepublicanCalendarException if a packed date and time is invalid.
+     * @see BulkConverter#toEpochSeconds(long[], int, ZoneOffset, long[], int[], int, int)
+     */
+    public void toEpochSeconds(long[] packedDateTimes, int srcPos, ZoneOffset offset,
+                               long[] epochSeconds, int[] nanos, int destPos, int length) {
+        BulkConverter.checkRange(packedDateTimes.length, srcPos, Math.min(epochSeconds.length, nanos.length), destPos, length);
+        run(length, (from, count) -> BulkConverter.toEpochSeconds(packedDateTimes, srcPos + from, offset,
+                epochSeconds, nanos, destPos + from, count));
+    }
+
+    /**
+     * Run a conversion over a (validated) range of values, sequentially or split into tasks.
+     */
+    private void run(int length, Chunk chunk) {
+        ForkJoinPool p = pool != null ? pool : ForkJoinPool.commonPool();
+        if (length <= threshold || p.getParallelism() <= 1) {
+            chunk.convert(0, length);
+        } else {
+            p.invoke(new ChunkTask(chunk, 0, length, threshold));
+        }
+    }
+
+    /**
+     * The conversion of a chunk of values (sequential conversion of the sub-range).
+     */
+    @FunctionalInterface
+    private interface Chunk {
+        void convert(int from, int count);
+    }
+
+    /**
+     * Task converting a range of values, split in halves until the threshold is reached.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Chunk chunk;
+        private final int from;
+        private final int count;
+        private final int threshold;
+
+        ChunkTask(Chunk chunk, int from, int count, int threshold) {
+            this.chunk = chunk;
+            this.from = from;
+            this.count = count;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (count <= threshold) {
+                chunk.convert(from, count);
+                return;
+            }
+            int half = count >>> 1;
+            invokeAll(new ChunkTask(chunk, from, half, threshold), new ChunkTask(chunk, from + half, count - half, threshold));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.jarnaud.republican;
+
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+
+/**
+ * The units of the decimal time, to add to or measure between Republican times ({@link RTime}) and dates and times
+ * ({@link RDateTime}).
+ * <p>
+ * A decimal day has 10 hours of 100 minutes of 100 seconds. The durations are given in normal time (eg. a decimal
+ * second lasts 0.864 second).
+ */
+public enum RChronoUnit implements TemporalUnit {
+
+    /**
+     * Decimal nanosecond (0.864 nanosecond, so its duration is estimated).
+     */
+    NANOS("DecimalNanos", 1),
+
+    /**
+     * Decimal microsecond (864 nanoseconds).
+     */
+    MICROS("DecimalMicros", 1_000),
+
+    /**
+     * Decimal millisecond (864 microseconds).
+     */
+    MILLIS("DecimalMillis", 1_000_000),
+
+    /**
+     * Decimal second (864 milliseconds).
+     */
+    SECONDS("DecimalSeconds", RTime.NANOS_PER_SECOND),
+
+    /**
+     * Decimal minute (100 decimal seconds, 86.4 seconds).
+     */
+    MINUTES("DecimalMinutes", RTime.NANOS_PER_MINUTE),
+
+    /**
+     * Decimal hour (100 decimal minutes, 2.4 hours).
+     */
+    HOURS("DecimalHours", RTime.NANOS_PER_HOUR);
+
+    private final String name;
+    private final long nanos;
+
+    RChronoUnit(String name, long nanos) {
+        this.name = name;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Return the number of decimal nanoseconds of this unit.
+     *
+     * @return the number of decimal nanoseconds.
+     */
+    long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Return the number of units in a day.
+     *
+     * @return the number of units per day.
+     */
+    long perDay() {
+        return RTime.NANOS_PER_DAY / nanos;
+    }
+
+    @Override
+    public Duration getDuration() {
+        return Duration.ofNanos(RTime.toGregorianNanoOfDay(nanos));
+    }
+
+    @Override
+    public boolean isDurationEstimated() {
+        return this == NANOS;
+    }
+
+    @Override
+    public boolean isDateBased() {
+        return false;
+    }
+
+    @Override
+    public boolean isTimeBased() {
+        return true;
+    }
+
+    @Override
+    public boolean isSupportedBy(Temporal temporal) {
+        return temporal instanceof RTime || temporal instanceof RDateTime;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R extends Temporal> R addTo(R temporal, long amount) {
+        return (R) temporal.plus(amount, this);
+    }
+
+    @Override
+    public long between(Temporal temporal1Inclusive, Temporal temporal2Exclusive) {
+        return temporal1Inclusive.until(temporal2Exclusive, this);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -2,15 +2,25 @@ package com.github.jarnaud.republican;
 
 import com.github.jarnaud.republican.exception.RepublicanCalendarException;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Year;
+import java.time.ZoneId;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoPeriod;
 import java.time.temporal.*;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A Republican local date.
+ * <p>
+ * This is a {@link ChronoLocalDate} of the {@link RepublicanChronology}, so it can be used with the java.time API
+ * (eg. formatting, adjusters, conversion from another calendar system through the epoch day).
  */
-public final class RDate implements Comparable<RDate>, TemporalAccessor {
+public final class RDate implements ChronoLocalDate {
 
     /**
      * The first day in the Republican calendar (corresponding Republican day would be An 1 Vendemiaire 1).
@@ -19,15 +29,25 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
     public static final LocalDate FIRST_DAY = LocalDate.of(1792, 9, 22);
 
     /**
-     * The first valid Republican date.
+     * The epoch day of the first day in the Republican calendar (FIRST_DAY.toEpochDay()).
      */
-    public static final RDate MIN = of(FIRST_DAY);
+    public static final long FIRST_EPOCH_DAY = -64_748L;
 
     static final int DAYS_PER_MONTH = 30;
 
+    /**
+     * Converters are stateless and shared by all dates.
+     */
+    private static final GRConverter GR_CONVERTER = new GRConverter();
+    private static final RGConverter RG_CONVERTER = new RGConverter();
+
+    /**
+     * The first valid Republican date.
+     */
+    public static final RDate MIN = of(FIRST_DAY);
+
     private final int year;
     private final RMonth month;
-    private final int decade;
     private final int day;
 
     /**
@@ -60,6 +80,19 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
      * @return the Republican date.
      */
     public static RDate of(int year, int month, int day) {
+        checkDate(year, month, day);
+        return RDateCache.INSTANCE.get(year, RMonth.of(month), day);
+    }
+
+    /**
+     * Check the fields of a Republican date (see {@link #of(int, int, int)}).
+     *
+     * @param year  the Republican year.
+     * @param month the Republican month number.
+     * @param day   the Republican day in the month.
+     * @throws RepublicanCalendarException if the date is invalid.
+     */
+    static void checkDate(int year, int month, int day) {
         if (year < 1) {
             throw new RepublicanCalendarException("Invalid year (must be 0 or above)");
         }
@@ -77,7 +110,6 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
                 throw new RepublicanCalendarException("Invalid special day (must be between 1 and 5 on normal years)");
             }
         }
-        return new RDate(year, RMonth.values()[month - 1], day);
     }
 
     /**
@@ -88,22 +120,92 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
      * @return the Republican date.
      */
     public static RDate of(LocalDate date) {
-        return new GRConverter().convert(date);
+        return GR_CONVERTER.convert(date);
     }
 
-    private RDate(int year, RMonth month, int day) {
+    /**
+     * Obtains the current Republican date from the system clock in the default zone.
+     *
+     * @return the current date.
+     */
+    public static RDate now() {
+        return now(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Obtains the current Republican date from the system clock in a given zone.
+     *
+     * @param zone the zone.
+     * @return the current date in the zone.
+     */
+    public static RDate now(ZoneId zone) {
+        return now(Clock.system(zone));
+    }
+
+    /**
+     * Obtains the current Republican date from a clock.
+     * Use a {@link RepublicanClock} for frequent calls.
+     *
+     * @param clock the clock.
+     * @return the current date.
+     */
+    public static RDate now(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        Instant now = clock.instant();
+        long localSecond = now.getEpochSecond() + RTime.offsetOf(clock.getZone(), now).getTotalSeconds();
+        return ofEpochDay(Math.floorDiv(localSecond, RTime.SECONDS_PER_GREGORIAN_DAY));
+    }
+
+    /**
+     * Construct a new Republican date from a year and a day of the year.
+     *
+     * @param year      the Republican year.
+     * @param dayOfYear the day of the year, between 1 and 365 (or 366 on sextile years).
+     * @return the Republican date.
+     */
+    public static RDate ofYearDay(int year, int dayOfYear) {
+        if (dayOfYear < 1 || dayOfYear > (isSextileYear(year) ? 366 : 365)) {
+            throw new RepublicanCalendarException("Invalid day of year (must be between 1 and 365, or 366 on sextile years)");
+        }
+        return of(year, 1 + (dayOfYear - 1) / DAYS_PER_MONTH, 1 + (dayOfYear - 1) % DAYS_PER_MONTH);
+    }
+
+    /**
+     * Obtains a Republican date from a temporal object (eg. a {@link LocalDate} or any other {@link ChronoLocalDate}).
+     * The conversion uses the epoch day, which must be supported by the temporal object.
+     *
+     * @param temporal the temporal object.
+     * @return the Republican date.
+     */
+    public static RDate from(TemporalAccessor temporal) {
+        return RepublicanChronology.INSTANCE.date(temporal);
+    }
+
+    /**
+     * Construct a new Republican date from an epoch day (number of days since 1970-01-01).
+     * Throws a RuntimeException if the given day is invalid (ie. before first day of Republican calendar).
+     *
+     * @param epochDay the epoch day.
+     * @return the Republican date.
+     */
+    public static RDate ofEpochDay(long epochDay) {
+        return GR_CONVERTER.convert(epochDay);
+    }
+
+    /**
+     * Constructor with previously validated input.
+     * Use {@link #of(int, RMonth, int)} to get the cached instance when available.
+     *
+     * @param year  the Republican year.
+     * @param month the Republican month.
+     * @param day   the day of month.
+     */
+    RDate(int year, RMonth month, int day) {
         this.year = year;
         this.month = month;
-        this.decade = processDecade(day);
         this.day = day;
     }
 
-    private int processDecade(int day) {
-        if (day < 11) return 1;
-        if (day < 21) return 2;
-        return 3;
-    }
-
     /**
      * Return the Republican year for this date.
      *
@@ -131,7 +233,39 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
      * @return the decade (1, 2 or 3).
      */
     public int getDecade() {
-        return decade;
+        return 1 + (day - 1) / 10;
+    }
+
+    /**
+     * Return the day of the decade of this date.
+     * The special days (Sanculottide) are counted as a decade of their own.
+     *
+     * @return the day of the decade, between 1 and 10 (between 1 and 6 for special days).
+     */
+    public int getDayOfDecade() {
+        return 1 + (day - 1) % 10;
+    }
+
+    /**
+     * If this is not a special day, return the day of the decade (Primidi to Decadi). Otherwise return null.
+     *
+     * @return the day of the decade, or null.
+     */
+    public RDayOfDecade getDecadeDay() {
+        if (isSpecialDay()) {
+            return null;
+        }
+        return RDayOfDecade.of(getDayOfDecade());
+    }
+
+    /**
+     * Return the decade of the year of this date.
+     * The special days (Sanculottide) are counted as the last decade of the year.
+     *
+     * @return the decade of the year, between 1 and 37.
+     */
+    public int getDecadeOfYear() {
+        return 1 + (getDayOfYear() - 1) / 10;
     }
 
     /**
@@ -143,16 +277,57 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
         return day;
     }
 
+    /**
+     * Return the day of the year of this date.
+     *
+     * @return the day of the year, between 1 and 366.
+     */
+    public int getDayOfYear() {
+        return DAYS_PER_MONTH * (month.getMonth() - 1) + day;
+    }
+
+    @Override
+    public RepublicanChronology getChronology() {
+        return RepublicanChronology.INSTANCE;
+    }
+
+    @Override
+    public REra getEra() {
+        return REra.REPUBLICAN;
+    }
+
+    /**
+     * Return the length of the month of this date.
+     *
+     * @return 30 for normal months, 5 or 6 for Sanculottide.
+     */
+    @Override
+    public int lengthOfMonth() {
+        return lengthOfMonth(year, month.getMonth());
+    }
+
     @Override
     public String toString() {
-        return String.format("An %d %s %d", year, month.getName(), day);
+        return RFormatter.DATE.format(this);
     }
 
+    /**
+     * Compare this date to another date.
+     * Dates of other calendar systems are compared on the time-line (epoch day), then by chronology.
+     *
+     * @param other the other date.
+     * @return the comparator value, negative if less, positive if greater.
+     */
     @Override
-    public int compareTo(RDate date) {
-        if (date == null) {
+    public int compareTo(ChronoLocalDate other) {
+        if (other == null) {
             return -1;
         }
+        if (!(other instanceof RDate)) {
+            int cmp = Long.compare(toEpochDay(), other.toEpochDay());
+            return cmp != 0 ? cmp : getChronology().compareTo(other.getChronology());
+        }
+        RDate date = (RDate) other;
         if (this.year != date.year) {
             return this.year - date.year;
         }
@@ -171,14 +346,14 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
         if (o == null || getClass() != o.getClass()) return false;
         RDate that = (RDate) o;
         return year == that.year &&
-                decade == that.decade &&
                 day == that.day &&
                 month == that.month;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(year, month, decade, day);
+        // Same layout as the packed date (unique for years up to RPacked.MAX_YEAR).
+        return year << 9 | month.getMonth() << 5 | day;
     }
 
     /**
@@ -187,9 +362,10 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
      * @return the local date.
      */
     public LocalDate toLocalDate() {
-        return new RGConverter().convert(this);
+        return RG_CONVERTER.convert(this);
     }
 
+
     /**
      * Return true if the given date is strictly before this date.
      *
@@ -212,16 +388,14 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
     }
 
     /**
-     * Indicates if a Republican year is sextile nor not.
+     * Indicates if a Republican year is sextile nor not, according to the leap rule of the library
+     * (see {@link RLeapRule#getDefault()}).
      *
      * @param year the Republican year.
      * @return true if the year is sextile, false otherwise.
      */
     public static boolean isSextileYear(int year) {
-        if (year == 3 || year == 7 || year == 11 || year == 15) {
-            return true;
-        }
-        return year >= 20 && year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+        return YearStartTable.INSTANCE.isSextile(year);
     }
 
     /**
@@ -248,34 +422,189 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
     /**
      * Return a copy of this date shifted by the given number of days.
      * Cannot go back before the first day of the Republican calendar (1792-09-22).
-     * <p>
-     * Uses converters to go through LocalDate implementation of plusDays.
      *
      * @param daysToAdd the number of days to add.
      * @return the new date.
      */
-    public RDate plusDays(int daysToAdd) {
-        LocalDate gregorianDate = new RGConverter().convert(this);
-        gregorianDate = gregorianDate.plusDays(daysToAdd);
-        if (gregorianDate.isBefore(FIRST_DAY)) {
-            throw new RepublicanCalendarException("Date " + gregorianDate + " is undefined in the Republican calendar.");
+    public RDate plusDays(long daysToAdd) {
+        if (daysToAdd == 0) {
+            return this;
         }
-        return new GRConverter().convert(gregorianDate);
+        return ofEpochDay(Math.addExact(toEpochDay(), daysToAdd));
     }
 
-    // Temporal accessor implementation.
+    /**
+     * Return a copy of this date shifted back by the given number of days.
+     * Cannot go back before the first day of the Republican calendar (1792-09-22).
+     *
+     * @param daysToSubtract the number of days to subtract.
+     * @return the new date.
+     */
+    public RDate minusDays(long daysToSubtract) {
+        if (daysToSubtract == 0) {
+            return this;
+        }
+        return ofEpochDay(Math.subtractExact(toEpochDay(), daysToSubtract));
+    }
+
+    /**
+     * Return a copy of this date shifted by the given number of decades.
+     * A decade being a 10 days period, this is the same as adding 10 days per decade
+     * (Sanculottide days are counted as normal days).
+     *
+     * @param decadesToAdd the number of decades to add.
+     * @return the new date.
+     */
+    public RDate plusDecades(long decadesToAdd) {
+        if (decadesToAdd == 0) {
+            return this;
+        }
+        return plusDays(Math.multiplyExact(decadesToAdd, 10L));
+    }
+
+    /**
+     * Return a copy of this date shifted by the given number of months.
+     * Sanculottide is counted as the 13th month of the year.
+     * The day of month is kept, unless it is not valid for the new month (eg. 30 Fructidor + 1 month),
+     * in which case the last valid day of the month is used (eg. Sanculottide 5 or 6).
+     *
+     * @param monthsToAdd the number of months to add.
+     * @return the new date.
+     */
+    public RDate plusMonths(long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return this;
+        }
+        long months = Math.addExact(getProlepticMonth(), monthsToAdd);
+        return ofClamped(Math.floorDiv(months, 13L), (int) Math.floorMod(months, 13L) + 1, day);
+    }
+
+    /**
+     * Return a copy of this date shifted by the given number of years.
+     * The month and day are kept, except for Sanculottide 6 which becomes Sanculottide 5 on normal years.
+     *
+     * @param yearsToAdd the number of years to add.
+     * @return the new date.
+     */
+    public RDate plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        return ofClamped(Math.addExact(year, yearsToAdd), month.getMonth(), day);
+    }
+
+    /**
+     * Return a sequential ordered stream of the dates from this date (inclusive) to the end date (exclusive),
+     * by increments of 1 day.
+     * <p>
+     * The dates are computed incrementally (without converting each date from the Gregorian calendar), and the stream
+     * splits evenly when made parallel.
+     *
+     * @param endExclusive the end date (exclusive).
+     * @return the stream of dates.
+     * @throws RepublicanCalendarException if the end date is before this date.
+     */
+    public Stream<RDate> datesUntil(RDate endExclusive) {
+        return datesUntil(endExclusive, 1);
+    }
+
+    /**
+     * Return a sequential ordered stream of the dates from this date (inclusive) to the end date (exclusive),
+     * by increments of the given number of days.
+     *
+     * @param endExclusive the end date (exclusive).
+     * @param stepDays     the number of days between two dates, positive (eg. 10 for the first day of each decade).
+     * @return the stream of dates.
+     * @throws RepublicanCalendarException if the end date is before this date, or the step is not positive.
+     * @see #datesUntil(RDate)
+     */
+    public Stream<RDate> datesUntil(RDate endExclusive, long stepDays) {
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        if (stepDays <= 0) {
+            throw new RepublicanCalendarException("Invalid step (must be positive)");
+        }
+        long days = endExclusive.toEpochDay() - toEpochDay();
+        if (days < 0) {
+            throw new RepublicanCalendarException("End date is before the start date");
+        }
+        long count = days / stepDays + (days % stepDays == 0 ? 0 : 1);
+        return StreamSupport.stream(new RDateSpliterator(this, count, stepDays), false);
+    }
+
+    /**
+     * Construct a new Republican date, using the last day of the month if the day is too large for this month.
+     *
+     * @param year  the Republican year.
+     * @param month the Republican month number.
+     * @param day   the Republican day in the month.
+     * @return the Republican date.
+     */
+    private static RDate ofClamped(long year, int month, int day) {
+        if (year < 1 || year > Integer.MAX_VALUE) {
+            throw new RepublicanCalendarException("Date is out of the supported Republican years.");
+        }
+        return of((int) year, month, Math.min(day, lengthOfMonth((int) year, month)));
+    }
+
+    /**
+     * Return the number of days of a Republican month.
+     *
+     * @param year  the Republican year.
+     * @param month the Republican month number.
+     * @return 30 for normal months, 5 or 6 for Sanculottide.
+     */
+    static int lengthOfMonth(int year, int month) {
+        if (month != RMonth.Sanculottide.getMonth()) {
+            return DAYS_PER_MONTH;
+        }
+        return isSextileYear(year) ? 6 : 5;
+    }
+
+    /**
+     * Return the number of months since year 0 (13 months per year).
+     *
+     * @return the proleptic month.
+     */
+    private long getProlepticMonth() {
+        return year * 13L + (month.getMonth() - 1);
+    }
+
+    // Temporal implementation.
 
     @Override
     public boolean isSupported(TemporalField field) {
         if (field instanceof ChronoField) {
             switch ((ChronoField) field) {
                 case DAY_OF_MONTH:
+                case DAY_OF_YEAR:
+                case EPOCH_DAY:
                 case MONTH_OF_YEAR:
+                case PROLEPTIC_MONTH:
+                case YEAR_OF_ERA:
                 case YEAR:
+                case ERA:
+                    return true;
+            }
+            return false;
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    @Override
+    public boolean isSupported(TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                case MONTHS:
+                case YEARS:
+                case DECADES:
+                case CENTURIES:
+                case MILLENNIA:
                     return true;
             }
+            return false;
         }
-        return false;
+        return unit != null && unit.isSupportedBy(this);
     }
 
     @Override
@@ -284,13 +613,15 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
             if (isSupported(field)) {
                 switch ((ChronoField) field) {
                     case DAY_OF_MONTH:
-                        return ValueRange.of(1, 30);
-                    case MONTH_OF_YEAR:
-                        return ValueRange.of(1, 13);
-                    case YEAR:
-                        return ValueRange.of(1, Year.MAX_VALUE);
+                        return ValueRange.of(1, lengthOfMonth());
+                    case DAY_OF_YEAR:
+                        return ValueRange.of(1, lengthOfYear());
+                    default:
+                        return getChronology().range((ChronoField) field);
                 }
             }
+        } else if (isSupported(field)) {
+            return field.rangeRefinedBy(this);
         }
         throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
     }
@@ -301,13 +632,150 @@ public final class RDate implements Comparable<RDate>, TemporalAccessor {
             switch ((ChronoField) field) {
                 case DAY_OF_MONTH:
                     return getDay();
+                case DAY_OF_YEAR:
+                    return getDayOfYear();
+                case EPOCH_DAY:
+                    return toEpochDay();
                 case MONTH_OF_YEAR:
                     return getMonth().ordinal() + 1;
+                case PROLEPTIC_MONTH:
+                    return getProlepticMonth();
+                case YEAR_OF_ERA:
                 case YEAR:
                     return getYear();
+                case ERA:
+                    return getEra().getValue();
             }
+        } else if (isSupported(field)) {
+            return field.getFrom(this);
         }
         throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
     }
 
+    @Override
+    public RDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            range(field).checkValidValue(newValue, field);
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH:
+                    return of(year, month, (int) newValue);
+                case DAY_OF_YEAR:
+                    return ofYearDay(year, (int) newValue);
+                case EPOCH_DAY:
+                    return ofEpochDay(newValue);
+                case MONTH_OF_YEAR:
+                    return ofClamped(year, (int) newValue, day);
+                case PROLEPTIC_MONTH:
+                    return plusMonths(newValue - getProlepticMonth());
+                case YEAR_OF_ERA:
+                case YEAR:
+                    return ofClamped(newValue, month.getMonth(), day);
+                case ERA:
+                    return this;
+            }
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    @Override
+    public RDate with(TemporalAdjuster adjuster) {
+        return (RDate) adjuster.adjustInto(this);
+    }
+
+    @Override
+    public RDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return plusDays(amountToAdd);
+                case MONTHS:
+                    return plusMonths(amountToAdd);
+                case YEARS:
+                    return plusYears(amountToAdd);
+                case DECADES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 10L));
+                case CENTURIES:
+                    return plusYears(Math.multiplyExact(amountToAdd, 100L));
+                case MILLENNIA:
+                    return plusYears(Math.multiplyExact(amountToAdd, 1000L));
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    @Override
+    public RDate plus(TemporalAmount amount) {
+        return (RDate) amount.addTo(this);
+    }
+
+    @Override
+    public RDate minus(long amountToSubtract, TemporalUnit unit) {
+        if (amountToSubtract == Long.MIN_VALUE) {
+            return plus(Long.MAX_VALUE, unit).plus(1, unit);
+        }
+        return plus(-amountToSubtract, unit);
+    }
+
+    @Override
+    public RDate minus(TemporalAmount amount) {
+        return (RDate) amount.subtractFrom(this);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        RDate end = from(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return end.toEpochDay() - toEpochDay();
+                case MONTHS:
+                    return monthsUntil(end);
+                case YEARS:
+                    return monthsUntil(end) / 13;
+                case DECADES:
+                    return monthsUntil(end) / 130;
+                case CENTURIES:
+                    return monthsUntil(end) / 1300;
+                case MILLENNIA:
+                    return monthsUntil(end) / 13000;
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+        RDate end = from(endDateExclusive);
+        long totalMonths = end.getProlepticMonth() - getProlepticMonth();
+        int days = end.day - day;
+        if ((totalMonths > 0 && days < 0) || (totalMonths < 0 && days > 0)) {
+            totalMonths -= Long.signum(totalMonths);
+            days = (int) (end.toEpochDay() - plusMonths(totalMonths).toEpochDay());
+        }
+        return getChronology().period(Math.toIntExact(totalMonths / 13), (int) (totalMonths % 13), days);
+    }
+
+    /**
+     * Return the number of complete months between this date and another date.
+     *
+     * @param end the end date (exclusive).
+     * @return the number of months.
+     */
+    private long monthsUntil(RDate end) {
+        long packed1 = getProlepticMonth() * 32L + day;
+        long packed2 = end.getProlepticMonth() * 32L + end.day;
+        return (packed2 - packed1) / 32;
+    }
+
+    /**
+     * Convert this Republican date into an epoch day (number of days since 1970-01-01).
+     *
+     * @return the epoch day.
+     */
+    @Override
+    public long toEpochDay() {
+        return RG_CONVERTER.toEpochDay(this);
+    }
 }
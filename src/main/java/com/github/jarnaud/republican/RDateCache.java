@@ -0,0 +1,85 @@
+package com.github.jarnaud.republican;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache of canonical Republican dates for the commonly used years, so that identical dates share the same instance.
+ * <p>
+ * The cache covers the years from An I to the year given by the system property {@value #MAX_YEAR_PROPERTY}
+ * (default {@value #DEFAULT_MAX_YEAR}, 0 to disable the cache, at most {@value #MAX_CACHED_YEAR}). The dates of a year are created on the first access
+ * to this year, and published atomically so that readers never lock.
+ */
+class RDateCache {
+
+    static final String MAX_YEAR_PROPERTY = "republican.rdate.cache.maxYear";
+    static final int DEFAULT_MAX_YEAR = 400;
+
+    /**
+     * Upper bound of the cached years, as the array of the years is allocated with the cache.
+     */
+    static final int MAX_CACHED_YEAR = 100_000;
+
+    private static final int DAYS_PER_YEAR = 366;
+
+    /**
+     * The cache used by RDate.
+     */
+    static final RDateCache INSTANCE = new RDateCache(Integer.getInteger(MAX_YEAR_PROPERTY, DEFAULT_MAX_YEAR));
+
+    private final int maxYear;
+
+    /**
+     * For each year (used as index), all the dates of the year, indexed by day of the year.
+     */
+    private final AtomicReferenceArray<RDate[]> years;
+
+    /**
+     * Constructor.
+     *
+     * @param maxYear the last cached year (0 to disable the cache), capped to {@link #MAX_CACHED_YEAR}.
+     */
+    RDateCache(int maxYear) {
+        this.maxYear = Math.max(0, Math.min(maxYear, MAX_CACHED_YEAR));
+        this.years = new AtomicReferenceArray<>(this.maxYear + 1);
+    }
+
+    /**
+     * Return the last cached year.
+     *
+     * @return the last cached year (0 if the cache is disabled).
+     */
+    int getMaxYear() {
+        return maxYear;
+    }
+
+    /**
+     * Return the canonical instance of a (valid) Republican date.
+     *
+     * @param year  the Republican year.
+     * @param month the Republican month.
+     * @param day   the day of month.
+     * @return the cached date, or a new date if the year is not cached.
+     */
+    RDate get(int year, RMonth month, int day) {
+        if (year > maxYear) {
+            return new RDate(year, month, day);
+        }
+        RDate[] dates = years.get(year);
+        if (dates == null) {
+            dates = createYear(year);
+        }
+        return dates[RDate.DAYS_PER_MONTH * (month.getMonth() - 1) + day - 1];
+    }
+
+    private RDate[] createYear(int year) {
+        RDate[] dates = new RDate[DAYS_PER_YEAR];
+        for (int i = 0; i < DAYS_PER_YEAR; i++) {
+            dates[i] = new RDate(year, RMonth.of(1 + i / RDate.DAYS_PER_MONTH), 1 + i % RDate.DAYS_PER_MONTH);
+        }
+        // If another thread created the year meanwhile, use its dates to keep instances unique.
+        if (!years.compareAndSet(year, null, dates)) {
+            return years.get(year);
+        }
+        return dates;
+    }
+}
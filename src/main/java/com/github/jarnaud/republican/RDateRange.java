@@ -0,0 +1,313 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * An immutable range of Republican dates, from a start date (inclusive) to an end date (exclusive).
+ * <p>
+ * The range is stored as two epoch days (number of days since 1970-01-01), so that membership, overlap and
+ * intersection are a few comparisons of primitive values. To filter many values, prefer
+ * {@link #contains(long)} with the epoch days of the values.
+ * <p>
+ * A range can be split into decades (10 days periods), months and years. Sanculottide (the 5 or 6 complementary
+ * days ending each year) is a decade and a month of its own.
+ */
+public final class RDateRange {
+
+    private static final int DAYS_PER_DECADE = 10;
+
+    private final long startEpochDay;
+    private final long endEpochDay;
+
+    /**
+     * Obtains a range from a start date (inclusive) to an end date (exclusive).
+     *
+     * @param start        the start date (inclusive).
+     * @param endExclusive the end date (exclusive).
+     * @return the range.
+     * @throws RepublicanCalendarException if the end date is before the start date.
+     */
+    public static RDateRange of(RDate start, RDate endExclusive) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        return ofEpochDays(start.toEpochDay(), endExclusive.toEpochDay());
+    }
+
+    /**
+     * Obtains a range from a start date to an end date, both inclusive.
+     *
+     * @param start        the start date (inclusive).
+     * @param endInclusive the end date (inclusive).
+     * @return the range.
+     * @throws RepublicanCalendarException if the end date is before the start date.
+     */
+    public static RDateRange ofClosed(RDate start, RDate endInclusive) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(endInclusive, "endInclusive");
+        return ofEpochDays(start.toEpochDay(), endInclusive.toEpochDay() + 1);
+    }
+
+    /**
+     * Obtains a range from a start epoch day (inclusive) to an end epoch day (exclusive).
+     *
+     * @param startEpochDay the start epoch day (inclusive).
+     * @param endEpochDay   the end epoch day (exclusive).
+     * @return the range.
+     * @throws RepublicanCalendarException if the start is before the first day of the Republican calendar, the end
+     *                                     is out of the supported Republican years, or the end is before the start.
+     */
+    public static RDateRange ofEpochDays(long startEpochDay, long endEpochDay) {
+        if (startEpochDay < RDate.FIRST_EPOCH_DAY) {
+            throw new RepublicanCalendarException("Date is undefined in the Republican calendar (before 1792-09-22).");
+        }
+        if (endEpochDay > GRConverter.MAX_EPOCH_DAY) {
+            throw new RepublicanCalendarException("End date is out of the supported Republican years.");
+        }
+        if (endEpochDay < startEpochDay) {
+            throw new RepublicanCalendarException("End date is before the start date");
+        }
+        return new RDateRange(startEpochDay, endEpochDay);
+    }
+
+    /**
+     * Obtains the range of a Republican year.
+     *
+     * @param year the Republican year.
+     * @return the range of the year, Sanculottide included.
+     * @throws RepublicanCalendarException if the year is invalid, or its end is out of the supported Republican years.
+     */
+    public static RDateRange ofYear(int year) {
+        RDate first = RDate.of(year, RMonth.Vendemiaire, 1);
+        long start = first.toEpochDay();
+        return ofEpochDays(start, start + first.lengthOfYear());
+    }
+
+    /**
+     * Obtains the range of a Republican month.
+     *
+     * @param year  the Republican year.
+     * @param month the Republican month (Sanculottide being the 5 or 6 last days of the year).
+     * @return the range of the month.
+     * @throws RepublicanCalendarException if the date is invalid, or the end of the month is out of the supported
+     *                                     Republican years.
+     */
+    public static RDateRange ofMonth(int year, RMonth month) {
+        RDate first = RDate.of(year, month, 1);
+        long start = first.toEpochDay();
+        return ofEpochDays(start, start + first.lengthOfMonth());
+    }
+
+    private RDateRange(long startEpochDay, long endEpochDay) {
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = endEpochDay;
+    }
+
+    /**
+     * Return the first date of this range.
+     *
+     * @return the start date (inclusive).
+     */
+    public RDate getStart() {
+        return RDate.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Return the date following the last date of this range.
+     *
+     * @return the end date (exclusive).
+     */
+    public RDate getEndExclusive() {
+        return RDate.ofEpochDay(endEpochDay);
+    }
+
+    /**
+     * Return the epoch day of the first date of this range.
+     *
+     * @return the start epoch day (inclusive).
+     */
+    public long getStartEpochDay() {
+        return startEpochDay;
+    }
+
+    /**
+     * Return the epoch day following the last date of this range.
+     *
+     * @return the end epoch day (exclusive).
+     */
+    public long getEndEpochDay() {
+        return endEpochDay;
+    }
+
+    /**
+     * Return the number of days of this range.
+     *
+     * @return the number of days.
+     */
+    public long lengthInDays() {
+        return endEpochDay - startEpochDay;
+    }
+
+    /**
+     * Indicates if this range contains no date.
+     *
+     * @return true if the range is empty.
+     */
+    public boolean isEmpty() {
+        return startEpochDay == endEpochDay;
+    }
+
+    /**
+     * Indicates if this range contains a date.
+     *
+     * @param date the date.
+     * @return true if the date is in this range.
+     */
+    public boolean contains(RDate date) {
+        return contains(date.toEpochDay());
+    }
+
+    /**
+     * Indicates if this range contains a date, given as an epoch day.
+     *
+     * @param epochDay the epoch day of the date.
+     * @return true if the date is in this range.
+     */
+    public boolean contains(long epochDay) {
+        return epochDay >= startEpochDay && epochDay < endEpochDay;
+    }
+
+    /**
+     * Indicates if this range contains all the dates of another range.
+     *
+     * @param other the other range.
+     * @return true if the other range is in this range.
+     */
+    public boolean encloses(RDateRange other) {
+        return other.startEpochDay >= startEpochDay && other.endEpochDay <= endEpochDay;
+    }
+
+    /**
+     * Indicates if this range and another range have at least one date in common.
+     *
+     * @param other the other range.
+     * @return true if the ranges overlap.
+     */
+    public boolean overlaps(RDateRange other) {
+        return Math.max(startEpochDay, other.startEpochDay) < Math.min(endEpochDay, other.endEpochDay);
+    }
+
+    /**
+     * Return the range of the dates in common between this range and another range.
+     *
+     * @param other the other range.
+     * @return the intersection, empty (and starting at the latest start) if the ranges do not overlap.
+     */
+    public RDateRange intersection(RDateRange other) {
+        long start = Math.max(startEpochDay, other.startEpochDay);
+        long end = Math.max(start, Math.min(endEpochDay, other.endEpochDay));
+        if (start == startEpochDay && end == endEpochDay) {
+            return this;
+        }
+        return new RDateRange(start, end);
+    }
+
+    /**
+     * Return a stream of the dates of this range.
+     *
+     * @return the stream of dates.
+     * @see RDate#datesUntil(RDate)
+     */
+    public Stream<RDate> dates() {
+        return getStart().datesUntil(getEndExclusive());
+    }
+
+    /**
+     * Split this range into decades (10 days periods of the months, and Sanculottide).
+     * The first and last decades are truncated to this range.
+     *
+     * @return the decades, in chronological order.
+     */
+    public List<RDateRange> decades() {
+        return split(DAYS_PER_DECADE);
+    }
+
+    /**
+     * Split this range into months (including Sanculottide).
+     * The first and last months are truncated to this range.
+     *
+     * @return the months, in chronological order.
+     */
+    public List<RDateRange> months() {
+        return split(RDate.DAYS_PER_MONTH);
+    }
+
+    /**
+     * Split this range into years.
+     * The first and last years are truncated to this range.
+     *
+     * @return the years, in chronological order.
+     */
+    public List<RDateRange> years() {
+        return split(0);
+    }
+
+    /**
+     * Split this range into periods of the years.
+     * The boundaries are computed from the day of the year, with a single conversion for the start date.
+     *
+     * @param periodDays the length of the periods starting on the first day of the year (0 for whole years).
+     * @return the periods.
+     */
+    private List<RDateRange> split(int periodDays) {
+        List<RDateRange> result = new ArrayList<>();
+        if (isEmpty()) {
+            return result;
+        }
+        RDate first = getStart();
+        int year = first.getYear();
+        int dayOfYear = first.getDayOfYear();
+        long start = startEpochDay;
+        while (start < endEpochDay) {
+            int lengthOfYear = RDate.isSextileYear(year) ? 366 : 365;
+            int nextDayOfYear = lengthOfYear + 1;
+            if (periodDays > 0) {
+                nextDayOfYear = Math.min(nextDayOfYear, ((dayOfYear - 1) / periodDays + 1) * periodDays + 1);
+            }
+            long end = Math.min(endEpochDay, start + nextDayOfYear - dayOfYear);
+            result.add(new RDateRange(start, end));
+            start = end;
+            if (nextDayOfYear > lengthOfYear) {
+                year++;
+                dayOfYear = 1;
+            } else {
+                dayOfYear = nextDayOfYear;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RDateRange range = (RDateRange) o;
+        return startEpochDay == range.startEpochDay && endEpochDay == range.endEpochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(startEpochDay) + Long.hashCode(endEpochDay);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(48).append('[');
+        RFormatter.DATE.formatTo(getStart(), sb).append(", ");
+        return RFormatter.DATE.formatTo(getEndExclusive(), sb).append(')').toString();
+    }
+}
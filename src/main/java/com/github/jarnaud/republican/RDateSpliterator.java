@@ -0,0 +1,122 @@
+package com.github.jarnaud.republican;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a sequence of Republican dates separated by a fixed number of days.
+ * <p>
+ * The dates are computed by stepping the year and day of year, without any conversion from the Gregorian calendar
+ * (except for very large steps, and when splitting: the range is split by epoch day).
+ */
+final class RDateSpliterator implements Spliterator<RDate> {
+
+    /**
+     * Above this step, the next date is converted from its epoch day rather than stepped year by year.
+     */
+    private static final long MAX_STEPPED_DAYS = 4 * 366;
+
+    private final long step;
+
+    /**
+     * The epoch day, year and day of year of the next date.
+     */
+    private long epochDay;
+    private int year;
+    private int dayOfYear;
+
+    /**
+     * The number of remaining dates.
+     */
+    private long remaining;
+
+    /**
+     * Create a spliterator.
+     *
+     * @param start     the first date.
+     * @param remaining the number of dates.
+     * @param step      the number of days between two dates, positive.
+     */
+    RDateSpliterator(RDate start, long remaining, long step) {
+        this.step = step;
+        this.remaining = remaining;
+        moveTo(start);
+    }
+
+    private void moveTo(RDate date) {
+        epochDay = date.toEpochDay();
+        year = date.getYear();
+        dayOfYear = date.getDayOfYear();
+    }
+
+    private RDate current() {
+        int monthIndex = (dayOfYear - 1) / RDate.DAYS_PER_MONTH;
+        return RDateCache.INSTANCE.get(year, RMonth.of(monthIndex + 1), dayOfYear - monthIndex * RDate.DAYS_PER_MONTH);
+    }
+
+    private void next() {
+        epochDay += step;
+        if (step > MAX_STEPPED_DAYS) {
+            moveTo(RDate.ofEpochDay(epochDay));
+            return;
+        }
+        int days = dayOfYear + (int) step;
+        int lengthOfYear;
+        while (days > (lengthOfYear = RDate.isSextileYear(year) ? 366 : 365)) {
+            days -= lengthOfYear;
+            year++;
+        }
+        dayOfYear = days;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super RDate> action) {
+        if (remaining <= 0) {
+            return false;
+        }
+        action.accept(current());
+        if (--remaining > 0) {
+            next();
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super RDate> action) {
+        while (remaining > 0) {
+            action.accept(current());
+            if (--remaining > 0) {
+                next();
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<RDate> trySplit() {
+        if (remaining < 2) {
+            return null;
+        }
+        long half = remaining >>> 1;
+        RDateSpliterator prefix = new RDateSpliterator(current(), half, step);
+        moveTo(RDate.ofEpochDay(epochDay + half * step));
+        remaining -= half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super RDate> getComparator() {
+        // Natural order.
+        return null;
+    }
+}
@@ -2,16 +2,32 @@ package com.github.jarnaud.republican;
 
 import com.github.jarnaud.republican.exception.RepublicanCalendarException;
 
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
 import java.util.Objects;
 
 /**
  * A Republican local date and time.
+ * <p>
+ * The date and time can be adjusted with the fields of both {@link RDate} and {@link RTime}, and shifted with the
+ * date units of {@link RDate} ({@link ChronoUnit#DAYS}, {@link ChronoUnit#MONTHS}...) or with the decimal time units
+ * of {@link RChronoUnit} (carrying into the days).
  */
-public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor {
+public final class RDateTime implements Comparable<RDateTime>, Temporal {
 
     /**
      * The date part.
@@ -23,6 +39,37 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
      */
     private final RTime time;
 
+    /**
+     * Obtains the current Republican date and time from the system clock in the default zone.
+     *
+     * @return the current date and time.
+     */
+    public static RDateTime now() {
+        return now(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Obtains the current Republican date and time from the system clock in a given zone.
+     *
+     * @param zone the zone.
+     * @return the current date and time in the zone.
+     */
+    public static RDateTime now(ZoneId zone) {
+        return now(Clock.system(zone));
+    }
+
+    /**
+     * Obtains the current Republican date and time from a clock.
+     * Use a {@link RepublicanClock} for frequent calls.
+     *
+     * @param clock the clock.
+     * @return the current date and time.
+     */
+    public static RDateTime now(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return ofInstant(clock.instant(), clock.getZone());
+    }
+
     /**
      * Obtains an instance of RDateTime by converting a {@link LocalDateTime} into the Republican
      * calendar.
@@ -35,6 +82,54 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
         return of(RDate.of(dateTime.toLocalDate()), RTime.of(dateTime.toLocalTime()));
     }
 
+    /**
+     * Obtains an instance of RDateTime representing the local date and time of an instant in a given zone.
+     *
+     * @param instant the instant.
+     * @param zoneId  the zone.
+     * @return the Republican date and time.
+     * @throws RepublicanCalendarException if the date is before the start of the Republican calendar.
+     */
+    public static RDateTime ofInstant(Instant instant, ZoneId zoneId) {
+        Objects.requireNonNull(instant, "instant");
+        Objects.requireNonNull(zoneId, "zoneId");
+        return ofEpochSecond(instant.getEpochSecond(), instant.getNano(), RTime.offsetOf(zoneId, instant));
+    }
+
+    /**
+     * Obtains an instance of RDateTime from an epoch second (number of seconds since 1970-01-01T00:00Z).
+     *
+     * @param epochSecond  the epoch second.
+     * @param nanoOfSecond the nano of the second, between 0 and 999,999,999.
+     * @param offset       the zone offset.
+     * @return the Republican date and time.
+     * @throws RepublicanCalendarException if the nano is invalid or the date is before the start of the Republican
+     *                                     calendar.
+     */
+    public static RDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneOffset offset) {
+        Objects.requireNonNull(offset, "offset");
+        if (nanoOfSecond < 0 || nanoOfSecond >= RTime.NANOS_PER_SECOND) {
+            throw new RepublicanCalendarException("Invalid nano");
+        }
+        long localSecond = Math.addExact(epochSecond, offset.getTotalSeconds());
+        RDate date = RDate.ofEpochDay(Math.floorDiv(localSecond, RTime.SECONDS_PER_GREGORIAN_DAY));
+        return new RDateTime(date, RTime.ofNanoOfDay(RTime.toRepublicanNanoOfDay(localSecond, nanoOfSecond)));
+    }
+
+    /**
+     * Obtains an instance of RDateTime from an epoch milli (number of milliseconds since 1970-01-01T00:00Z).
+     *
+     * @param epochMilli the epoch milli.
+     * @param offset     the zone offset.
+     * @return the Republican date and time.
+     * @throws RepublicanCalendarException if the date is before the start of the Republican calendar.
+     */
+    public static RDateTime ofEpochMilli(long epochMilli, ZoneOffset offset) {
+        long epochSecond = Math.floorDiv(epochMilli, 1000L);
+        int nanoOfSecond = (int) Math.floorMod(epochMilli, 1000L) * 1_000_000;
+        return ofEpochSecond(epochSecond, nanoOfSecond, offset);
+    }
+
     /**
      * Obtains an instance of RDateTime from year, month, day, hour, and minute.
      *
@@ -95,6 +190,21 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
         return new RDateTime(rDate, rTime);
     }
 
+    /**
+     * Obtains a Republican date and time from a temporal object: a Republican date and time, or a temporal object
+     * with an epoch day and a normal local time (eg. {@link LocalDateTime}), which is converted.
+     *
+     * @param temporal the temporal object.
+     * @return the Republican date and time.
+     * @throws DateTimeException if the temporal object has no date or no time.
+     */
+    public static RDateTime from(TemporalAccessor temporal) {
+        if (temporal instanceof RDateTime) {
+            return (RDateTime) temporal;
+        }
+        return new RDateTime(RDate.from(temporal), RTime.from(temporal));
+    }
+
     /**
      * Constructor.
      *
@@ -115,6 +225,24 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
         return LocalDateTime.of(date.toLocalDate(), time.toLocalTime());
     }
 
+    /**
+     * Return the date part of this date and time.
+     *
+     * @return the Republican date.
+     */
+    public RDate toRDate() {
+        return date;
+    }
+
+    /**
+     * Return the time part of this date and time.
+     *
+     * @return the Republican time.
+     */
+    public RTime toRTime() {
+        return time;
+    }
+
     /**
      * Return a new instance of this date and time with the time rounded to the nearest second.
      *
@@ -124,6 +252,73 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
         return of(date, time.roundSecond());
     }
 
+    /**
+     * Return a copy of this date and time shifted by the given number of days.
+     *
+     * @param daysToAdd the number of days to add.
+     * @return the new date and time.
+     */
+    public RDateTime plusDays(long daysToAdd) {
+        return withDate(date.plusDays(daysToAdd));
+    }
+
+    /**
+     * Return a copy of this date and time shifted back by the given number of days.
+     *
+     * @param daysToSubtract the number of days to subtract.
+     * @return the new date and time.
+     */
+    public RDateTime minusDays(long daysToSubtract) {
+        return withDate(date.minusDays(daysToSubtract));
+    }
+
+    /**
+     * Return a copy of this date and time shifted by the given number of decades (10 days periods).
+     *
+     * @param decadesToAdd the number of decades to add.
+     * @return the new date and time.
+     * @see RDate#plusDecades(long)
+     */
+    public RDateTime plusDecades(long decadesToAdd) {
+        return withDate(date.plusDecades(decadesToAdd));
+    }
+
+    /**
+     * Return a copy of this date and time shifted by the given number of months.
+     *
+     * @param monthsToAdd the number of months to add.
+     * @return the new date and time.
+     * @see RDate#plusMonths(long)
+     */
+    public RDateTime plusMonths(long monthsToAdd) {
+        return withDate(date.plusMonths(monthsToAdd));
+    }
+
+    /**
+     * Return a copy of this date and time shifted by the given number of years.
+     *
+     * @param yearsToAdd the number of years to add.
+     * @return the new date and time.
+     * @see RDate#plusYears(long)
+     */
+    public RDateTime plusYears(long yearsToAdd) {
+        return withDate(date.plusYears(yearsToAdd));
+    }
+
+    private RDateTime withDate(RDate newDate) {
+        if (newDate == date) {
+            return this;
+        }
+        return new RDateTime(newDate, time);
+    }
+
+    private RDateTime with(RDate newDate, RTime newTime) {
+        if (newDate == date && newTime == time) {
+            return this;
+        }
+        return new RDateTime(newDate, newTime);
+    }
+
     /**
      * Return the Republican year.
      *
@@ -178,6 +373,15 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
         return time.getSecond();
     }
 
+    /**
+     * Return the Republican nanosecond of the day.
+     *
+     * @return the nanosecond of the day.
+     */
+    public long getNanoOfDay() {
+        return time.getNanoOfDay();
+    }
+
     /**
      * The nanosecond of the second.
      *
@@ -189,10 +393,9 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
 
     @Override
     public String toString() {
-        return "RDateTime{" +
-                "date=" + date +
-                ", time=" + time +
-                '}';
+        StringBuilder sb = new StringBuilder(48).append("RDateTime{date=");
+        RFormatter.DATE.formatTo(date, sb).append(", time=");
+        return RFormatter.TIME.formatTo(time, sb).append('}').toString();
     }
 
     @Override
@@ -205,7 +408,7 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
 
     @Override
     public int hashCode() {
-        return Objects.hash(date, time);
+        return 31 * date.hashCode() + time.hashCode();
     }
 
     @Override
@@ -242,4 +445,119 @@ public final class RDateTime implements Comparable<RDateTime>, TemporalAccessor
         }
         return time.getLong(field);
     }
+
+    // Temporal implementation.
+
+    @Override
+    public boolean isSupported(TemporalUnit unit) {
+        return date.isSupported(unit) || unit instanceof RChronoUnit;
+    }
+
+    @Override
+    public RDateTime with(TemporalField field, long newValue) {
+        if (date.isSupported(field)) {
+            return withDate(date.with(field, newValue));
+        }
+        if (time.isSupported(field)) {
+            return with(date, time.with(field, newValue));
+        }
+        if (field instanceof ChronoField) {
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    @Override
+    public RDateTime with(TemporalAdjuster adjuster) {
+        if (adjuster instanceof RDate) {
+            return withDate((RDate) adjuster);
+        }
+        return (RDateTime) adjuster.adjustInto(this);
+    }
+
+    /**
+     * Return a copy of this date and time shifted by the given amount.
+     * The decimal time units ({@link RChronoUnit}) carry into the days, the date units shift the date only.
+     *
+     * @param amountToAdd the amount to add.
+     * @param unit        the unit of the amount.
+     * @return the new date and time.
+     * @throws UnsupportedTemporalTypeException if the unit is not supported.
+     * @throws RepublicanCalendarException      if the new date is before the start of the Republican calendar.
+     */
+    @Override
+    public RDateTime plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof RChronoUnit) {
+            RChronoUnit rUnit = (RChronoUnit) unit;
+            long days = Math.floorDiv(amountToAdd, rUnit.perDay());
+            long nanoOfDay = time.getNanoOfDay() + Math.floorMod(amountToAdd, rUnit.perDay()) * rUnit.getNanos();
+            if (nanoOfDay >= RTime.NANOS_PER_DAY) {
+                days++;
+                nanoOfDay -= RTime.NANOS_PER_DAY;
+            }
+            RTime newTime = nanoOfDay == time.getNanoOfDay() ? time : RTime.ofNanoOfDay(nanoOfDay);
+            return with(days == 0 ? date : date.plusDays(days), newTime);
+        }
+        if (unit instanceof ChronoUnit) {
+            return withDate(date.plus(amountToAdd, unit));
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    @Override
+    public RDateTime plus(TemporalAmount amount) {
+        return (RDateTime) amount.addTo(this);
+    }
+
+    @Override
+    public RDateTime minus(long amountToSubtract, TemporalUnit unit) {
+        if (amountToSubtract == Long.MIN_VALUE) {
+            return plus(Long.MAX_VALUE, unit).plus(1, unit);
+        }
+        return plus(-amountToSubtract, unit);
+    }
+
+    @Override
+    public RDateTime minus(TemporalAmount amount) {
+        return (RDateTime) amount.subtractFrom(this);
+    }
+
+    /**
+     * Return the amount of time until another date and time (negative if it is before this date and time).
+     * The number of date units only counts the complete units, taking the time into account.
+     *
+     * @param endExclusive the end date and time (converted with {@link #from(TemporalAccessor)}).
+     * @param unit         the unit of the amount.
+     * @return the number of complete units.
+     * @throws UnsupportedTemporalTypeException if the unit is not supported.
+     */
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        RDateTime end = from(endExclusive);
+        if (unit instanceof RChronoUnit) {
+            RChronoUnit rUnit = (RChronoUnit) unit;
+            long days = end.date.toEpochDay() - date.toEpochDay();
+            long nanos = end.time.getNanoOfDay() - time.getNanoOfDay();
+            // Same sign for both parts, so that the division truncates towards zero.
+            if (days > 0 && nanos < 0) {
+                days--;
+                nanos += RTime.NANOS_PER_DAY;
+            } else if (days < 0 && nanos > 0) {
+                days++;
+                nanos -= RTime.NANOS_PER_DAY;
+            }
+            return Math.addExact(Math.multiplyExact(days, rUnit.perDay()), nanos / rUnit.getNanos());
+        }
+        if (unit instanceof ChronoUnit) {
+            // The last day is incomplete if its time is before (or after when going backward) this time.
+            RDate endDate = end.date;
+            if (endDate.isAfter(date) && end.time.compareTo(time) < 0) {
+                endDate = endDate.minusDays(1);
+            } else if (endDate.isBefore(date) && end.time.compareTo(time) > 0) {
+                endDate = endDate.plusDays(1);
+            }
+            return date.until(endDate, unit);
+        }
+        return unit.between(this, end);
+    }
 }
@@ -0,0 +1,48 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+/**
+ * A day of the Republican decade (10 days week), from Primidi to Decadi.
+ * <p>
+ * The special days (Sanculottide) are not part of a decade, see {@link RSpecialDay}.
+ */
+public enum RDayOfDecade {
+    Primidi,
+    Duodi,
+    Tridi,
+    Quartidi,
+    Quintidi,
+    Sextidi,
+    Septidi,
+    Octidi,
+    Nonidi,
+    Decadi;
+
+    /**
+     * Shared copy of the values (values() creates a new array on each call).
+     */
+    private static final RDayOfDecade[] VALUES = values();
+
+    /**
+     * Obtains an instance of RDayOfDecade from its number.
+     *
+     * @param dayOfDecade the day of the decade, between 1 (for Primidi) and 10 (for Decadi).
+     * @return the day of the decade.
+     */
+    public static RDayOfDecade of(int dayOfDecade) {
+        if (dayOfDecade < 1 || dayOfDecade > 10) {
+            throw new RepublicanCalendarException("Invalid day of decade (must be between 1 and 10)");
+        }
+        return VALUES[dayOfDecade - 1];
+    }
+
+    /**
+     * Return the day number in the decade (eg. 1 for Primidi, 10 for Decadi).
+     *
+     * @return the day number, between 1 and 10.
+     */
+    public int getValue() {
+        return ordinal() + 1;
+    }
+}
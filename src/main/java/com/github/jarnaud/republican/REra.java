@@ -0,0 +1,41 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.time.chrono.Era;
+
+/**
+ * An era in the Republican calendar.
+ * <p>
+ * The Republican calendar has a single era, starting on An I Vendemiaire 1 (dates before are undefined).
+ */
+public enum REra implements Era {
+
+    /**
+     * The Republican era (Ere Republicaine), starting on 1792-09-22.
+     */
+    REPUBLICAN;
+
+    /**
+     * Obtains an instance of REra from its value.
+     *
+     * @param era the era value (1).
+     * @return the era.
+     */
+    public static REra of(int era) {
+        if (era != 1) {
+            throw new RepublicanCalendarException("Invalid era (must be 1)");
+        }
+        return REPUBLICAN;
+    }
+
+    /**
+     * Return the era value.
+     *
+     * @return the era value (1).
+     */
+    @Override
+    public int getValue() {
+        return 1;
+    }
+}
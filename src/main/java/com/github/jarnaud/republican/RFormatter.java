@@ -0,0 +1,709 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formatter for Republican dates and times, compiled once from a pattern.
+ * <p>
+ * The pattern letters are:
+ * <ul>
+ * <li>{@code y}: the year, as a number (eg. {@code 12}).</li>
+ * <li>{@code R}: the year, in Roman numerals (eg. {@code XII}), up to 3999.</li>
+ * <li>{@code M}: the month number (eg. {@code 4}); {@code MMM} (3 letters or more): the month name (eg. {@code Nivose}).</li>
+ * <li>{@code d}: the day of the month.</li>
+ * <li>{@code D}: the decade of the month (1, 2 or 3).</li>
+ * <li>{@code h}, {@code m}, {@code s}, {@code n}: the decimal hour, minute, second and nanosecond.</li>
+ * </ul>
+ * Repeating a numeric letter sets the minimum width of the number, padded with zeros (eg. {@code mm}).
+ * Text between single quotes is written as is ({@code ''} being a single quote), as well as any character which is
+ * not a letter.
+ * <p>
+ * The formatter writes directly into an {@link Appendable} (eg. a {@link StringBuilder}), a {@code byte[]} or a
+ * {@link ByteBuffer}, without any intermediate string. Bytes are written in ASCII: non ASCII literal characters are
+ * written as {@code ?}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class RFormatter {
+
+    /**
+     * The format used by {@link RDate#toString()} (eg. {@code An 12 Nivose 3}).
+     */
+    public static final RFormatter DATE = ofPattern("'An' y MMM d");
+
+    /**
+     * The format used by {@link RTime#toString()} (eg. {@code 4h63m87s0}).
+     */
+    public static final RFormatter TIME = ofPattern("h'h'm'm's's'n");
+
+    private final String pattern;
+    private final Element[] elements;
+    private final boolean dateFields;
+    private final boolean timeFields;
+    private final int maxLength;
+
+    private RFormatter(String pattern, Element[] elements) {
+        this.pattern = pattern;
+        this.elements = elements;
+        boolean date = false;
+        boolean time = false;
+        int max = 0;
+        for (Element element : elements) {
+            date |= element.isDateField();
+            time |= element.isTimeField();
+            max += element.maxLength();
+        }
+        this.dateFields = date;
+        this.timeFields = time;
+        this.maxLength = max;
+    }
+
+    /**
+     * Compile a formatter from a pattern.
+     *
+     * @param pattern the pattern (see the class documentation).
+     * @return the formatter.
+     * @throws RepublicanCalendarException if the pattern is invalid.
+     */
+    public static RFormatter ofPattern(String pattern) {
+        if (pattern == null) {
+            throw new RepublicanCalendarException("Pattern cannot be null");
+        }
+        List<Element> elements = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int pos = 0;
+        while (pos < pattern.length()) {
+            char c = pattern.charAt(pos);
+            if (c == '\'') {
+                int end = pos + 1;
+                if (end < pattern.length() && pattern.charAt(end) == '\'') {
+                    literal.append('\'');
+                    pos = end + 1;
+                    continue;
+                }
+                while (true) {
+                    if (end >= pattern.length()) {
+                        throw new RepublicanCalendarException("Unterminated quote in pattern: " + pattern);
+                    }
+                    if (pattern.charAt(end) == '\'') {
+                        if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                            literal.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(pattern.charAt(end++));
+                }
+                pos = end + 1;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                int count = 1;
+                while (pos + count < pattern.length() && pattern.charAt(pos + count) == c) {
+                    count++;
+                }
+                if (literal.length() > 0) {
+                    elements.add(new Literal(literal.toString()));
+                    literal.setLength(0);
+                }
+                elements.add(field(c, count, pattern));
+                pos += count;
+            } else {
+                literal.append(c);
+                pos++;
+            }
+        }
+        if (literal.length() > 0) {
+            elements.add(new Literal(literal.toString()));
+        }
+        return new RFormatter(pattern, elements.toArray(new Element[0]));
+    }
+
+    private static Element field(char letter, int count, String pattern) {
+        switch (letter) {
+            case 'y':
+                return new NumberField(Field.YEAR, count);
+            case 'R':
+                return new RomanYear();
+            case 'M':
+                return count >= 3 ? new MonthName() : new NumberField(Field.MONTH, count);
+            case 'd':
+                return new NumberField(Field.DAY, count);
+            case 'D':
+                return new NumberField(Field.DECADE, count);
+            case 'h':
+                return new NumberField(Field.HOUR, count);
+            case 'm':
+                return new NumberField(Field.MINUTE, count);
+            case 's':
+                return new NumberField(Field.SECOND, count);
+            case 'n':
+                return new NumberField(Field.NANO, count);
+            default:
+                throw new RepublicanCalendarException("Unknown pattern letter '" + letter + "' in pattern: " + pattern);
+        }
+    }
+
+    /**
+     * Return the pattern of this formatter.
+     *
+     * @return the pattern.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Return the maximum number of characters (or bytes) written by this formatter for any date or time,
+     * which is enough to size a destination array or buffer.
+     *
+     * @return the maximum length.
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    // Strings.
+
+    /**
+     * Format a Republican date.
+     *
+     * @param date the date.
+     * @return the formatted date.
+     * @throws RepublicanCalendarException if the pattern uses time fields.
+     */
+    public String format(RDate date) {
+        return formatTo(date, new StringBuilder(32)).toString();
+    }
+
+    /**
+     * Format a Republican time.
+     *
+     * @param time the time.
+     * @return the formatted time.
+     * @throws RepublicanCalendarException if the pattern uses date fields.
+     */
+    public String format(RTime time) {
+        return formatTo(time, new StringBuilder(32)).toString();
+    }
+
+    /**
+     * Format a Republican date and time.
+     *
+     * @param dateTime the date and time.
+     * @return the formatted date and time.
+     */
+    public String format(RDateTime dateTime) {
+        return formatTo(dateTime, new StringBuilder(48)).toString();
+    }
+
+    // Appendable.
+
+    /**
+     * Format a Republican date into an appendable (eg. a {@link StringBuilder}).
+     *
+     * @param date the date.
+     * @param out  the appendable.
+     * @param <A>  the type of appendable.
+     * @return the appendable.
+     * @throws RepublicanCalendarException if the pattern uses time fields.
+     * @throws UncheckedIOException        if the appendable fails.
+     */
+    public <A extends Appendable> A formatTo(RDate date, A out) {
+        checkTimeFields();
+        return append(out, date.getYear(), date.getMonth().getMonth(), date.getDay(), 0);
+    }
+
+    /**
+     * Format a Republican time into an appendable (eg. a {@link StringBuilder}).
+     *
+     * @param time the time.
+     * @param out  the appendable.
+     * @param <A>  the type of appendable.
+     * @return the appendable.
+     * @throws RepublicanCalendarException if the pattern uses date fields.
+     * @throws UncheckedIOException        if the appendable fails.
+     */
+    public <A extends Appendable> A formatTo(RTime time, A out) {
+        checkDateFields();
+        return append(out, 0, 0, 0, time.getNanoOfDay());
+    }
+
+    /**
+     * Format a Republican date and time into an appendable (eg. a {@link StringBuilder}).
+     *
+     * @param dateTime the date and time.
+     * @param out      the appendable.
+     * @param <A>      the type of appendable.
+     * @return the appendable.
+     * @throws UncheckedIOException if the appendable fails.
+     */
+    public <A extends Appendable> A formatTo(RDateTime dateTime, A out) {
+        return append(out, dateTime.getYear(), dateTime.getMonth().getMonth(), dateTime.getDay(), dateTime.getNanoOfDay());
+    }
+
+    private <A extends Appendable> A append(A out, int year, int month, int day, long nanoOfDay) {
+        try {
+            for (Element element : elements) {
+                element.append(out, year, month, day, nanoOfDay);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    // Bytes.
+
+    /**
+     * Format a Republican date as ASCII bytes into an array.
+     *
+     * @param date   the date.
+     * @param dst    the destination array.
+     * @param offset the index of the first byte to write.
+     * @return the number of bytes written.
+     * @throws RepublicanCalendarException    if the pattern uses time fields.
+     * @throws ArrayIndexOutOfBoundsException if the array is too small (nothing is written then).
+     */
+    public int formatTo(RDate date, byte[] dst, int offset) {
+        checkTimeFields();
+        return write(dst, offset, date.getYear(), date.getMonth().getMonth(), date.getDay(), 0);
+    }
+
+    /**
+     * Format a Republican time as ASCII bytes into an array.
+     *
+     * @param time   the time.
+     * @param dst    the destination array.
+     * @param offset the index of the first byte to write.
+     * @return the number of bytes written.
+     * @throws RepublicanCalendarException    if the pattern uses date fields.
+     * @throws ArrayIndexOutOfBoundsException if the array is too small (nothing is written then).
+     */
+    public int formatTo(RTime time, byte[] dst, int offset) {
+        checkDateFields();
+        return write(dst, offset, 0, 0, 0, time.getNanoOfDay());
+    }
+
+    /**
+     * Format a Republican date and time as ASCII bytes into an array.
+     *
+     * @param dateTime the date and time.
+     * @param dst      the destination array.
+     * @param offset   the index of the first byte to write.
+     * @return the number of bytes written.
+     * @throws ArrayIndexOutOfBoundsException if the array is too small (nothing is written then).
+     */
+    public int formatTo(RDateTime dateTime, byte[] dst, int offset) {
+        return write(dst, offset, dateTime.getYear(), dateTime.getMonth().getMonth(), dateTime.getDay(), dateTime.getNanoOfDay());
+    }
+
+    /**
+     * Format a Republican date as ASCII bytes into a buffer, at its current position.
+     *
+     * @param date the date.
+     * @param dst  the destination buffer.
+     * @return the number of bytes written.
+     * @throws RepublicanCalendarException if the pattern uses time fields.
+     * @throws BufferOverflowException     if the buffer is too small (nothing is written then).
+     */
+    public int formatTo(RDate date, ByteBuffer dst) {
+        checkTimeFields();
+        return write(dst, date.getYear(), date.getMonth().getMonth(), date.getDay(), 0);
+    }
+
+    /**
+     * Format a Republican time as ASCII bytes into a buffer, at its current position.
+     *
+     * @param time the time.
+     * @param dst  the destination buffer.
+     * @return the number of bytes written.
+     * @throws RepublicanCalendarException if the pattern uses date fields.
+     * @throws BufferOverflowException     if the buffer is too small (nothing is written then).
+     */
+    public int formatTo(RTime time, ByteBuffer dst) {
+        checkDateFields();
+        return write(dst, 0, 0, 0, time.getNanoOfDay());
+    }
+
+    /**
+     * Format a Republican date and time as ASCII bytes into a buffer, at its current position.
+     *
+     * @param dateTime the date and time.
+     * @param dst      the destination buffer.
+     * @return the number of bytes written.
+     * @throws BufferOverflowException if the buffer is too small (nothing is written then).
+     */
+    public int formatTo(RDateTime dateTime, ByteBuffer dst) {
+        return write(dst, dateTime.getYear(), dateTime.getMonth().getMonth(), dateTime.getDay(), dateTime.getNanoOfDay());
+    }
+
+    private int length(int year, int month, int day, long nanoOfDay) {
+        int length = 0;
+        for (Element element : elements) {
+            length += element.length(year, month, day, nanoOfDay);
+        }
+        return length;
+    }
+
+    private int write(byte[] dst, int offset, int year, int month, int day, long nanoOfDay) {
+        int length = length(year, month, day, nanoOfDay);
+        if (offset < 0 || offset > dst.length - length) {
+            throw new ArrayIndexOutOfBoundsException("Cannot write " + length + " bytes at index " + offset);
+        }
+        int pos = offset;
+        for (Element element : elements) {
+            pos = element.write(dst, pos, year, month, day, nanoOfDay);
+        }
+        return length;
+    }
+
+    private int write(ByteBuffer dst, int year, int month, int day, long nanoOfDay) {
+        int length = length(year, month, day, nanoOfDay);
+        if (dst.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (dst.hasArray()) {
+            write(dst.array(), dst.arrayOffset() + dst.position(), year, month, day, nanoOfDay);
+            dst.position(dst.position() + length);
+        } else {
+            append(new ByteBufferAppendable(dst), year, month, day, nanoOfDay);
+        }
+        return length;
+    }
+
+    private void checkTimeFields() {
+        if (timeFields) {
+            throw new RepublicanCalendarException("Pattern cannot format a date (it requires a time): " + pattern);
+        }
+    }
+
+    private void checkDateFields() {
+        if (dateFields) {
+            throw new RepublicanCalendarException("Pattern cannot format a time (it requires a date): " + pattern);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RFormatter{" + pattern + '}';
+    }
+
+    // Elements.
+
+    /**
+     * A compiled element of a pattern.
+     * The time fields are read from the nano of the day.
+     */
+    private interface Element {
+
+        int length(int year, int month, int day, long nanoOfDay);
+
+        int maxLength();
+
+        void append(Appendable out, int year, int month, int day, long nanoOfDay) throws IOException;
+
+        int write(byte[] dst, int pos, int year, int month, int day, long nanoOfDay);
+
+        default boolean isDateField() {
+            return false;
+        }
+
+        default boolean isTimeField() {
+            return false;
+        }
+    }
+
+    private static final class Literal implements Element {
+
+        private final String text;
+        private final byte[] ascii;
+
+        Literal(String text) {
+            this.text = text;
+            this.ascii = new byte[text.length()];
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                ascii[i] = c < 128 ? (byte) c : (byte) '?';
+            }
+        }
+
+        @Override
+        public int length(int year, int month, int day, long nanoOfDay) {
+            return ascii.length;
+        }
+
+        @Override
+        public int maxLength() {
+            return ascii.length;
+        }
+
+        @Override
+        public void append(Appendable out, int year, int month, int day, long nanoOfDay) throws IOException {
+            out.append(text);
+        }
+
+        @Override
+        public int write(byte[] dst, int pos, int year, int month, int day, long nanoOfDay) {
+            System.arraycopy(ascii, 0, dst, pos, ascii.length);
+            return pos + ascii.length;
+        }
+    }
+
+    private enum Field {
+        YEAR, MONTH, DAY, DECADE, HOUR, MINUTE, SECOND, NANO;
+
+        long get(int year, int month, int day, long nanoOfDay) {
+            switch (this) {
+                case YEAR:
+                    return year;
+                case MONTH:
+                    return month;
+                case DAY:
+                    return day;
+                case DECADE:
+                    return 1 + (day - 1) / 10;
+                case HOUR:
+                    return nanoOfDay / RTime.NANOS_PER_HOUR;
+                case MINUTE:
+                    return nanoOfDay / RTime.NANOS_PER_MINUTE % RTime.MINUTES_PER_HOUR;
+                case SECOND:
+                    return nanoOfDay / RTime.NANOS_PER_SECOND % RTime.SECONDS_PER_MINUTE;
+                default:
+                    return nanoOfDay % RTime.NANOS_PER_SECOND;
+            }
+        }
+
+        boolean isTimeField() {
+            return ordinal() >= HOUR.ordinal();
+        }
+
+        int maxDigits() {
+            switch (this) {
+                case YEAR:
+                    return 10;
+                case DECADE:
+                case HOUR:
+                    return 1;
+                case NANO:
+                    return 9;
+                default:
+                    return 2;
+            }
+        }
+    }
+
+    private static final class NumberField implements Element {
+
+        private final Field field;
+        private final int minWidth;
+
+        NumberField(Field field, int minWidth) {
+            this.field = field;
+            this.minWidth = minWidth;
+        }
+
+        @Override
+        public int length(int year, int month, int day, long nanoOfDay) {
+            return Math.max(minWidth, digits(field.get(year, month, day, nanoOfDay)));
+        }
+
+        @Override
+        public int maxLength() {
+            return Math.max(minWidth, field.maxDigits());
+        }
+
+        @Override
+        public void append(Appendable out, int year, int month, int day, long nanoOfDay) throws IOException {
+            long value = field.get(year, month, day, nanoOfDay);
+            int digits = digits(value);
+            for (int i = digits; i < minWidth; i++) {
+                out.append('0');
+            }
+            for (long divisor = pow10(digits - 1); divisor > 0; divisor /= 10) {
+                out.append((char) ('0' + value / divisor % 10));
+            }
+        }
+
+        @Override
+        public int write(byte[] dst, int pos, int year, int month, int day, long nanoOfDay) {
+            long value = field.get(year, month, day, nanoOfDay);
+            int end = pos + Math.max(minWidth, digits(value));
+            for (int i = end - 1; i >= pos; i--) {
+                dst[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            return end;
+        }
+
+        @Override
+        public boolean isDateField() {
+            return !field.isTimeField();
+        }
+
+        @Override
+        public boolean isTimeField() {
+            return field.isTimeField();
+        }
+
+        private static int digits(long value) {
+            int digits = 1;
+            while (value >= 10) {
+                value /= 10;
+                digits++;
+            }
+            return digits;
+        }
+
+        private static long pow10(int exponent) {
+            long pow = 1;
+            for (int i = 0; i < exponent; i++) {
+                pow *= 10;
+            }
+            return pow;
+        }
+    }
+
+    private static final class MonthName implements Element {
+
+        private static final byte[][] ASCII_NAMES = new byte[13][];
+        private static final int MAX_LENGTH;
+
+        static {
+            int max = 0;
+            for (int month = 1; month <= 13; month++) {
+                String name = RMonth.of(month).getName();
+                byte[] ascii = new byte[name.length()];
+                for (int i = 0; i < ascii.length; i++) {
+                    ascii[i] = (byte) name.charAt(i);
+                }
+                ASCII_NAMES[month - 1] = ascii;
+                max = Math.max(max, ascii.length);
+            }
+            MAX_LENGTH = max;
+        }
+
+        @Override
+        public int length(int year, int month, int day, long nanoOfDay) {
+            return ASCII_NAMES[month - 1].length;
+        }
+
+        @Override
+        public int maxLength() {
+            return MAX_LENGTH;
+        }
+
+        @Override
+        public void append(Appendable out, int year, int month, int day, long nanoOfDay) throws IOException {
+            out.append(RMonth.of(month).getName());
+        }
+
+        @Override
+        public int write(byte[] dst, int pos, int year, int month, int day, long nanoOfDay) {
+            byte[] name = ASCII_NAMES[month - 1];
+            System.arraycopy(name, 0, dst, pos, name.length);
+            return pos + name.length;
+        }
+
+        @Override
+        public boolean isDateField() {
+            return true;
+        }
+    }
+
+    static final class RomanYear implements Element {
+
+        static final int MAX_YEAR = 3999;
+        // MMMDCCCLXXXVIII (3888).
+        private static final int MAX_LENGTH = 15;
+        static final int[] VALUES = {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1};
+        static final String[] SYMBOLS = {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"};
+
+        @Override
+        public int length(int year, int month, int day, long nanoOfDay) {
+            checkYear(year);
+            int length = 0;
+            for (int i = 0; i < VALUES.length; i++) {
+                length += year / VALUES[i] * SYMBOLS[i].length();
+                year %= VALUES[i];
+            }
+            return length;
+        }
+
+        @Override
+        public int maxLength() {
+            return MAX_LENGTH;
+        }
+
+        @Override
+        public void append(Appendable out, int year, int month, int day, long nanoOfDay) throws IOException {
+            checkYear(year);
+            for (int i = 0; i < VALUES.length; i++) {
+                for (; year >= VALUES[i]; year -= VALUES[i]) {
+                    out.append(SYMBOLS[i]);
+                }
+            }
+        }
+
+        @Override
+        public int write(byte[] dst, int pos, int year, int month, int day, long nanoOfDay) {
+            for (int i = 0; i < VALUES.length; i++) {
+                for (; year >= VALUES[i]; year -= VALUES[i]) {
+                    String symbol = SYMBOLS[i];
+                    for (int j = 0; j < symbol.length(); j++) {
+                        dst[pos++] = (byte) symbol.charAt(j);
+                    }
+                }
+            }
+            return pos;
+        }
+
+        @Override
+        public boolean isDateField() {
+            return true;
+        }
+
+        private static void checkYear(int year) {
+            if (year > MAX_YEAR) {
+                throw new RepublicanCalendarException("Year is too large to be written in Roman numerals (max " + MAX_YEAR + ")");
+            }
+        }
+    }
+
+    /**
+     * Appendable writing ASCII bytes into a buffer without backing array (eg. a direct buffer).
+     */
+    private static final class ByteBufferAppendable implements Appendable {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferAppendable(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            buffer.put(c < 128 ? (byte) c : (byte) '?');
+            return this;
+        }
+    }
+}
@@ -1,87 +1,63 @@
 package com.github.jarnaud.republican;
 
 import java.time.LocalDate;
-import java.time.Month;
 
 /**
  * Converter from Republican to Gregorian dates.
  */
 class RGConverter {
 
-    /**
-     * Officially the Republican calendar started on 1792-09-22 (An I Vendemiaire 1).
-     */
-    private static final int START_YEAR = 1792;
-
-    private final LeapYearCalculator leapYearCalculator = new LeapYearCalculator();
+    private final YearStartTable yearStartTable;
 
     /**
-     * Convert a Republican date into a local date.
-     *
-     * @param rDate the Republican date.
-     * @return the corresponding local date.
+     * Constructor, using the leap rule of the library.
      */
-    public LocalDate convert(RDate rDate) {
-        final int deltaDays;
-        RDate start = getGregorianYearStartDay(rDate.getYear());
-        if (rDate.isBefore(start)) {
-            deltaDays = -getDaysBetween(rDate, start);
-        } else {
-            deltaDays = getDaysBetween(start, rDate);
-        }
-        return LocalDate.of(START_YEAR + rDate.getYear(), Month.JANUARY, 1).plusDays(deltaDays);
+    RGConverter() {
+        this(YearStartTable.INSTANCE);
     }
 
     /**
-     * Simplified day difference (does not handle different years and assume rd1<rd2).
-     * Used for delta within the same year.
+     * Constructor, only used to test and compare the rules (the dates always use the rule of the library).
      *
-     * @param rd1 the first Republican date.
-     * @param rd2 the second Republican year.
-     * @return the days difference.
+     * @param yearStartTable the first days of the years, according to a leap rule.
      */
-    private int getDaysBetween(RDate rd1, RDate rd2) {
-        return getDaysSinceRYearStart(rd2) - getDaysSinceRYearStart(rd1);
-    }
-
-    private int getDaysSinceRYearStart(RDate rDate) {
-        return 30 * rDate.getMonth().ordinal() + rDate.getDay();
+    RGConverter(YearStartTable yearStartTable) {
+        this.yearStartTable = yearStartTable;
     }
 
     /**
-     * Return Jan 1st for the year of the provided Republican date.
-     * Will return 10, 11 or 12 Nivose depending on the year.
+     * Convert a Republican date into a local date.
      *
-     * @param rYear the Republican year.
-     * @return the first day of the Gregorian year as a Republican date.
+     * @param rDate the Republican date.
+     * @return the corresponding local date.
      */
-    private RDate getGregorianYearStartDay(int rYear) {
-        RDate start = RDate.of(rYear, RMonth.Nivose, 12);
-        return plusDays(start, processShifts(rYear - 1));
+    public LocalDate convert(RDate rDate) {
+        return LocalDate.ofEpochDay(toEpochDay(rDate));
     }
 
     /**
-     * Return a copy of this date shifted by the given number of days.
-     * NB: used only by this converter for shifting by 1 or 2 days within a month (month/year shifts are not handled).
-     * Do not use as actual plus to add days on production dates
+     * Convert a Republican date into an epoch day (number of days since 1970-01-01).
      *
-     * @param daysToAdd the number of days to add.
-     * @return the new date.
+     * @param rDate the Republican date.
+     * @return the corresponding epoch day.
      */
-    private RDate plusDays(RDate date, int daysToAdd) {
-        return RDate.of(date.getYear(), date.getMonth(), date.getDay() + daysToAdd);
+    public long toEpochDay(RDate rDate) {
+        return toEpochDay(rDate.getYear(), rDate.getMonth().getMonth(), rDate.getDay());
     }
 
     /**
-     * Process the leap years difference between Gregorian and Republican on a given year.
+     * Convert the fields of a (valid) Republican date into an epoch day (number of days since 1970-01-01).
      *
-     * @param ryear the Republican year.
-     * @return the leap delta.
+     * @param year  the Republican year.
+     * @param month the Republican month number, between 1 and 13.
+     * @param day   the day of the month.
+     * @return the corresponding epoch day.
      */
-    private int processShifts(int ryear) {
-        int leapG = leapYearCalculator.leapYears(ryear + START_YEAR);
-        int leapR = leapYearCalculator.leapRepublicanYears(ryear);
-        return leapG - leapR;
+    public long toEpochDay(int year, int month, int day) {
+        return RDate.FIRST_EPOCH_DAY
+                + yearStartTable.daysBeforeYear(year)
+                + RDate.DAYS_PER_MONTH * (month - 1)
+                + day - 1;
     }
 
 }
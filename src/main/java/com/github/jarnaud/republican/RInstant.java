@@ -0,0 +1,249 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * An instant on the Republican time line, stored as a single {@code long}: the number of Republican (decimal)
+ * microseconds since An 1 Vendemiaire 1 at midnight UTC.
+ * <p>
+ * Comparing, sorting and subtracting instants only compares and subtracts this value, so it can also be used
+ * directly (see {@link #getMicros()}) as a primitive key of time series. The microsecond precision allows about
+ * 252,000 Republican years (a nanosecond precision would overflow after 252 years).
+ * <p>
+ * Conversions from {@link Instant} and {@link RDateTime} are truncated to the Republican microsecond.
+ * A Republican microsecond is a whole number of normal nanoseconds (864), so converting an RInstant to an
+ * {@link Instant} and back gives the original value.
+ */
+public final class RInstant implements Comparable<RInstant> {
+
+    static final long NANOS_PER_MICRO = 1_000L;
+    static final long MICROS_PER_SECOND = RTime.NANOS_PER_SECOND / NANOS_PER_MICRO;
+    static final long MICROS_PER_DAY = RTime.NANOS_PER_DAY / NANOS_PER_MICRO;
+
+    /**
+     * The first instant of the Republican calendar (An 1 Vendemiaire 1 00:00 UTC).
+     */
+    public static final RInstant MIN = new RInstant(0);
+
+    /**
+     * The last instant which can be represented.
+     */
+    public static final RInstant MAX = new RInstant(Long.MAX_VALUE);
+
+    /**
+     * The number of Republican microseconds since An 1 Vendemiaire 1 00:00 UTC.
+     */
+    private final long micros;
+
+    /**
+     * Obtains an instance of RInstant from a number of Republican microseconds since An 1 Vendemiaire 1 00:00 UTC.
+     *
+     * @param micros the number of Republican microseconds, positive.
+     * @return the Republican instant.
+     * @throws RepublicanCalendarException if the number is negative.
+     */
+    public static RInstant ofMicros(long micros) {
+        if (micros < 0) {
+            throw new RepublicanCalendarException("Instant is before the start of the Republican calendar");
+        }
+        return new RInstant(micros);
+    }
+
+    /**
+     * Obtains an instance of RInstant from an {@link Instant}.
+     *
+     * @param instant the instant.
+     * @return the Republican instant, truncated to the Republican microsecond.
+     * @throws RepublicanCalendarException if the instant is before the start of the Republican calendar.
+     */
+    public static RInstant of(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        return ofEpochSecond(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * Obtains an instance of RInstant from a Republican local date and time at a given offset.
+     *
+     * @param dateTime the local date and time.
+     * @param offset   the zone offset of the date and time.
+     * @return the Republican instant, truncated to the Republican microsecond.
+     * @throws RepublicanCalendarException if the instant is before the start of the Republican calendar.
+     */
+    public static RInstant of(RDateTime dateTime, ZoneOffset offset) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        Objects.requireNonNull(offset, "offset");
+        if (offset.getTotalSeconds() == 0) {
+            // No normal time arithmetic needed for UTC.
+            long day = dateTime.toRDate().toEpochDay() - RDate.FIRST_EPOCH_DAY;
+            return new RInstant(day * MICROS_PER_DAY + dateTime.getNanoOfDay() / NANOS_PER_MICRO);
+        }
+        long gNanoOfDay = RTime.toGregorianNanoOfDay(dateTime.getNanoOfDay());
+        long epochSecond = dateTime.toRDate().toEpochDay() * RTime.SECONDS_PER_GREGORIAN_DAY
+                + gNanoOfDay / RTime.NANOS_PER_SECOND - offset.getTotalSeconds();
+        return ofEpochSecond(epochSecond, (int) (gNanoOfDay % RTime.NANOS_PER_SECOND));
+    }
+
+    private static RInstant ofEpochSecond(long epochSecond, int nanoOfSecond) {
+        long day = Math.floorDiv(epochSecond, RTime.SECONDS_PER_GREGORIAN_DAY) - RDate.FIRST_EPOCH_DAY;
+        if (day < 0) {
+            throw new RepublicanCalendarException("Instant is before the start of the Republican calendar");
+        }
+        long rNanoOfDay = RTime.toRepublicanNanoOfDay(epochSecond, nanoOfSecond);
+        return new RInstant(Math.addExact(Math.multiplyExact(day, MICROS_PER_DAY), rNanoOfDay / NANOS_PER_MICRO));
+    }
+
+    private RInstant(long micros) {
+        this.micros = micros;
+    }
+
+    /**
+     * Return the number of Republican microseconds since An 1 Vendemiaire 1 00:00 UTC.
+     *
+     * @return the number of microseconds.
+     */
+    public long getMicros() {
+        return micros;
+    }
+
+    /**
+     * Convert this Republican instant into an {@link Instant}.
+     *
+     * @return the instant.
+     */
+    public Instant toInstant() {
+        long epochDay = micros / MICROS_PER_DAY + RDate.FIRST_EPOCH_DAY;
+        long gNanoOfDay = RTime.toGregorianNanoOfDay(micros % MICROS_PER_DAY * NANOS_PER_MICRO);
+        return Instant.ofEpochSecond(epochDay * RTime.SECONDS_PER_GREGORIAN_DAY + gNanoOfDay / RTime.NANOS_PER_SECOND,
+                gNanoOfDay % RTime.NANOS_PER_SECOND);
+    }
+
+    /**
+     * Convert this Republican instant into a local date and time at a given offset.
+     *
+     * @param offset the zone offset.
+     * @return the local date and time.
+     * @throws RepublicanCalendarException if the local date is before the start of the Republican calendar.
+     */
+    public RDateTime toRDateTime(ZoneOffset offset) {
+        Objects.requireNonNull(offset, "offset");
+        if (offset.getTotalSeconds() == 0) {
+            RDate date = RDate.ofEpochDay(micros / MICROS_PER_DAY + RDate.FIRST_EPOCH_DAY);
+            return RDateTime.of(date, RTime.ofNanoOfDay(micros % MICROS_PER_DAY * NANOS_PER_MICRO));
+        }
+        Instant instant = toInstant();
+        return RDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
+    }
+
+    /**
+     * Return a copy of this instant shifted by the given number of Republican microseconds.
+     *
+     * @param microsToAdd the number of microseconds to add, may be negative.
+     * @return the new instant.
+     * @throws RepublicanCalendarException if the result is before the start of the Republican calendar.
+     * @throws ArithmeticException         if the result overflows.
+     */
+    public RInstant plusMicros(long microsToAdd) {
+        if (microsToAdd == 0) {
+            return this;
+        }
+        return ofMicros(Math.addExact(micros, microsToAdd));
+    }
+
+    /**
+     * Return a copy of this instant shifted by the given number of Republican (decimal) seconds.
+     *
+     * @param secondsToAdd the number of seconds to add, may be negative.
+     * @return the new instant.
+     * @throws RepublicanCalendarException if the result is before the start of the Republican calendar.
+     * @throws ArithmeticException         if the result overflows.
+     */
+    public RInstant plusSeconds(long secondsToAdd) {
+        return plusMicros(Math.multiplyExact(secondsToAdd, MICROS_PER_SECOND));
+    }
+
+    /**
+     * Return a copy of this instant shifted by the given number of days.
+     *
+     * @param daysToAdd the number of days to add, may be negative.
+     * @return the new instant.
+     * @throws RepublicanCalendarException if the result is before the start of the Republican calendar.
+     * @throws ArithmeticException         if the result overflows.
+     */
+    public RInstant plusDays(long daysToAdd) {
+        return plusMicros(Math.multiplyExact(daysToAdd, MICROS_PER_DAY));
+    }
+
+    /**
+     * Return a copy of this instant shifted back by the given number of Republican microseconds.
+     *
+     * @param microsToSubtract the number of microseconds to subtract, may be negative.
+     * @return the new instant.
+     * @throws RepublicanCalendarException if the result is before the start of the Republican calendar.
+     * @throws ArithmeticException         if the result overflows.
+     */
+    public RInstant minusMicros(long microsToSubtract) {
+        if (microsToSubtract == 0) {
+            return this;
+        }
+        return ofMicros(Math.subtractExact(micros, microsToSubtract));
+    }
+
+    /**
+     * Return the number of Republican microseconds between this instant and another one.
+     *
+     * @param end the end instant (exclusive).
+     * @return the number of microseconds, negative if the end is before this instant.
+     */
+    public long microsUntil(RInstant end) {
+        return end.micros - micros;
+    }
+
+    /**
+     * Indicates if this instant is before another one.
+     *
+     * @param other the other instant.
+     * @return true if this instant is strictly before the other one.
+     */
+    public boolean isBefore(RInstant other) {
+        return micros < other.micros;
+    }
+
+    /**
+     * Indicates if this instant is after another one.
+     *
+     * @param other the other instant.
+     * @return true if this instant is strictly after the other one.
+     */
+    public boolean isAfter(RInstant other) {
+        return micros > other.micros;
+    }
+
+    @Override
+    public int compareTo(RInstant other) {
+        return Long.compare(micros, other.micros);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return micros == ((RInstant) o).micros;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(micros);
+    }
+
+    @Override
+    public String toString() {
+        RDateTime dateTime = toRDateTime(ZoneOffset.UTC);
+        StringBuilder sb = new StringBuilder(48).append("RInstant{");
+        RFormatter.DATE.formatTo(dateTime, sb).append(' ');
+        return RFormatter.TIME.formatTo(dateTime, sb).append(" UTC}").toString();
+    }
+}
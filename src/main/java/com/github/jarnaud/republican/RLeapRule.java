@@ -0,0 +1,66 @@
+package com.github.jarnaud.republican;
+
+/**
+ * A rule defining the sextile (leap) years of the Republican calendar, and thus the first day of each year.
+ * <p>
+ * The rule used by the library ({@link RDate} validation, conversions and arithmetic) is chosen once, from the system
+ * property {@value #PROPERTY}: {@code romme} for {@link #ROMME} (the default), {@code continuous} for
+ * {@link #CONTINUOUS}, {@code equinox} for {@link #EQUINOX}, or the name of a class implementing this interface with a
+ * public no-argument constructor. The rule is global: a single rule is used by the whole JVM (class loader), so
+ * applications needing several conventions must load the library separately for each of them.
+ * <p>
+ * The first days of the commonly used years are precomputed in a table whatever the rule, so implementations only
+ * need to be consistent: {@code daysBeforeYear(1) == 0}, and each year lasts 366 days if sextile, 365 days otherwise.
+ * Implementations must be thread-safe.
+ */
+public interface RLeapRule {
+
+    /**
+     * The system property used to choose the rule.
+     */
+    String PROPERTY = "republican.leapRule";
+
+    /**
+     * The historical sextile years (An III, VII, XI and XV), then Romme's rule from An XX: every 4 years, except
+     * the centuries not divisible by 400 (as in the Gregorian calendar).
+     */
+    RLeapRule ROMME = RommeLeapRule.INSTANCE;
+
+    /**
+     * The historical sextile years continued every 4 years (An III, VII, XI, XV, XIX...): a year is sextile if the
+     * following year is a leap year of the Gregorian rule (so An 99 is not sextile, An 399 is).
+     */
+    RLeapRule CONTINUOUS = ContinuousLeapRule.INSTANCE;
+
+    /**
+     * The original rule of the calendar: each year starts on the day of the autumn equinox at the Paris Observatory
+     * (An III, VII, XI, XV, XX, XXIV... are sextile). The years are precomputed from An I to An 1208 (the range of
+     * the astronomical expressions used, up to the Gregorian year 3000), then follow Romme's rule.
+     */
+    RLeapRule EQUINOX = EquinoxLeapRule.INSTANCE;
+
+    /**
+     * Return the rule used by the library.
+     *
+     * @return the rule chosen by the system property {@value #PROPERTY}.
+     */
+    static RLeapRule getDefault() {
+        return YearStartTable.INSTANCE.getRule();
+    }
+
+    /**
+     * Indicates if a Republican year is sextile nor not.
+     *
+     * @param year the Republican year (positive).
+     * @return true if the year is sextile, false otherwise.
+     */
+    boolean isSextile(int year);
+
+    /**
+     * Return the number of days between An I Vendemiaire 1 and the first day of a given Republican year.
+     *
+     * @param year the Republican year (positive).
+     * @return the number of days before the year.
+     */
+    long daysBeforeYear(int year);
+}
@@ -1,5 +1,7 @@
 package com.github.jarnaud.republican;
 
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
 /**
  * A Republican month.
  */
@@ -28,6 +30,11 @@ public enum RMonth {
     // Special (complementary) days.
     Sanculottide(13, "Sanculottide");
 
+    /**
+     * Shared copy of the values (values() creates a new array on each call).
+     */
+    private static final RMonth[] VALUES = values();
+
     private final int month;
     private final String name;
 
@@ -36,6 +43,19 @@ public enum RMonth {
         this.name = name;
     }
 
+    /**
+     * Obtains an instance of RMonth from its number.
+     *
+     * @param month the month number, between 1 (for Vendemiaire) and 13 (for Sanculottide).
+     * @return the month.
+     */
+    public static RMonth of(int month) {
+        if (month < 1 || month > 13) {
+            throw new RepublicanCalendarException("Invalid month (must be between 1 and 13)");
+        }
+        return VALUES[month - 1];
+    }
+
     /**
      * Return the month number (eg. 1 for Vendemiaire, 12 for Fructidor, 13 for Sanculottide...)
      *
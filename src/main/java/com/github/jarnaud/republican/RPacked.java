@@ -0,0 +1,230 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+/**
+ * Codec packing Republican dates and times into primitive values, to store them in large {@code int[]}/{@code long[]}
+ * columns without any object per value.
+ * <p>
+ * The packed values sort in chronological order, and their fields can be read directly without unpacking:
+ * <ul>
+ * <li>a date is packed into an {@code int}: year (22 bits), month (4 bits) and day (5 bits).
+ * Only years up to {@link #MAX_YEAR} can be packed.</li>
+ * <li>a time is packed into a {@code long}: the Republican nanosecond of the day.</li>
+ * <li>a date and time is packed into a {@code long}: the packed date (high 32 bits) and the time of the day
+ * (low 32 bits) with a precision of {@link #DATE_TIME_NANO_PRECISION} Republican nanoseconds.</li>
+ * </ul>
+ */
+public final class RPacked {
+
+    /**
+     * The maximum year of a packed date.
+     */
+    public static final int MAX_YEAR = (1 << 22) - 1;
+
+    /**
+     * The precision of the time part of a packed date and time (in Republican nanoseconds).
+     * Nanoseconds below this precision are truncated when packing.
+     */
+    public static final long DATE_TIME_NANO_PRECISION = 100_000L;
+
+    private static final int YEAR_SHIFT = 9;
+    private static final int MONTH_SHIFT = 5;
+    private static final int MONTH_MASK = 0xF;
+    private static final int DAY_MASK = 0x1F;
+    private static final int DATE_SHIFT = 32;
+    private static final long TIME_MASK = 0xFFFF_FFFFL;
+
+    private RPacked() {
+    }
+
+    // Date.
+
+    /**
+     * Pack a Republican date into an int.
+     *
+     * @param date the date.
+     * @return the packed date.
+     * @throws RepublicanCalendarException if the year is above {@link #MAX_YEAR}.
+     */
+    public static int packDate(RDate date) {
+        return packDate(date.getYear(), date.getMonth().getMonth(), date.getDay());
+    }
+
+    /**
+     * Pack the fields of a (valid) Republican date into an int.
+     *
+     * @param year  the Republican year.
+     * @param month the Republican month number, between 1 and 13.
+     * @param day   the day of the month.
+     * @return the packed date.
+     * @throws RepublicanCalendarException if the year is above {@link #MAX_YEAR}.
+     */
+    static int packDate(int year, int month, int day) {
+        if (year > MAX_YEAR) {
+            throw new RepublicanCalendarException("Year is too large to be packed (max " + MAX_YEAR + ")");
+        }
+        return year << YEAR_SHIFT | month << MONTH_SHIFT | day;
+    }
+
+    /**
+     * Unpack a Republican date.
+     *
+     * @param packedDate the packed date.
+     * @return the date.
+     * @throws RepublicanCalendarException if the packed value is not a valid date.
+     */
+    public static RDate unpackDate(int packedDate) {
+        return RDate.of(dateYear(packedDate), dateMonth(packedDate), dateDay(packedDate));
+    }
+
+    /**
+     * Return the year of a packed date.
+     *
+     * @param packedDate the packed date.
+     * @return the Republican year.
+     */
+    public static int dateYear(int packedDate) {
+        return packedDate >>> YEAR_SHIFT;
+    }
+
+    /**
+     * Return the month of a packed date.
+     *
+     * @param packedDate the packed date.
+     * @return the Republican month number, between 1 and 13.
+     */
+    public static int dateMonth(int packedDate) {
+        return packedDate >>> MONTH_SHIFT & MONTH_MASK;
+    }
+
+    /**
+     * Return the day of month of a packed date.
+     *
+     * @param packedDate the packed date.
+     * @return the day of month, between 1 and 30.
+     */
+    public static int dateDay(int packedDate) {
+        return packedDate & DAY_MASK;
+    }
+
+    // Time.
+
+    /**
+     * Pack a Republican time into a long.
+     *
+     * @param time the time.
+     * @return the packed time.
+     */
+    public static long packTime(RTime time) {
+        return time.getNanoOfDay();
+    }
+
+    /**
+     * Unpack a Republican time.
+     *
+     * @param packedTime the packed time.
+     * @return the time.
+     * @throws RepublicanCalendarException if the packed value is not a valid time.
+     */
+    public static RTime unpackTime(long packedTime) {
+        return RTime.ofNanoOfDay(packedTime);
+    }
+
+    /**
+     * Return the hour of a packed time.
+     *
+     * @param packedTime the packed time.
+     * @return the hour, between 0 and 9.
+     */
+    public static int timeHour(long packedTime) {
+        return (int) (packedTime / RTime.NANOS_PER_HOUR);
+    }
+
+    /**
+     * Return the minute of a packed time.
+     *
+     * @param packedTime the packed time.
+     * @return the minute, between 0 and 99.
+     */
+    public static int timeMinute(long packedTime) {
+        return (int) (packedTime / RTime.NANOS_PER_MINUTE % RTime.MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Return the second of a packed time.
+     *
+     * @param packedTime the packed time.
+     * @return the second, between 0 and 99.
+     */
+    public static int timeSecond(long packedTime) {
+        return (int) (packedTime / RTime.NANOS_PER_SECOND % RTime.SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Return the nanosecond of a packed time.
+     *
+     * @param packedTime the packed time.
+     * @return the nanosecond, between 0 and 999,999,999.
+     */
+    public static int timeNano(long packedTime) {
+        return (int) (packedTime % RTime.NANOS_PER_SECOND);
+    }
+
+    // Date and time.
+
+    /**
+     * Pack a Republican date and time into a long.
+     * The nanoseconds are truncated to the {@link #DATE_TIME_NANO_PRECISION}.
+     *
+     * @param dateTime the date and time.
+     * @return the packed date and time.
+     * @throws RepublicanCalendarException if the year is above {@link #MAX_YEAR}.
+     */
+    public static long packDateTime(RDateTime dateTime) {
+        return packDateTime(packDate(dateTime.getYear(), dateTime.getMonth().getMonth(), dateTime.getDay()),
+                dateTime.getNanoOfDay());
+    }
+
+    /**
+     * Pack a packed date and a Republican nanosecond of the day into a long.
+     *
+     * @param packedDate the packed date.
+     * @param nanoOfDay  the Republican nanosecond of the day.
+     * @return the packed date and time.
+     */
+    static long packDateTime(int packedDate, long nanoOfDay) {
+        return (long) packedDate << DATE_SHIFT | nanoOfDay / DATE_TIME_NANO_PRECISION;
+    }
+
+    /**
+     * Unpack a Republican date and time.
+     *
+     * @param packedDateTime the packed date and time.
+     * @return the date and time.
+     * @throws RepublicanCalendarException if the packed value is not a valid date and time.
+     */
+    public static RDateTime unpackDateTime(long packedDateTime) {
+        return RDateTime.of(unpackDate(dateTimeDate(packedDateTime)), unpackTime(dateTimeTime(packedDateTime)));
+    }
+
+    /**
+     * Return the date part of a packed date and time.
+     *
+     * @param packedDateTime the packed date and time.
+     * @return the packed date, which fields can be read with the date accessors (eg. {@link #dateYear(int)}).
+     */
+    public static int dateTimeDate(long packedDateTime) {
+        return (int) (packedDateTime >>> DATE_SHIFT);
+    }
+
+    /**
+     * Return the time part of a packed date and time.
+     *
+     * @param packedDateTime the packed date and time.
+     * @return the packed time, which fields can be read with the time accessors (eg. {@link #timeHour(long)}).
+     */
+    public static long dateTimeTime(long packedDateTime) {
+        return (packedDateTime & TIME_MASK) * DATE_TIME_NANO_PRECISION;
+    }
+}
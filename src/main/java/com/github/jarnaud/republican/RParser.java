@@ -0,0 +1,610 @@
+package com.github.jarnaud.republican;
+
+import java.text.ParsePosition;
+
+/**
+ * Parser of Republican dates and times, reading from a {@link CharSequence} or a byte range.
+ * <p>
+ * The accepted forms are:
+ * <ul>
+ * <li>dates: the {@link RDate#toString()} form (eg. {@code An 12 Nivose 3}) and the archival form
+ * (eg. {@code 3 Nivôse an XII}, {@code 1er Vendémiaire an II}). Years can be numbers or Roman numerals, month names
+ * are case-insensitive, with or without accents.</li>
+ * <li>times: the {@link RTime#toString()} form (eg. {@code 4h63m87s0}), the nanoseconds being optional.</li>
+ * <li>dates and times: the {@link RDateTime#toString()} form, or a date followed by a time.</li>
+ * </ul>
+ * Bytes are read as UTF-8 (or ISO-8859-1 for the accented characters which are not valid UTF-8).
+ * <p>
+ * The parsing starts at the index of the given {@link ParsePosition}. On success, the index is updated to the first
+ * character after the parsed text. On failure, the index is not changed, the error index is set to the position
+ * of the error and a failure value is returned: no exception is thrown, and nothing is allocated
+ * (when parsing into primitive values), to parse large volumes of records.
+ */
+public final class RParser {
+
+    /**
+     * The value returned by the primitive parse methods on failure.
+     */
+    public static final int FAILURE = -1;
+
+    private static final int CHAR_MASK = 0xFFFF;
+    private static final int WIDTH_SHIFT = 16;
+
+    private static final int MAX_YEAR_DIGITS = 7;
+    private static final int MAX_ROMAN_YEAR_LENGTH = 16;
+
+    private static final String DATE_TIME_PREFIX = "RDateTime{date=";
+    private static final String DATE_TIME_SEPARATOR = ", time=";
+
+    private RParser() {
+    }
+
+    // Dates.
+
+    /**
+     * Parse a Republican date into a packed date (see {@link RPacked}).
+     *
+     * @param text     the text.
+     * @param position the parse position.
+     * @return the packed date, or {@link #FAILURE}.
+     */
+    public static int parsePackedDate(CharSequence text, ParsePosition position) {
+        return packedDate(text, null, text.length(), position);
+    }
+
+    /**
+     * Parse a Republican date into a packed date (see {@link RPacked}).
+     *
+     * @param text     the text bytes.
+     * @param end      the index after the last byte which can be read.
+     * @param position the parse position.
+     * @return the packed date, or {@link #FAILURE}.
+     */
+    public static int parsePackedDate(byte[] text, int end, ParsePosition position) {
+        return packedDate(null, text, end, position);
+    }
+
+    /**
+     * Parse a Republican date.
+     *
+     * @param text     the text.
+     * @param position the parse position.
+     * @return the date, or null if the text is not a valid date.
+     */
+    public static RDate parseDate(CharSequence text, ParsePosition position) {
+        int packed = parsePackedDate(text, position);
+        return packed == FAILURE ? null : RPacked.unpackDate(packed);
+    }
+
+    /**
+     * Parse a Republican date.
+     *
+     * @param text     the text bytes.
+     * @param end      the index after the last byte which can be read.
+     * @param position the parse position.
+     * @return the date, or null if the text is not a valid date.
+     */
+    public static RDate parseDate(byte[] text, int end, ParsePosition position) {
+        int packed = parsePackedDate(text, end, position);
+        return packed == FAILURE ? null : RPacked.unpackDate(packed);
+    }
+
+    // Times.
+
+    /**
+     * Parse a Republican time into its nano of the day.
+     *
+     * @param text     the text.
+     * @param position the parse position.
+     * @return the nano of the day, or {@link #FAILURE}.
+     */
+    public static long parseNanoOfDay(CharSequence text, ParsePosition position) {
+        return nanoOfDay(text, null, text.length(), position);
+    }
+
+    /**
+     * Parse a Republican time into its nano of the day.
+     *
+     * @param text     the text bytes.
+     * @param end      the index after the last byte which can be read.
+     * @param position the parse position.
+     * @return the nano of the day, or {@link #FAILURE}.
+     */
+    public static long parseNanoOfDay(byte[] text, int end, ParsePosition position) {
+        return nanoOfDay(null, text, end, position);
+    }
+
+    /**
+     * Parse a Republican time.
+     *
+     * @param text     the text.
+     * @param position the parse position.
+     * @return the time, or null if the text is not a valid time.
+     */
+    public static RTime parseTime(CharSequence text, ParsePosition position) {
+        long nanoOfDay = parseNanoOfDay(text, position);
+        return nanoOfDay == FAILURE ? null : RTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    /**
+     * Parse a Republican time.
+     *
+     * @param text     the text bytes.
+     * @param end      the index after the last byte which can be read.
+     * @param position the parse position.
+     * @return the time, or null if the text is not a valid time.
+     */
+    public static RTime parseTime(byte[] text, int end, ParsePosition position) {
+        long nanoOfDay = parseNanoOfDay(text, end, position);
+        return nanoOfDay == FAILURE ? null : RTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    // Dates and times.
+
+    /**
+     * Parse a Republican date and time.
+     *
+     * @param text     the text.
+     * @param position the parse position.
+     * @return the date and time, or null if the text is not a valid date and time.
+     */
+    public static RDateTime parseDateTime(CharSequence text, ParsePosition position) {
+        return dateTime(text, null, text.length(), position);
+    }
+
+    /**
+     * Parse a Republican date and time.
+     *
+     * @param text     the text bytes.
+     * @param end      the index after the last byte which can be read.
+     * @param position the parse position.
+     * @return the date and time, or null if the text is not a valid date and time.
+     */
+    public static RDateTime parseDateTime(byte[] text, int end, ParsePosition position) {
+        return dateTime(null, text, end, position);
+    }
+
+    // Implementation: the text is read either from a CharSequence or from bytes (the other one being null).
+
+    private static int packedDate(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int start = position.getIndex();
+        int packed = date(cs, bs, end, position);
+        if (packed == FAILURE) {
+            position.setIndex(start);
+        } else {
+            position.setErrorIndex(-1);
+        }
+        return packed;
+    }
+
+    private static long nanoOfDay(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int start = position.getIndex();
+        long nanoOfDay = time(cs, bs, end, position);
+        if (nanoOfDay == FAILURE) {
+            position.setIndex(start);
+        } else {
+            position.setErrorIndex(-1);
+        }
+        return nanoOfDay;
+    }
+
+    private static RDateTime dateTime(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int start = position.getIndex();
+        boolean toStringForm = keyword(cs, bs, end, position, DATE_TIME_PREFIX);
+        int packedDate = date(cs, bs, end, position);
+        if (packedDate != FAILURE) {
+            boolean separator = toStringForm
+                    ? keyword(cs, bs, end, position, DATE_TIME_SEPARATOR)
+                    : spaces(cs, bs, end, position);
+            if (separator) {
+                long nanoOfDay = time(cs, bs, end, position);
+                if (nanoOfDay != FAILURE && (!toStringForm || keyword(cs, bs, end, position, "}"))) {
+                    position.setErrorIndex(-1);
+                    return RDateTime.of(RPacked.unpackDate(packedDate), RTime.ofNanoOfDay(nanoOfDay));
+                }
+            }
+        }
+        position.setIndex(start);
+        return null;
+    }
+
+    /**
+     * Parse a date, in the "An 12 Nivose 3" or "3 Nivôse an XII" forms.
+     */
+    private static int date(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int start = position.getIndex();
+        if (start >= end) {
+            return fail(position, start);
+        }
+        int year;
+        int month;
+        int day;
+        int dayIndex;
+        if (isDigit(charAt(cs, bs, start, end) & CHAR_MASK)) {
+            dayIndex = start;
+            day = number(cs, bs, end, position, 2);
+            if (day == FAILURE) {
+                return FAILURE;
+            }
+            keyword(cs, bs, end, position, "er");
+            if (!spaces(cs, bs, end, position)
+                    || (month = month(cs, bs, end, position)) == FAILURE
+                    || !spaces(cs, bs, end, position)
+                    || !keyword(cs, bs, end, position, "an")
+                    || !spaces(cs, bs, end, position)
+                    || (year = year(cs, bs, end, position)) == FAILURE) {
+                return FAILURE;
+            }
+        } else {
+            if (!keyword(cs, bs, end, position, "an")
+                    || !spaces(cs, bs, end, position)
+                    || (year = year(cs, bs, end, position)) == FAILURE
+                    || !spaces(cs, bs, end, position)
+                    || (month = month(cs, bs, end, position)) == FAILURE
+                    || !spaces(cs, bs, end, position)) {
+                return FAILURE;
+            }
+            dayIndex = position.getIndex();
+            day = number(cs, bs, end, position, 2);
+            if (day == FAILURE) {
+                return FAILURE;
+            }
+        }
+        if (day < 1 || day > RDate.lengthOfMonth(year, month)) {
+            return fail(position, dayIndex);
+        }
+        return RPacked.packDate(year, month, day);
+    }
+
+    /**
+     * Parse a time, in the "4h63m87s0" form.
+     */
+    private static long time(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int hour = number(cs, bs, end, position, 1);
+        if (hour == FAILURE || !keyword(cs, bs, end, position, "h")) {
+            return FAILURE;
+        }
+        int minute = number(cs, bs, end, position, 2);
+        if (minute == FAILURE || !keyword(cs, bs, end, position, "m")) {
+            return FAILURE;
+        }
+        int second = number(cs, bs, end, position, 2);
+        if (second == FAILURE || !keyword(cs, bs, end, position, "s")) {
+            return FAILURE;
+        }
+        int nano = 0;
+        int index = position.getIndex();
+        if (index < end && isDigit(charAt(cs, bs, index, end) & CHAR_MASK)) {
+            nano = number(cs, bs, end, position, 9);
+            if (nano == FAILURE) {
+                return FAILURE;
+            }
+        }
+        return hour * RTime.NANOS_PER_HOUR + minute * RTime.NANOS_PER_MINUTE + second * RTime.NANOS_PER_SECOND + nano;
+    }
+
+    /**
+     * Parse a year, as a number or in Roman numerals.
+     */
+    private static int year(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int start = position.getIndex();
+        if (start >= end) {
+            return fail(position, start);
+        }
+        int year;
+        if (isDigit(charAt(cs, bs, start, end) & CHAR_MASK)) {
+            year = number(cs, bs, end, position, MAX_YEAR_DIGITS);
+        } else {
+            year = romanNumber(cs, bs, end, position);
+        }
+        if (year == FAILURE) {
+            return FAILURE;
+        }
+        if (year < 1 || year > RPacked.MAX_YEAR) {
+            return fail(position, start);
+        }
+        return year;
+    }
+
+    /**
+     * Parse a positive number of at most the given number of digits, which must not be followed by another digit.
+     */
+    private static int number(CharSequence cs, byte[] bs, int end, ParsePosition position, int maxDigits) {
+        int start = position.getIndex();
+        int index = start;
+        int value = 0;
+        while (index < end && isDigit(charAt(cs, bs, index, end) & CHAR_MASK)) {
+            if (index - start == maxDigits) {
+                return fail(position, index);
+            }
+            value = value * 10 + (charAt(cs, bs, index, end) & CHAR_MASK) - '0';
+            index++;
+        }
+        if (index == start) {
+            return fail(position, start);
+        }
+        position.setIndex(index);
+        return value;
+    }
+
+    /**
+     * Parse a number in Roman numerals (uppercase or lowercase), which must not be followed by another letter.
+     * Only the canonical form written by {@link RFormatter} is accepted (eg. IV and XCIX, not IIII or IC).
+     */
+    private static int romanNumber(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int start = position.getIndex();
+        int index = start;
+        int value = 0;
+        int previous = Integer.MAX_VALUE;
+        while (index < end) {
+            int digit = romanDigit(charAt(cs, bs, index, end) & CHAR_MASK);
+            if (digit == 0) {
+                break;
+            }
+            if (index - start == MAX_ROMAN_YEAR_LENGTH) {
+                return fail(position, index);
+            }
+            // A smaller digit before a larger one is subtracted (eg. IX): it was added, so remove it twice.
+            value += digit > previous ? digit - 2 * previous : digit;
+            previous = digit;
+            index++;
+        }
+        if (index == start || (index < end && fold(charAt(cs, bs, index, end) & CHAR_MASK) > 0)) {
+            return fail(position, index);
+        }
+        if (value > RFormatter.RomanYear.MAX_YEAR || !isCanonicalRoman(cs, bs, start, index, end, value)) {
+            return fail(position, start);
+        }
+        position.setIndex(index);
+        return value;
+    }
+
+    /**
+     * Indicates if the Roman numerals between start and romanEnd are the ones written by the formatter for the value
+     * (ignoring the case).
+     */
+    private static boolean isCanonicalRoman(CharSequence cs, byte[] bs, int start, int romanEnd, int end, int value) {
+        int index = start;
+        for (int i = 0; i < RFormatter.RomanYear.VALUES.length; i++) {
+            String symbol = RFormatter.RomanYear.SYMBOLS[i];
+            for (; value >= RFormatter.RomanYear.VALUES[i]; value -= RFormatter.RomanYear.VALUES[i]) {
+                for (int j = 0; j < symbol.length(); j++) {
+                    // Roman digits are ASCII letters: clearing the lowercase bit gives the uppercase letter.
+                    if (index == romanEnd || (charAt(cs, bs, index, end) & CHAR_MASK & ~0x20) != symbol.charAt(j)) {
+                        return false;
+                    }
+                    index++;
+                }
+            }
+        }
+        return index == romanEnd;
+    }
+
+    private static int romanDigit(int c) {
+        switch (c) {
+            case 'I':
+            case 'i':
+                return 1;
+            case 'V':
+            case 'v':
+                return 5;
+            case 'X':
+            case 'x':
+                return 10;
+            case 'L':
+            case 'l':
+                return 50;
+            case 'C':
+            case 'c':
+                return 100;
+            case 'D':
+            case 'd':
+                return 500;
+            case 'M':
+            case 'm':
+                return 1000;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Parse a month name, looked up in the month table.
+     */
+    private static int month(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int start = position.getIndex();
+        int index = start;
+        int hash = 0;
+        int length = 0;
+        while (index < end) {
+            int c = charAt(cs, bs, index, end);
+            int folded = fold(c & CHAR_MASK);
+            if (folded < 0) {
+                break;
+            }
+            if (folded > 0) {
+                hash = MonthTable.hash(hash, folded);
+                length++;
+            }
+            index += c >>> WIDTH_SHIFT;
+        }
+        int month = MonthTable.lookup(cs, bs, start, end, hash, length);
+        if (month == FAILURE) {
+            return fail(position, start);
+        }
+        position.setIndex(index);
+        return month;
+    }
+
+    /**
+     * Parse the given keyword (case-insensitive).
+     */
+    private static boolean keyword(CharSequence cs, byte[] bs, int end, ParsePosition position, String keyword) {
+        int start = position.getIndex();
+        if (keyword.length() > end - start) {
+            position.setErrorIndex(start);
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (Character.toLowerCase(charAt(cs, bs, start + i, end) & CHAR_MASK) != Character.toLowerCase(keyword.charAt(i))) {
+                position.setErrorIndex(start + i);
+                return false;
+            }
+        }
+        position.setIndex(start + keyword.length());
+        return true;
+    }
+
+    /**
+     * Parse at least one space (or tab).
+     */
+    private static boolean spaces(CharSequence cs, byte[] bs, int end, ParsePosition position) {
+        int start = position.getIndex();
+        int index = start;
+        while (index < end && isSpace(charAt(cs, bs, index, end) & CHAR_MASK)) {
+            index++;
+        }
+        if (index == start) {
+            position.setErrorIndex(start);
+            return false;
+        }
+        position.setIndex(index);
+        return true;
+    }
+
+    private static int fail(ParsePosition position, int errorIndex) {
+        position.setErrorIndex(errorIndex);
+        return FAILURE;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpace(int c) {
+        return c == ' ' || c == '\t' || c == '\u00a0';
+    }
+
+    /**
+     * Return the character at the given index, with its width (in chars or bytes) in the high bits.
+     * Bytes are decoded as UTF-8 for 2-bytes sequences (which includes the French accented letters), and as
+     * ISO-8859-1 otherwise.
+     */
+    private static int charAt(CharSequence cs, byte[] bs, int index, int end) {
+        if (cs != null) {
+            return cs.charAt(index) | 1 << WIDTH_SHIFT;
+        }
+        int b = bs[index] & 0xFF;
+        if ((b & 0xE0) == 0xC0 && index + 1 < end && (bs[index + 1] & 0xC0) == 0x80) {
+            return ((b & 0x1F) << 6 | (bs[index + 1] & 0x3F)) | 2 << WIDTH_SHIFT;
+        }
+        return b | 1 << WIDTH_SHIFT;
+    }
+
+    /**
+     * Fold a letter of a month name to lowercase without accent.
+     *
+     * @return the folded letter, 0 for a character to ignore (hyphen), or -1 if this is not part of a name.
+     */
+    private static int fold(int c) {
+        if (c >= 'a' && c <= 'z') {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c + ('a' - 'A');
+        }
+        switch (Character.toLowerCase((char) c)) {
+            case '-':
+                return 0;
+            case '\u00e0': // à
+            case '\u00e2': // â
+            case '\u00e4': // ä
+                return 'a';
+            case '\u00e7': // ç
+                return 'c';
+            case '\u00e8': // è
+            case '\u00e9': // é
+            case '\u00ea': // ê
+            case '\u00eb': // ë
+                return 'e';
+            case '\u00ee': // î
+            case '\u00ef': // ï
+                return 'i';
+            case '\u00f4': // ô
+            case '\u00f6': // ö
+                return 'o';
+            case '\u00f9': // ù
+            case '\u00fb': // û
+            case '\u00fc': // ü
+                return 'u';
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Open addressing hash table of the folded month names (including usual spelling variants).
+     */
+    private static final class MonthTable {
+
+        private static final int SIZE = 64; // power of 2, at least twice the number of names.
+        private static final int MASK = SIZE - 1;
+
+        private static final String[] KEYS = new String[SIZE];
+        private static final int[] HASHES = new int[SIZE];
+        private static final int[] MONTHS = new int[SIZE];
+
+        static {
+            for (RMonth month : RMonth.values()) {
+                put(month.getName().toLowerCase(), month.getMonth());
+            }
+            put("sanculottides", RMonth.Sanculottide.getMonth());
+            put("sansculottide", RMonth.Sanculottide.getMonth());
+            put("sansculottides", RMonth.Sanculottide.getMonth());
+        }
+
+        private static void put(String key, int month) {
+            int hash = 0;
+            for (int i = 0; i < key.length(); i++) {
+                hash = hash(hash, key.charAt(i));
+            }
+            int slot = hash & MASK;
+            while (KEYS[slot] != null) {
+                slot = (slot + 1) & MASK;
+            }
+            KEYS[slot] = key;
+            HASHES[slot] = hash;
+            MONTHS[slot] = month;
+        }
+
+        static int hash(int hash, int foldedChar) {
+            return hash * 31 + foldedChar;
+        }
+
+        /**
+         * Find the month of the name read between start and end, given its hash and folded length.
+         */
+        static int lookup(CharSequence cs, byte[] bs, int start, int end, int hash, int length) {
+            if (length == 0) {
+                return FAILURE;
+            }
+            for (int slot = hash & MASK; KEYS[slot] != null; slot = (slot + 1) & MASK) {
+                if (HASHES[slot] == hash && KEYS[slot].length() == length && matches(KEYS[slot], cs, bs, start, end)) {
+                    return MONTHS[slot];
+                }
+            }
+            return FAILURE;
+        }
+
+        private static boolean matches(String key, CharSequence cs, byte[] bs, int start, int end) {
+            int index = start;
+            for (int i = 0; i < key.length(); index += charAt(cs, bs, index, end) >>> WIDTH_SHIFT) {
+                int folded = fold(charAt(cs, bs, index, end) & CHAR_MASK);
+                if (folded > 0 && folded != key.charAt(i++)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.jarnaud.republican;
+
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAdjuster;
+import java.util.function.UnaryOperator;
+
+/**
+ * Adjusters of the Republican calendar (decades and special days), to use with {@link RDate#with(TemporalAdjuster)}.
+ * <p>
+ * Republican dates are adjusted from their year, month and day only (no conversion through the Gregorian calendar).
+ * Other temporal objects (eg. {@link java.time.LocalDate}) are converted to a Republican date, then adjusted through
+ * the epoch day.
+ */
+public final class RTemporalAdjusters {
+
+    private static final int LAST_DECADI = 12 * RDate.DAYS_PER_MONTH;
+
+    private static final TemporalAdjuster NEXT_DECADI = adjuster(date -> {
+        int decadi = (date.getDayOfYear() / 10 + 1) * 10;
+        if (decadi > LAST_DECADI) {
+            return RDate.of(date.getYear() + 1, RMonth.Vendemiaire, 10);
+        }
+        return RDate.of(date.getYear(), 1 + (decadi - 1) / RDate.DAYS_PER_MONTH, 1 + (decadi - 1) % RDate.DAYS_PER_MONTH);
+    });
+
+    private static final TemporalAdjuster FIRST_DAY_OF_DECADE = adjuster(date ->
+            RDate.of(date.getYear(), date.getMonth(), date.getDay() - date.getDayOfDecade() + 1));
+
+    private static final TemporalAdjuster LAST_DAY_OF_MONTH = adjuster(date ->
+            RDate.of(date.getYear(), date.getMonth(), date.lengthOfMonth()));
+
+    private static final TemporalAdjuster FIRST_SANCULOTTIDE = adjuster(date ->
+            RDate.of(date.getYear(), RMonth.Sanculottide, 1));
+
+    private RTemporalAdjusters() {
+    }
+
+    /**
+     * Return an adjuster to the next Decadi (the last day of a decade), strictly after the date.
+     * After the last Decadi of a year (30 Fructidor), the next one is 10 Vendemiaire of the following year.
+     *
+     * @return the adjuster.
+     */
+    public static TemporalAdjuster nextDecadi() {
+        return NEXT_DECADI;
+    }
+
+    /**
+     * Return an adjuster to the first day of the decade (Primidi).
+     * The special days (Sanculottide) are adjusted to the first special day.
+     *
+     * @return the adjuster.
+     */
+    public static TemporalAdjuster firstDayOfDecade() {
+        return FIRST_DAY_OF_DECADE;
+    }
+
+    /**
+     * Return an adjuster to the last day of the month (30, or the last special day for Sanculottide).
+     *
+     * @return the adjuster.
+     */
+    public static TemporalAdjuster lastDayOfMonth() {
+        return LAST_DAY_OF_MONTH;
+    }
+
+    /**
+     * Return an adjuster to the first special day (Sanculottide 1) of the year.
+     *
+     * @return the adjuster.
+     */
+    public static TemporalAdjuster firstSanculottide() {
+        return FIRST_SANCULOTTIDE;
+    }
+
+    /**
+     * Create an adjuster from an adjustment of Republican dates.
+     *
+     * @param adjustment the adjustment.
+     * @return the adjuster.
+     */
+    private static TemporalAdjuster adjuster(UnaryOperator<RDate> adjustment) {
+        return temporal -> {
+            if (temporal instanceof RDate) {
+                return adjustment.apply((RDate) temporal);
+            }
+            return temporal.with(ChronoField.EPOCH_DAY, adjustment.apply(RDate.from(temporal)).toEpochDay());
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.jarnaud.republican;
+
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * Queries of the Republican calendar (decades), to use with {@link TemporalAccessor#query(TemporalQuery)}.
+ * <p>
+ * Republican dates are queried from their month and day only. Other temporal objects (eg.
+ * {@link java.time.LocalDate}) are converted to a Republican date first.
+ */
+public final class RTemporalQueries {
+
+    private static final TemporalQuery<Integer> DAY_OF_DECADE = temporal -> toRDate(temporal).getDayOfDecade();
+    private static final TemporalQuery<Integer> DECADE_OF_YEAR = temporal -> toRDate(temporal).getDecadeOfYear();
+
+    private RTemporalQueries() {
+    }
+
+    /**
+     * Return a query of the day of the decade (see {@link RDate#getDayOfDecade()}).
+     *
+     * @return the query of the day of the decade, between 1 and 10 (between 1 and 6 for special days).
+     */
+    public static TemporalQuery<Integer> dayOfDecade() {
+        return DAY_OF_DECADE;
+    }
+
+    /**
+     * Return a query of the decade of the year (see {@link RDate#getDecadeOfYear()}).
+     *
+     * @return the query of the decade of the year, between 1 and 37 (37 for special days).
+     */
+    public static TemporalQuery<Integer> decadeOfYear() {
+        return DECADE_OF_YEAR;
+    }
+
+    private static RDate toRDate(TemporalAccessor temporal) {
+        return temporal instanceof RDate ? (RDate) temporal : RDate.from(temporal);
+    }
+}
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 
 import java.time.*;
 import java.time.temporal.*;
+import java.time.zone.ZoneRules;
 import java.util.Objects;
 
 /**
@@ -15,8 +16,11 @@ import java.util.Objects;
  * <p>
  * To facilitate conversion with regular time we still use the Greenwich meantime as reference
  * for the Republican time (instead of historically used Paris meantime).
+ * <p>
+ * The time fields ({@link ChronoField#HOUR_OF_DAY}, {@link ChronoField#NANO_OF_DAY}...) are decimal, and the time is
+ * shifted with the decimal units of {@link RChronoUnit} (wrapping around midnight).
  */
-public final class RTime implements Comparable<RTime>, TemporalAccessor {
+public final class RTime implements Comparable<RTime>, Temporal {
 
     static final int HOURS_PER_DAY = 10;
     static final int MINUTES_PER_HOUR = 100;
@@ -28,6 +32,11 @@ public final class RTime implements Comparable<RTime>, TemporalAccessor {
     static final long NANOS_PER_HOUR = NANOS_PER_SECOND * SECONDS_PER_HOUR;
     static final long NANOS_PER_DAY = NANOS_PER_SECOND * SECONDS_PER_DAY;
 
+    /**
+     * The number of (Gregorian) seconds in a day.
+     */
+    public static final long SECONDS_PER_GREGORIAN_DAY = 86_400L;
+
     /**
      * The minimum valid time (0h0m0s0n).
      */
@@ -39,11 +48,15 @@ public final class RTime implements Comparable<RTime>, TemporalAccessor {
     public static final RTime MAX = ofNanoOfDay(NANOS_PER_DAY - 1);
 
     /**
-     * One Republican second is 13.6% shorter than a Gregorian second.
+     * One Republican second is 13.6% shorter than a Gregorian second: the ratio is exactly 108/125 (0.864).
+     */
+    static final long RG_RATIO_NUMERATOR = 108;
+    static final long RG_RATIO_DENOMINATOR = 125;
+
+    /**
+     * The last fixed-offset zone given as a region id (eg. {@code UTC}, {@code Etc/GMT+1}) and its offset.
      */
-    static final double RG_SECOND_RATIO = 0.864;
-    static final double RG_MINUTE_RATIO = 1.44;
-    static final double RG_HOUR_RATIO = 2.4;
+    private static volatile FixedOffset lastFixedOffset;
 
     private final byte hour;
     private final byte minute;
@@ -81,16 +94,76 @@ public final class RTime implements Comparable<RTime>, TemporalAccessor {
         return ofInstant(now, clock.getZone());
     }
 
-    private static RTime ofInstant(Instant instant, ZoneId zoneId) {
+    /**
+     * Obtains an instance of RTime representing the local time of an instant in a given zone.
+     *
+     * @param instant the instant.
+     * @param zoneId  the zone.
+     * @return the Republican time.
+     */
+    public static RTime ofInstant(Instant instant, ZoneId zoneId) {
         Objects.requireNonNull(instant, "instant");
         Objects.requireNonNull(zoneId, "zoneId");
-        ZoneOffset offset = zoneId.getRules().getOffset(instant);
+        long localSecond = instant.getEpochSecond() + offsetOf(zoneId, instant).getTotalSeconds();
+        return ofNanoOfDay(toRepublicanNanoOfDay(localSecond, instant.getNano()));
+    }
+
+    /**
+     * Return the offset of a zone at a given instant.
+     * The rules lookup is skipped for zone offsets, and for the last fixed-offset region zone (which is cached).
+     *
+     * @param zoneId  the zone.
+     * @param instant the instant.
+     * @return the offset.
+     */
+    static ZoneOffset offsetOf(ZoneId zoneId, Instant instant) {
+        if (zoneId instanceof ZoneOffset) {
+            return (ZoneOffset) zoneId;
+        }
+        FixedOffset fixed = lastFixedOffset;
+        if (fixed != null && fixed.zoneId.equals(zoneId)) {
+            return fixed.offset;
+        }
+        ZoneRules rules = zoneId.getRules();
+        ZoneOffset offset = rules.getOffset(instant);
+        if (rules.isFixedOffset()) {
+            lastFixedOffset = new FixedOffset(zoneId, offset);
+        }
+        return offset;
+    }
+
+    /**
+     * Obtains a Republican time from a temporal object: a Republican time or date and time, or a temporal object
+     * with a normal local time (eg. {@link LocalTime} or {@link LocalDateTime}), which is converted.
+     *
+     * @param temporal the temporal object.
+     * @return the Republican time.
+     * @throws DateTimeException if the temporal object has no time.
+     */
+    public static RTime from(TemporalAccessor temporal) {
+        if (temporal instanceof RTime) {
+            return (RTime) temporal;
+        }
+        if (temporal instanceof RDateTime) {
+            return ((RDateTime) temporal).toRTime();
+        }
+        LocalTime localTime = temporal.query(TemporalQueries.localTime());
+        if (localTime == null) {
+            throw new DateTimeException("Unable to obtain RTime from " + temporal);
+        }
+        return of(localTime);
+    }
 
-        long localSecond = instant.getEpochSecond() + offset.getTotalSeconds();
-        long gSecOfDay = localSecond % 86_400L; // Seconds per day in Gregorian calendar.
-        long gNanoOfDay = gSecOfDay * NANOS_PER_SECOND + instant.getNano();
-        long rNanoOfDay = (long) (gNanoOfDay / RG_SECOND_RATIO);
-        return ofNanoOfDay(rNanoOfDay);
+    /**
+     * Convert a local epoch second and a nano of the second into a Republican nano of the day.
+     *
+     * @param localSecond  the local epoch second (ie. number of seconds since 1970-01-01T00:00 in local time).
+     * @param nanoOfSecond the normal nano of the second.
+     * @return the Republican nano of the day.
+     */
+    static long toRepublicanNanoOfDay(long localSecond, int nanoOfSecond) {
+        long gSecOfDay = Math.floorMod(localSecond, SECONDS_PER_GREGORIAN_DAY);
+        return toRepublicanNanoOfDay(gSecOfDay * NANOS_PER_SECOND + nanoOfSecond);
     }
 
     /**
@@ -120,9 +193,30 @@ public final class RTime implements Comparable<RTime>, TemporalAccessor {
      * @return the Republican (decimal) time.
      */
     public static RTime of(LocalTime localTime) {
-        long gnano = localTime.toNanoOfDay();
-        long rnano = (long) (gnano / RG_SECOND_RATIO);
-        return ofNanoOfDay(rnano);
+        return ofNanoOfDay(toRepublicanNanoOfDay(localTime.toNanoOfDay()));
+    }
+
+    /**
+     * Convert a normal nanosecond of the day into a Republican (decimal) nanosecond of the day.
+     * The result is rounded up, so that converting it back with {@link #toGregorianNanoOfDay(long)} gives the original
+     * value (and the last nanosecond of the day stays in the day).
+     *
+     * @param gNanoOfDay the normal nanosecond of the day, between 0 and 86,399,999,999,999 (not checked).
+     * @return the Republican nanosecond of the day.
+     */
+    static long toRepublicanNanoOfDay(long gNanoOfDay) {
+        return (gNanoOfDay * RG_RATIO_DENOMINATOR + RG_RATIO_NUMERATOR - 1) / RG_RATIO_NUMERATOR;
+    }
+
+    /**
+     * Convert a Republican (decimal) nanosecond of the day into a normal nanosecond of the day.
+     * The result is rounded down (a normal nanosecond is longer than a Republican one).
+     *
+     * @param rNanoOfDay the Republican nanosecond of the day, between 0 and {@link #NANOS_PER_DAY} (not checked).
+     * @return the normal nanosecond of the day.
+     */
+    static long toGregorianNanoOfDay(long rNanoOfDay) {
+        return rNanoOfDay * RG_RATIO_NUMERATOR / RG_RATIO_DENOMINATOR;
     }
 
     /**
@@ -233,14 +327,12 @@ public final class RTime implements Comparable<RTime>, TemporalAccessor {
      * @return the local time.
      */
     public LocalTime toLocalTime() {
-        long rnano = getNanoOfDay();
-        long gnano = (long) (rnano * RG_SECOND_RATIO);
-        return LocalTime.ofNanoOfDay(gnano);
+        return LocalTime.ofNanoOfDay(toGregorianNanoOfDay(getNanoOfDay()));
     }
 
     @Override
     public String toString() {
-        return String.format("%dh%dm%ds%d", hour, minute, second, nano);
+        return RFormatter.TIME.format(this);
     }
 
     /**
@@ -289,7 +381,7 @@ public final class RTime implements Comparable<RTime>, TemporalAccessor {
 
     @Override
     public int hashCode() {
-        return Objects.hash(hour, minute, second, nano);
+        return Long.hashCode(getNanoOfDay());
     }
 
 
@@ -369,4 +461,119 @@ public final class RTime implements Comparable<RTime>, TemporalAccessor {
         }
         throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
     }
+
+    // Temporal implementation.
+
+    @Override
+    public boolean isSupported(TemporalUnit unit) {
+        return unit instanceof RChronoUnit;
+    }
+
+    @Override
+    public RTime with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            range(field).checkValidValue(newValue, field);
+            switch ((ChronoField) field) {
+                case NANO_OF_DAY:
+                    return ofNanoOfDay(newValue);
+                case NANO_OF_SECOND:
+                    return withNano((int) newValue);
+                case SECOND_OF_MINUTE:
+                    return of(hour, minute, (int) newValue, nano);
+                case MINUTE_OF_HOUR:
+                    return of(hour, (int) newValue, second, nano);
+                case HOUR_OF_DAY:
+                    return of((int) newValue, minute, second, nano);
+            }
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    @Override
+    public RTime with(TemporalAdjuster adjuster) {
+        return (RTime) adjuster.adjustInto(this);
+    }
+
+    /**
+     * Return a copy of this time shifted by the given amount of decimal time (wrapping around midnight).
+     *
+     * @param amountToAdd the amount to add.
+     * @param unit        the unit of the amount, a {@link RChronoUnit}.
+     * @return the new time.
+     * @throws UnsupportedTemporalTypeException if the unit is not supported.
+     */
+    @Override
+    public RTime plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof RChronoUnit) {
+            RChronoUnit rUnit = (RChronoUnit) unit;
+            return plusNanos(Math.floorMod(amountToAdd, rUnit.perDay()) * rUnit.getNanos());
+        }
+        if (unit instanceof ChronoUnit) {
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    /**
+     * Return a copy of this time shifted by a number of decimal nanoseconds, between 0 and a day (excluded).
+     */
+    private RTime plusNanos(long nanosToAdd) {
+        if (nanosToAdd == 0) {
+            return this;
+        }
+        long nanoOfDay = getNanoOfDay() + nanosToAdd;
+        return ofNanoOfDay(nanoOfDay >= NANOS_PER_DAY ? nanoOfDay - NANOS_PER_DAY : nanoOfDay);
+    }
+
+    @Override
+    public RTime plus(TemporalAmount amount) {
+        return (RTime) amount.addTo(this);
+    }
+
+    @Override
+    public RTime minus(long amountToSubtract, TemporalUnit unit) {
+        if (amountToSubtract == Long.MIN_VALUE) {
+            return plus(Long.MAX_VALUE, unit).plus(1, unit);
+        }
+        return plus(-amountToSubtract, unit);
+    }
+
+    @Override
+    public RTime minus(TemporalAmount amount) {
+        return (RTime) amount.subtractFrom(this);
+    }
+
+    /**
+     * Return the amount of decimal time until another time (negative if it is before this time).
+     *
+     * @param endExclusive the end time (converted with {@link #from(TemporalAccessor)}).
+     * @param unit         the unit of the amount, a {@link RChronoUnit}.
+     * @return the number of complete units.
+     * @throws UnsupportedTemporalTypeException if the unit is not supported.
+     */
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        RTime end = from(endExclusive);
+        if (unit instanceof RChronoUnit) {
+            return (end.getNanoOfDay() - getNanoOfDay()) / ((RChronoUnit) unit).getNanos();
+        }
+        if (unit instanceof ChronoUnit) {
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return unit.between(this, end);
+    }
+
+    /**
+     * A zone with a fixed offset.
+     */
+    private static final class FixedOffset {
+
+        private final ZoneId zoneId;
+        private final ZoneOffset offset;
+
+        FixedOffset(ZoneId zoneId, ZoneOffset offset) {
+            this.zoneId = zoneId;
+            this.offset = offset;
+        }
+    }
 }
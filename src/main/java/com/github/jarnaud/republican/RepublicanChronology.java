@@ -0,0 +1,239 @@
+package com.github.jarnaud.republican;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.Era;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.ValueRange;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The Republican calendar system, to use Republican dates ({@link RDate}) with the java.time API
+ * (eg. {@link java.time.format.DateTimeFormatter}, {@link java.time.chrono.ChronoLocalDate}).
+ * <p>
+ * The epoch day is shared with the other calendar systems, so that converting a date from another calendar system
+ * is a single epoch day conversion. The chronology is registered with the id {@code Republican}.
+ * <p>
+ * The JDK only provides the text of the fields (month names, eras...) for the calendar types of the LDML, so the
+ * text fields of a {@link DateTimeFormatter} pattern ({@code MMMM}, {@code GGGG}...) cannot be used with
+ * {@code withChronology(RepublicanChronology.INSTANCE)}: use {@link #ofPattern(String)} instead.
+ */
+public final class RepublicanChronology extends AbstractChronology {
+
+    /**
+     * Singleton instance of the Republican chronology.
+     */
+    public static final RepublicanChronology INSTANCE = new RepublicanChronology();
+
+    private static final String ID = "Republican";
+
+    private static final ValueRange YEAR_RANGE = ValueRange.of(1, Year.MAX_VALUE);
+    private static final ValueRange MONTH_RANGE = ValueRange.of(1, 13);
+    private static final ValueRange DAY_OF_MONTH_RANGE = ValueRange.of(1, 5, 30);
+    private static final ValueRange DAY_OF_YEAR_RANGE = ValueRange.of(1, 365, 366);
+    private static final ValueRange PROLEPTIC_MONTH_RANGE = ValueRange.of(13, Year.MAX_VALUE * 13L + 12);
+    private static final ValueRange EPOCH_DAY_RANGE = ValueRange.of(RDate.FIRST_EPOCH_DAY, LocalDate.MAX.toEpochDay());
+    private static final ValueRange ERA_RANGE = ValueRange.of(1, 1);
+
+    private static final Map<Long, String> MONTH_NAMES;
+    private static final Map<Long, String> SHORT_ERA_NAMES = Collections.singletonMap(1L, "ER");
+    private static final Map<Long, String> ERA_NAMES = Collections.singletonMap(1L, "Ere Republicaine");
+
+    static {
+        Map<Long, String> monthNames = new HashMap<>();
+        for (RMonth month : RMonth.values()) {
+            monthNames.put((long) month.getMonth(), month.getName());
+        }
+        MONTH_NAMES = Collections.unmodifiableMap(monthNames);
+    }
+
+    /**
+     * Public constructor, only used by the {@link java.util.ServiceLoader} to register the chronology.
+     * Use the singleton {@link #INSTANCE} instead.
+     */
+    @Deprecated
+    public RepublicanChronology() {
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    /**
+     * The Republican calendar has no calendar type defined in the Unicode Locale Data Markup Language (LDML).
+     * The JDK then has no text for the fields of this chronology, see {@link #ofPattern(String)}.
+     *
+     * @return null.
+     */
+    @Override
+    public String getCalendarType() {
+        return null;
+    }
+
+    /**
+     * Create a formatter of Republican dates from a {@link DateTimeFormatter} pattern, in the default locale.
+     *
+     * @param pattern the pattern.
+     * @return the formatter.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     * @see #ofPattern(String, Locale)
+     */
+    public static DateTimeFormatter ofPattern(String pattern) {
+        return ofPattern(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Create a formatter of Republican dates from a {@link DateTimeFormatter} pattern.
+     * <p>
+     * Unlike {@code DateTimeFormatter.ofPattern(pattern).withChronology(INSTANCE)}, the text of the month
+     * ({@code MMM} or {@code LLL}, 3 letters or more: eg. {@code Floreal}) and of the era ({@code G}: {@code ER},
+     * {@code GGGG}: {@code Ere Republicaine}) is supported, both to format and to parse. The other text fields (eg.
+     * the day of week) are not supported by the Republican dates and fail with a {@link java.time.DateTimeException}.
+     *
+     * @param pattern the pattern.
+     * @param locale  the locale (of the numbers and of the non Republican fields).
+     * @return the formatter.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+        int start = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                // Skip the quoted text (kept in the appended pattern).
+                int end = pattern.indexOf('\'', i + 1);
+                i = end < 0 ? pattern.length() : end + 1;
+                continue;
+            }
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            Map<Long, String> text = null;
+            ChronoField field = null;
+            if ((c == 'M' || c == 'L') && count >= 3) {
+                field = ChronoField.MONTH_OF_YEAR;
+                text = MONTH_NAMES;
+            } else if (c == 'G') {
+                field = ChronoField.ERA;
+                text = count == 4 ? ERA_NAMES : SHORT_ERA_NAMES;
+            }
+            if (text != null) {
+                builder.appendPattern(pattern.substring(start, i));
+                builder.appendText(field, text);
+                start = i + count;
+            }
+            i += count;
+        }
+        builder.appendPattern(pattern.substring(start));
+        return builder.toFormatter(locale).withChronology(INSTANCE);
+    }
+
+    @Override
+    public RDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+        return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+    }
+
+    @Override
+    public RDate date(int prolepticYear, int month, int dayOfMonth) {
+        return RDate.of(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override
+    public RDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+        return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+    }
+
+    @Override
+    public RDate dateYearDay(int prolepticYear, int dayOfYear) {
+        return RDate.ofYearDay(prolepticYear, dayOfYear);
+    }
+
+    @Override
+    public RDate dateEpochDay(long epochDay) {
+        return RDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public RDate dateNow() {
+        return dateNow(Clock.systemDefaultZone());
+    }
+
+    @Override
+    public RDate dateNow(ZoneId zone) {
+        return dateNow(Clock.system(zone));
+    }
+
+    @Override
+    public RDate dateNow(Clock clock) {
+        return RDate.now(clock);
+    }
+
+    @Override
+    public RDate date(TemporalAccessor temporal) {
+        if (temporal instanceof RDate) {
+            return (RDate) temporal;
+        }
+        return dateEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+    }
+
+    @Override
+    public boolean isLeapYear(long prolepticYear) {
+        return prolepticYear >= 1 && prolepticYear <= Integer.MAX_VALUE && RDate.isSextileYear((int) prolepticYear);
+    }
+
+    @Override
+    public int prolepticYear(Era era, int yearOfEra) {
+        if (!(era instanceof REra)) {
+            throw new ClassCastException("Era must be REra");
+        }
+        return yearOfEra;
+    }
+
+    @Override
+    public REra eraOf(int eraValue) {
+        return REra.of(eraValue);
+    }
+
+    @Override
+    public List<Era> eras() {
+        return Arrays.asList(REra.values());
+    }
+
+    @Override
+    public ValueRange range(ChronoField field) {
+        switch (field) {
+            case DAY_OF_MONTH:
+                return DAY_OF_MONTH_RANGE;
+            case DAY_OF_YEAR:
+                return DAY_OF_YEAR_RANGE;
+            case MONTH_OF_YEAR:
+                return MONTH_RANGE;
+            case PROLEPTIC_MONTH:
+                return PROLEPTIC_MONTH_RANGE;
+            case YEAR:
+            case YEAR_OF_ERA:
+                return YEAR_RANGE;
+            case EPOCH_DAY:
+                return EPOCH_DAY_RANGE;
+            case ERA:
+                return ERA_RANGE;
+            default:
+                return field.range();
+        }
+    }
+}
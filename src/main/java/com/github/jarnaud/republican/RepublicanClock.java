@@ -0,0 +1,231 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * A clock giving the current Republican date and time, to be reused for frequent calls (eg. to timestamp events).
+ * <p>
+ * The current Republican date and zone offset are cached until the next day or the next offset transition of the
+ * zone, so that a call mostly costs the underlying {@link Clock#instant()} and some integer arithmetic.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class RepublicanClock {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final Clock clock;
+    private final ZoneRules rules;
+
+    /**
+     * The cached day, replaced when the clock leaves its validity period.
+     */
+    private volatile Day day;
+
+    private RepublicanClock(Clock clock) {
+        this.clock = clock;
+        this.rules = clock.getZone().getRules();
+    }
+
+    /**
+     * Obtains a Republican clock using the system clock in the default zone.
+     *
+     * @return the Republican clock.
+     */
+    public static RepublicanClock systemDefaultZone() {
+        return of(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Obtains a Republican clock using the system clock in a given zone.
+     *
+     * @param zone the zone.
+     * @return the Republican clock.
+     */
+    public static RepublicanClock system(ZoneId zone) {
+        return of(Clock.system(zone));
+    }
+
+    /**
+     * Obtains a Republican clock based on a clock (which gives the instant and the zone).
+     *
+     * @param clock the clock.
+     * @return the Republican clock.
+     */
+    public static RepublicanClock of(Clock clock) {
+        if (clock == null) {
+            throw new RepublicanCalendarException("Clock cannot be null");
+        }
+        return new RepublicanClock(clock);
+    }
+
+    /**
+     * Return the underlying clock.
+     *
+     * @return the clock.
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Return the zone of the clock.
+     *
+     * @return the zone.
+     */
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    /**
+     * Return the current Republican date.
+     *
+     * @return the current date.
+     */
+    public RDate date() {
+        return day(clock.instant()).date;
+    }
+
+    /**
+     * Return the current Republican time.
+     *
+     * @return the current time.
+     */
+    public RTime time() {
+        return RTime.ofNanoOfDay(nanoOfDay());
+    }
+
+    /**
+     * Return the current Republican nano of the day (without creating any object, with a system clock).
+     *
+     * @return the current nano of the day.
+     */
+    public long nanoOfDay() {
+        Instant now = clock.instant();
+        return day(now).nanoOfDay(now);
+    }
+
+    /**
+     * Return the current Republican date and time.
+     *
+     * @return the current date and time.
+     */
+    public RDateTime dateTime() {
+        Instant now = clock.instant();
+        Day current = day(now);
+        return RDateTime.of(current.date, RTime.ofNanoOfDay(current.nanoOfDay(now)));
+    }
+
+    /**
+     * Return the Republican date at an epoch milli (eg. the timestamp of an event), in the zone of the clock.
+     * The cached day is used (and replaced if needed), so instants close to each other are cheap to convert.
+     *
+     * @param epochMilli the epoch milli.
+     * @return the date.
+     */
+    public RDate date(long epochMilli) {
+        return day(epochMilli).date;
+    }
+
+    /**
+     * Return the Republican nano of the day at an epoch milli (eg. the timestamp of an event), in the zone of the
+     * clock. The cached day is used (and replaced if needed), so instants close to each other are cheap to convert.
+     *
+     * @param epochMilli the epoch milli.
+     * @return the nano of the day.
+     */
+    public long nanoOfDay(long epochMilli) {
+        return day(epochMilli).nanoOfDay(epochMilli);
+    }
+
+    /**
+     * Return the current zone offset.
+     *
+     * @return the current offset.
+     */
+    public ZoneOffset offset() {
+        return day(clock.instant()).offset;
+    }
+
+    private Day day(Instant instant) {
+        Day current = day;
+        if (current == null || !current.contains(instant.getEpochSecond())) {
+            current = new Day(rules, instant);
+            day = current;
+        }
+        return current;
+    }
+
+    private Day day(long epochMilli) {
+        Day current = day;
+        if (current == null || !current.contains(Math.floorDiv(epochMilli, MILLIS_PER_SECOND))) {
+            current = new Day(rules, Instant.ofEpochMilli(epochMilli));
+            day = current;
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "RepublicanClock{" + clock + '}';
+    }
+
+    /**
+     * Immutable snapshot of a local day with a constant offset, valid between two instants (in epoch seconds).
+     */
+    private static final class Day {
+
+        private final RDate date;
+        private final ZoneOffset offset;
+
+        /**
+         * The epoch second of the local midnight, at this offset.
+         */
+        private final long midnight;
+        private final long validFrom;
+        private final long validUntil;
+
+        Day(ZoneRules rules, Instant instant) {
+            long epochSecond = instant.getEpochSecond();
+            offset = rules.getOffset(instant);
+            long epochDay = Math.floorDiv(epochSecond + offset.getTotalSeconds(), RTime.SECONDS_PER_GREGORIAN_DAY);
+            date = RDate.ofEpochDay(epochDay);
+            midnight = epochDay * RTime.SECONDS_PER_GREGORIAN_DAY - offset.getTotalSeconds();
+            long from = midnight;
+            long until = midnight + RTime.SECONDS_PER_GREGORIAN_DAY;
+            if (!rules.isFixedOffset()) {
+                ZoneOffsetTransition previous = rules.previousTransition(instant.plusNanos(1));
+                if (previous != null) {
+                    from = Math.max(from, previous.toEpochSecond());
+                }
+                ZoneOffsetTransition next = rules.nextTransition(instant);
+                if (next != null) {
+                    until = Math.min(until, next.toEpochSecond());
+                }
+            }
+            validFrom = from;
+            validUntil = until;
+        }
+
+        boolean contains(long epochSecond) {
+            return epochSecond >= validFrom && epochSecond < validUntil;
+        }
+
+        long nanoOfDay(Instant instant) {
+            long gNanoOfDay = (instant.getEpochSecond() - midnight) * RTime.NANOS_PER_SECOND + instant.getNano();
+            return RTime.toRepublicanNanoOfDay(gNanoOfDay);
+        }
+
+        long nanoOfDay(long epochMilli) {
+            return RTime.toRepublicanNanoOfDay((epochMilli - midnight * MILLIS_PER_SECOND) * NANOS_PER_MILLI);
+        }
+    }
+}
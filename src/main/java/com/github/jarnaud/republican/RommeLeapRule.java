@@ -0,0 +1,32 @@
+package com.github.jarnaud.republican;
+
+/**
+ * The Romme rule (see {@link RLeapRule#ROMME}), computed in constant time by the {@link LeapYearCalculator}.
+ */
+final class RommeLeapRule implements RLeapRule {
+
+    static final RommeLeapRule INSTANCE = new RommeLeapRule();
+
+    private final LeapYearCalculator leapYearCalculator = new LeapYearCalculator();
+
+    private RommeLeapRule() {
+    }
+
+    @Override
+    public boolean isSextile(int year) {
+        if (year == 3 || year == 7 || year == 11 || year == 15) {
+            return true;
+        }
+        return year >= 20 && year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    @Override
+    public long daysBeforeYear(int year) {
+        return leapYearCalculator.daysBeforeRepublicanYear(year);
+    }
+
+    @Override
+    public String toString() {
+        return "romme";
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+/**
+ * Lookup table of the first day of each Republican year, shared by both converters.
+ * <p>
+ * The table is populated lazily, by growing it up to the years actually used, and is bounded by a maximum number of
+ * years (4 bytes per year). It can be configured with the system property {@value #MAX_YEARS_PROPERTY}
+ * (default {@value #DEFAULT_MAX_YEARS}). Years outside the table are computed by the {@link RLeapRule}, so that the
+ * cost of the conversions does not depend on the rule.
+ * <p>
+ * Readers never lock: the table is replaced by a larger copy when growing, and published through a volatile field.
+ */
+class YearStartTable {
+
+    static final String MAX_YEARS_PROPERTY = "republican.yearStartTable.maxYears";
+    static final int DEFAULT_MAX_YEARS = 10_000;
+
+    /**
+     * Upper bound of the table size, so that days before a year always fit in an entry.
+     */
+    private static final int MAX_TABLE_YEARS = 2_000_000;
+    private static final int MIN_GROWTH = 256;
+
+    /**
+     * Average number of days in 400 Republican years (97 sextile years, as for the Gregorian calendar).
+     */
+    private static final long DAYS_PER_400_YEARS = 146_097L;
+
+    /**
+     * The table shared by the converters.
+     */
+    static final YearStartTable INSTANCE = new YearStartTable(ruleOf(System.getProperty(RLeapRule.PROPERTY)),
+            Integer.getInteger(MAX_YEARS_PROPERTY, DEFAULT_MAX_YEARS));
+
+    private final RLeapRule rule;
+    private final int maxYears;
+
+    /**
+     * For each year (used as index), the number of days between An I Vendemiaire 1 and the first day of the year,
+     * shifted left by one bit, with the lowest bit set if the year is sextile.
+     */
+    private volatile int[] entries = new int[0];
+
+    /**
+     * Constructor.
+     *
+     * @param rule     the leap rule.
+     * @param maxYears the maximum number of years kept in the table (0 to disable the table).
+     */
+    YearStartTable(RLeapRule rule, int maxYears) {
+        this.rule = rule;
+        this.maxYears = Math.max(0, Math.min(maxYears, MAX_TABLE_YEARS));
+    }
+
+    /**
+     * Return the number of days between An I Vendemiaire 1 and the first day of a given Republican year.
+     *
+     * @param year the Republican year.
+     * @return the number of days before the year.
+     */
+    long daysBeforeYear(int year) {
+        int[] table = entries;
+        if (year > 0 && year < table.length) {
+            return table[year] >> 1;
+        }
+        if (year > 0 && year <= maxYears) {
+            return grow(year)[year] >> 1;
+        }
+        return rule.daysBeforeYear(year);
+    }
+
+    /**
+     * Indicates if a Republican year is sextile nor not.
+     *
+     * @param year the Republican year.
+     * @return true if the year is sextile, false otherwise.
+     */
+    boolean isSextile(int year) {
+        int[] table = entries;
+        if (year > 0 && year < table.length) {
+            return (table[year] & 1) != 0;
+        }
+        if (year > 0 && year <= maxYears) {
+            return (grow(year)[year] & 1) != 0;
+        }
+        return year > 0 && rule.isSextile(year);
+    }
+
+    /**
+     * Return the Republican year containing the given day.
+     * The year is first estimated from the average Gregorian year length, then adjusted: by one year at most with the
+     * Gregorian-like rules, possibly more with a custom rule whose sextile years drift from the Gregorian leap years.
+     *
+     * @param days the number of days since An I Vendemiaire 1 (positive).
+     * @return the Republican year.
+     */
+    int yearOf(long days) {
+        int year = (int) (1 + days * 400 / DAYS_PER_400_YEARS);
+        while (daysBeforeYear(year) > days) {
+            year--;
+        }
+        while (daysBeforeYear(year + 1) <= days) {
+            year++;
+        }
+        return year;
+    }
+
+    /**
+     * Grow the table so that it contains the given year.
+     *
+     * @param year the year.
+     * @return the table containing the year.
+     */
+    private synchronized int[] grow(int year) {
+        int[] table = entries;
+        if (year < table.length) {
+            // Already grown by another thread.
+            return table;
+        }
+        int size = (int) Math.min((long) maxYears + 1, Math.max(year + 1L, Math.max(2L * table.length, MIN_GROWTH)));
+        int[] newTable = new int[size];
+        System.arraycopy(table, 0, newTable, 0, table.length);
+        for (int y = Math.max(1, table.length); y < size; y++) {
+            long days = rule.daysBeforeYear(y);
+            newTable[y] = (int) (days << 1) | (rule.isSextile(y) ? 1 : 0);
+        }
+        entries = newTable;
+        return newTable;
+    }
+
+    /**
+     * Return the leap rule.
+     *
+     * @return the rule.
+     */
+    RLeapRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Return the leap rule with the given name.
+     *
+     * @param name {@code romme} (or null), {@code continuous}, {@code equinox}, or the name of a class implementing
+     *             {@link RLeapRule}.
+     * @return the rule.
+     * @throws RepublicanCalendarException if the rule cannot be created.
+     */
+    static RLeapRule ruleOf(String name) {
+        if (name == null || name.equals(RLeapRule.ROMME.toString())) {
+            return RLeapRule.ROMME;
+        }
+        if (name.equals(RLeapRule.CONTINUOUS.toString())) {
+            return RLeapRule.CONTINUOUS;
+        }
+        if (name.equals(RLeapRule.EQUINOX.toString())) {
+            return RLeapRule.EQUINOX;
+        }
+        try {
+            return Class.forName(name).asSubclass(RLeapRule.class).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new RepublicanCalendarException("Invalid leap rule: " + name, e);
+        }
+    }
+
+    /**
+     * Return the number of years currently in the table.
+     *
+     * @return the number of years.
+     */
+    int size() {
+        return Math.max(0, entries.length - 1);
+    }
+}
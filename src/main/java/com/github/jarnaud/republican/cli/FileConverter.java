@@ -0,0 +1,420 @@
+package com.github.jarnaud.republican.cli;
+
+import com.github.jarnaud.republican.BulkConverter;
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RDateTime;
+import com.github.jarnaud.republican.RFormatter;
+import com.github.jarnaud.republican.RPacked;
+import com.github.jarnaud.republican.RTime;
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Command-line converter of files of ISO-8601 Gregorian dates or timestamps (one per line) into Republican dates or
+ * dates and times, written as text or as packed binary values.
+ * <p>
+ * The input file is memory-mapped and split into chunks, which are parsed (directly from the bytes) and converted in
+ * parallel with {@link BulkConverter}. The converted chunks are written in the input order. Empty lines are ignored.
+ * <p>
+ * Usage: {@code java -jar republican-calendar.jar [options] <input> <output>}, see {@link #USAGE}.
+ */
+public final class FileConverter {
+
+    /**
+     * The command-line usage.
+     */
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar republican-calendar.jar [options] <input> <output>",
+            "Convert a file of ISO-8601 dates (yyyy-MM-dd) or timestamps (yyyy-MM-ddTHH:mm:ss.fffZ), one per line.",
+            "Options:",
+            "  --timestamps         the input lines are timestamps (default: dates)",
+            "  --binary             write packed values (big-endian int per date, long per timestamp) instead of text",
+            "  --pattern <pattern>  the pattern of the text output (default: " + FileConverter.DEFAULT_DATE_PATTERN
+                    + " for dates, " + FileConverter.DEFAULT_TIMESTAMP_PATTERN + " for timestamps)",
+            "  --offset <offset>    with --timestamps, the zone offset of the Republican dates and times (default: Z)",
+            "  --threads <n>        the number of threads (default: number of processors)",
+            "  --chunk-size <n>     the number of bytes per chunk (default: " + FileConverter.DEFAULT_CHUNK_SIZE + ")");
+
+    static final String DEFAULT_DATE_PATTERN = "y-MM-dd";
+    static final String DEFAULT_TIMESTAMP_PATTERN = "y-MM-dd h:mm:ss";
+    static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    /**
+     * The maximum length of a line (so that a chunk knows how far to read its last line).
+     */
+    static final int MAX_LINE_LENGTH = 256;
+
+    private static final int MIN_DATE_LINE = 11;
+    private static final int MIN_TIMESTAMP_LINE = 17;
+    private static final int TEXT_BYTES_PER_LINE = 24;
+
+    private final Path input;
+    private final Path output;
+    private final boolean timestamps;
+    private final boolean binary;
+    private final RFormatter formatter;
+    private final ZoneOffset offset;
+    private final int threads;
+    private final int chunkSize;
+
+    private FileConverter(Path input, Path output, boolean timestamps, boolean binary, RFormatter formatter,
+                          ZoneOffset offset, int threads, int chunkSize) {
+        this.input = input;
+        this.output = output;
+        this.timestamps = timestamps;
+        this.binary = binary;
+        this.formatter = formatter;
+        this.offset = offset;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Run the converter and exit.
+     *
+     * @param args the command-line arguments.
+     */
+    public static void main(String[] args) {
+        System.exit(run(System.err, args));
+    }
+
+    /**
+     * Run the converter.
+     *
+     * @param err  the stream receiving the error messages.
+     * @param args the command-line arguments.
+     * @return the exit status: 0 on success, 1 on conversion error, 2 on invalid arguments.
+     */
+    public static int run(PrintStream err, String... args) {
+        FileConverter converter;
+        try {
+            converter = parseArguments(args);
+        } catch (IllegalArgumentException | RepublicanCalendarException | DateTimeException e) {
+            err.println("Error: " + e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+        try {
+            converter.convert();
+            return 0;
+        } catch (IOException | UncheckedIOException | RepublicanCalendarException e) {
+            err.println("Error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static FileConverter parseArguments(String[] args) {
+        boolean timestamps = false;
+        boolean binary = false;
+        String pattern = null;
+        ZoneOffset offset = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkSize = DEFAULT_CHUNK_SIZE;
+        Deque<String> paths = new ArrayDeque<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--timestamps":
+                    timestamps = true;
+                    break;
+                case "--binary":
+                    binary = true;
+                    break;
+                case "--pattern":
+                    pattern = value(args, ++i);
+                    break;
+                case "--offset":
+                    offset = ZoneOffset.of(value(args, ++i));
+                    break;
+                case "--threads":
+                    threads = positive(args, ++i);
+                    break;
+                case "--chunk-size":
+                    chunkSize = positive(args, ++i);
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                    }
+                    paths.add(args[i]);
+            }
+        }
+        if (paths.size() != 2) {
+            throw new IllegalArgumentException("Expected an input and an output file");
+        }
+        if (chunkSize <= MAX_LINE_LENGTH) {
+            throw new IllegalArgumentException("Chunk size must be above " + MAX_LINE_LENGTH);
+        }
+        if (offset != null && !timestamps) {
+            throw new IllegalArgumentException("Option --offset requires --timestamps");
+        }
+        RFormatter formatter = RFormatter.ofPattern(pattern != null ? pattern : timestamps ? DEFAULT_TIMESTAMP_PATTERN : DEFAULT_DATE_PATTERN);
+        if (!timestamps) {
+            // Fails early if the pattern has time fields.
+            formatter.format(RDate.MIN);
+        }
+        if (formatter.getMaxLength() >= MAX_LINE_LENGTH) {
+            throw new IllegalArgumentException("Pattern output is too long (max " + (MAX_LINE_LENGTH - 1) + " bytes)");
+        }
+        return new FileConverter(Paths.get(paths.poll()), Paths.get(paths.poll()), timestamps, binary, formatter,
+                offset != null ? offset : ZoneOffset.UTC, threads, chunkSize);
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value of " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    private static int positive(String[] args, int i) {
+        int value = Integer.parseInt(value(args, i));
+        if (value <= 0) {
+            throw new IllegalArgumentException("Invalid value of " + args[i - 1] + ": " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Convert the input file into the output file.
+     * The chunks are converted by a pool of threads, while the calling thread writes them in order
+     * (with a bounded number of chunks in progress).
+     *
+     * @throws IOException                 if the files cannot be read or written.
+     * @throws RepublicanCalendarException if a line is invalid.
+     */
+    void convert() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "republican-file-converter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            Deque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+            for (long start = 0; start < size; start += chunkSize) {
+                pending.add(executor.submit(new Chunk(in, size, start, Math.min(size, start + chunkSize))));
+                if (pending.size() >= 2 * threads) {
+                    write(out, pending.poll());
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(out, pending.poll());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void write(FileChannel out, Future<ByteBuffer> chunk) throws IOException {
+        ByteBuffer buffer;
+        try {
+            buffer = chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Conversion of the lines starting in a range of the input file.
+     */
+    private final class Chunk implements Callable<ByteBuffer> {
+
+        private final FileChannel in;
+        private final long fileSize;
+        private final long start;
+        private final long end;
+
+        Chunk(FileChannel in, long fileSize, long start, long end) {
+            this.in = in;
+            this.fileSize = fileSize;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public ByteBuffer call() throws IOException {
+            // Map the previous byte (to know if a line starts at the chunk start) and the end of the last line.
+            long mapStart = start == 0 ? 0 : start - 1;
+            long mapEnd = Math.min(fileSize, end + MAX_LINE_LENGTH);
+            MappedByteBuffer buf = in.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+            int limit = (int) (end - mapStart);
+            int pos = 0;
+            if (start > 0) {
+                while (pos < limit && buf.get(pos) != '\n') {
+                    pos++;
+                }
+                pos++;
+            }
+            return timestamps ? convertTimestamps(buf, pos, limit, mapStart, mapEnd) : convertDates(buf, pos, limit, mapStart, mapEnd);
+        }
+
+        private ByteBuffer convertDates(ByteBuffer buf, int pos, int limit, long mapStart, long mapEnd) {
+            long[] epochDays = new long[Math.max(0, limit - pos) / MIN_DATE_LINE + 1];
+            int count = 0;
+            while (pos < limit) {
+                int lineEnd = lineEnd(buf, pos, mapStart, mapEnd);
+                int contentEnd = contentEnd(buf, pos, lineEnd);
+                if (contentEnd > pos) {
+                    long epochDay = IsoParser.parseEpochDay(buf, pos, contentEnd);
+                    if (epochDay == IsoParser.FAILURE || epochDay < RDate.FIRST_EPOCH_DAY) {
+                        throw invalidLine("date", mapStart + pos);
+                    }
+                    if (count == epochDays.length) {
+                        epochDays = Arrays.copyOf(epochDays, 2 * count);
+                    }
+                    epochDays[count++] = epochDay;
+                }
+                pos = lineEnd + 1;
+            }
+            int[] packedDates = new int[count];
+            BulkConverter.toPackedDates(epochDays, 0, packedDates, 0, count);
+            if (binary) {
+                ByteBuffer result = ByteBuffer.allocate(4 * count);
+                result.asIntBuffer().put(packedDates);
+                return result;
+            }
+            Text text = new Text(count * TEXT_BYTES_PER_LINE);
+            for (int i = 0; i < count; i++) {
+                text.appendLine(formatter, RPacked.unpackDate(packedDates[i]));
+            }
+            return text.toBuffer();
+        }
+
+        private ByteBuffer convertTimestamps(ByteBuffer buf, int pos, int limit, long mapStart, long mapEnd) {
+            int capacity = Math.max(0, limit - pos) / MIN_TIMESTAMP_LINE + 1;
+            long[] epochSeconds = new long[capacity];
+            int[] nanos = new int[capacity];
+            long firstSecond = RDate.FIRST_EPOCH_DAY * RTime.SECONDS_PER_GREGORIAN_DAY - offset.getTotalSeconds();
+            int count = 0;
+            while (pos < limit) {
+                int lineEnd = lineEnd(buf, pos, mapStart, mapEnd);
+                int contentEnd = contentEnd(buf, pos, lineEnd);
+                if (contentEnd > pos) {
+                    if (count == epochSeconds.length) {
+                        epochSeconds = Arrays.copyOf(epochSeconds, 2 * count);
+                        nanos = Arrays.copyOf(nanos, 2 * count);
+                    }
+                    long epochSecond = IsoParser.parseEpochSecond(buf, pos, contentEnd, nanos, count);
+                    if (epochSecond == IsoParser.FAILURE || epochSecond < firstSecond) {
+                        throw invalidLine("timestamp", mapStart + pos);
+                    }
+                    epochSeconds[count++] = epochSecond;
+                }
+                pos = lineEnd + 1;
+            }
+            long[] packedDateTimes = new long[count];
+            BulkConverter.toPackedDateTimes(epochSeconds, nanos, 0, offset, packedDateTimes, 0, count);
+            if (binary) {
+                ByteBuffer result = ByteBuffer.allocate(8 * count);
+                result.asLongBuffer().put(packedDateTimes);
+                return result;
+            }
+            Text text = new Text(count * TEXT_BYTES_PER_LINE);
+            for (int i = 0; i < count; i++) {
+                text.appendLine(formatter, RPacked.unpackDateTime(packedDateTimes[i]));
+            }
+            return text.toBuffer();
+        }
+
+        /**
+         * Return the index of the end of the line (its new line character, or the end of the file).
+         */
+        private int lineEnd(ByteBuffer buf, int pos, long mapStart, long mapEnd) {
+            int lineEnd = pos;
+            int bufEnd = buf.limit();
+            while (lineEnd < bufEnd && buf.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            if (lineEnd == bufEnd && mapEnd < fileSize) {
+                throw new RepublicanCalendarException("Line too long at byte " + (mapStart + pos)
+                        + " (max " + MAX_LINE_LENGTH + " bytes)");
+            }
+            return lineEnd;
+        }
+
+        /**
+         * Return the end of the line content, without the carriage return and trailing spaces.
+         */
+        private int contentEnd(ByteBuffer buf, int pos, int lineEnd) {
+            while (lineEnd > pos && (buf.get(lineEnd - 1) == '\r' || buf.get(lineEnd - 1) == ' ')) {
+                lineEnd--;
+            }
+            return lineEnd;
+        }
+
+        private RepublicanCalendarException invalidLine(String type, long position) {
+            return new RepublicanCalendarException("Invalid " + type + " at byte " + position + " of " + input);
+        }
+    }
+
+    /**
+     * Text output of a chunk, grown before a line when it may not fit.
+     * The formatted lines (with their new line) are at most {@link #MAX_LINE_LENGTH} bytes long, as checked with the
+     * pattern.
+     */
+    private static final class Text {
+
+        private byte[] bytes;
+        private int length;
+
+        Text(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void appendLine(RFormatter formatter, RDate date) {
+            ensureLineCapacity();
+            length += formatter.formatTo(date, bytes, length);
+            bytes[length++] = '\n';
+        }
+
+        void appendLine(RFormatter formatter, RDateTime dateTime) {
+            ensureLineCapacity();
+            length += formatter.formatTo(dateTime, bytes, length);
+            bytes[length++] = '\n';
+        }
+
+        private void ensureLineCapacity() {
+            if (bytes.length - length < MAX_LINE_LENGTH) {
+                bytes = Arrays.copyOf(bytes, 2 * bytes.length + MAX_LINE_LENGTH);
+            }
+        }
+
+        ByteBuffer toBuffer() {
+            return ByteBuffer.wrap(bytes, 0, length);
+        }
+    }
+}
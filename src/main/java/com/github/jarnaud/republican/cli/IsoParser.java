@@ -0,0 +1,207 @@
+package com.github.jarnaud.republican.cli;
+
+import com.github.jarnaud.republican.RTime;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parser of ISO-8601 Gregorian dates and timestamps, reading ASCII bytes directly from a buffer.
+ * <p>
+ * The accepted formats are:
+ * <ul>
+ * <li>dates: {@code yyyy-MM-dd}.</li>
+ * <li>timestamps: {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]][offset]}, the offset being {@code Z}, {@code ±HH},
+ * {@code ±HHmm} or {@code ±HH:mm} (UTC if missing). A space is also accepted instead of the {@code T}.</li>
+ * </ul>
+ * The methods return {@link #FAILURE} for invalid input, without throwing any exception.
+ */
+final class IsoParser {
+
+    /**
+     * Value returned when the input is invalid.
+     */
+    static final long FAILURE = Long.MIN_VALUE;
+
+    private static final int DATE_LENGTH = 10;
+    private static final long DAYS_0000_TO_1970 = 719_468L;
+    private static final int[] DAYS_PER_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private IsoParser() {
+    }
+
+    /**
+     * Parse a date.
+     *
+     * @param buf   the buffer.
+     * @param start the index of the first byte of the date.
+     * @param end   the index following the last byte of the date.
+     * @return the epoch day of the date, or {@link #FAILURE}.
+     */
+    static long parseEpochDay(ByteBuffer buf, int start, int end) {
+        if (end - start != DATE_LENGTH) {
+            return FAILURE;
+        }
+        return epochDay(buf, start);
+    }
+
+    /**
+     * Parse a timestamp.
+     *
+     * @param buf   the buffer.
+     * @param start the index of the first byte of the timestamp.
+     * @param end   the index following the last byte of the timestamp.
+     * @param nanos the array receiving the nanosecond of the second.
+     * @param index the index of the nanosecond in the array.
+     * @return the epoch second of the timestamp, or {@link #FAILURE}.
+     */
+    static long parseEpochSecond(ByteBuffer buf, int start, int end, int[] nanos, int index) {
+        // Date and time, up to the minutes.
+        if (end - start < DATE_LENGTH + 6) {
+            return FAILURE;
+        }
+        long epochDay = epochDay(buf, start);
+        int pos = start + DATE_LENGTH;
+        byte separator = buf.get(pos++);
+        if (epochDay == FAILURE || (separator != 'T' && separator != ' ')) {
+            return FAILURE;
+        }
+        int hour = twoDigits(buf, pos);
+        int minute = buf.get(pos + 2) == ':' ? twoDigits(buf, pos + 3) : -1;
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return FAILURE;
+        }
+        pos += 5;
+
+        // Optional seconds and fraction.
+        int second = 0;
+        int nano = 0;
+        if (pos < end && buf.get(pos) == ':') {
+            if (end - pos < 3) {
+                return FAILURE;
+            }
+            second = twoDigits(buf, pos + 1);
+            if (second < 0 || second > 59) {
+                return FAILURE;
+            }
+            pos += 3;
+            if (pos < end && buf.get(pos) == '.') {
+                pos++;
+                int digits = 0;
+                while (pos < end && digits < 9 && isDigit(buf.get(pos))) {
+                    nano = nano * 10 + buf.get(pos++) - '0';
+                    digits++;
+                }
+                if (digits == 0) {
+                    return FAILURE;
+                }
+                for (int i = digits; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+
+        // Optional offset.
+        int offsetSeconds = 0;
+        if (pos < end) {
+            byte sign = buf.get(pos++);
+            if (sign == 'Z') {
+                if (pos != end) {
+                    return FAILURE;
+                }
+            } else if (sign == '+' || sign == '-') {
+                offsetSeconds = parseOffset(buf, pos, end);
+                if (offsetSeconds < 0) {
+                    return FAILURE;
+                }
+                if (sign == '-') {
+                    offsetSeconds = -offsetSeconds;
+                }
+            } else {
+                return FAILURE;
+            }
+        }
+        nanos[index] = nano;
+        return epochDay * RTime.SECONDS_PER_GREGORIAN_DAY + hour * 3600 + minute * 60 + second - offsetSeconds;
+    }
+
+    /**
+     * Parse the offset after its sign ({@code HH}, {@code HHmm} or {@code HH:mm}).
+     *
+     * @return the absolute offset in seconds, or -1 if invalid.
+     */
+    private static int parseOffset(ByteBuffer buf, int pos, int end) {
+        int length = end - pos;
+        int hours = length >= 2 ? twoDigits(buf, pos) : -1;
+        int minutes;
+        if (length == 2) {
+            minutes = 0;
+        } else if (length == 4) {
+            minutes = twoDigits(buf, pos + 2);
+        } else if (length == 5 && buf.get(pos + 2) == ':') {
+            minutes = twoDigits(buf, pos + 3);
+        } else {
+            return -1;
+        }
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return -1;
+        }
+        return hours * 3600 + minutes * 60;
+    }
+
+    /**
+     * Parse a {@code yyyy-MM-dd} date.
+     *
+     * @return the epoch day, or {@link #FAILURE}.
+     */
+    private static long epochDay(ByteBuffer buf, int pos) {
+        int high = twoDigits(buf, pos);
+        int low = twoDigits(buf, pos + 2);
+        if (high < 0 || low < 0 || buf.get(pos + 4) != '-' || buf.get(pos + 7) != '-') {
+            return FAILURE;
+        }
+        int year = high * 100 + low;
+        int month = twoDigits(buf, pos + 5);
+        int day = twoDigits(buf, pos + 8);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return FAILURE;
+        }
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Compute the epoch day of a (valid) Gregorian date, with 400 years cycles starting on March 1st.
+     */
+    static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2 && year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) {
+            return 29;
+        }
+        return DAYS_PER_MONTH[month - 1];
+    }
+
+    /**
+     * Parse two digits.
+     *
+     * @return the number, or a negative value if the bytes are not digits.
+     */
+    private static int twoDigits(ByteBuffer buf, int pos) {
+        byte tens = buf.get(pos);
+        byte units = buf.get(pos + 1);
+        if (!isDigit(tens) || !isDigit(units)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + units - '0';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
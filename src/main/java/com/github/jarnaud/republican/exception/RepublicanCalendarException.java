@@ -13,4 +13,14 @@ public class RepublicanCalendarException extends RuntimeException {
     public RepublicanCalendarException(String message) {
         super(message);
     }
+
+    /**
+     * Constructor.
+     *
+     * @param message the message.
+     * @param cause   the cause.
+     */
+    public RepublicanCalendarException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
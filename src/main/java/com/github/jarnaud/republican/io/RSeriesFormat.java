@@ -0,0 +1,38 @@
+package com.github.jarnaud.republican.io;
+
+/**
+ * Layout of the series files.
+ * <p>
+ * A file is made of a header, the blocks of values and the block index (all numbers being big-endian):
+ * <ul>
+ * <li>header ({@value #HEADER_SIZE} bytes): magic number (int), version (byte), type (byte), 2 reserved bytes,
+ * number of values per block (int), number of blocks (int), number of values (long), offset of the index (long).</li>
+ * <li>blocks: the differences between each value of the block and the previous one, as unsigned varints (7 bits per
+ * byte, least significant group first). The first value of a block is stored in the index.</li>
+ * <li>index ({@value #INDEX_ENTRY_SIZE} bytes per block): the first value of the block (long) and the offset of the
+ * block in the file (long).</li>
+ * </ul>
+ * The values are sorted (non-decreasing), so that the index can be binary searched.
+ */
+final class RSeriesFormat {
+
+    static final int MAGIC = 0x52534552; // "RSER"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int INDEX_ENTRY_SIZE = 16;
+
+    static final int VERSION_POSITION = 4;
+    static final int TYPE_POSITION = 5;
+    static final int BLOCK_SIZE_POSITION = 8;
+    static final int BLOCK_COUNT_POSITION = 12;
+    static final int COUNT_POSITION = 16;
+    static final int INDEX_OFFSET_POSITION = 24;
+
+    /**
+     * The maximum length of a varint (for a 64 bits value).
+     */
+    static final int MAX_VARINT_LENGTH = 10;
+
+    private RSeriesFormat() {
+    }
+}
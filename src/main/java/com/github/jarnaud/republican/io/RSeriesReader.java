@@ -0,0 +1,334 @@
+package com.github.jarnaud.republican.io;
+
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RDateTime;
+import com.github.jarnaud.republican.RMonth;
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Reader of a series file written by a {@link RSeriesWriter}.
+ * <p>
+ * The file is memory-mapped (so it must be smaller than 2 GiB), and the values are decoded directly from the mapping,
+ * without creating any object per value: the seeks ({@link #indexOf(long)}, {@link #indexOfYear(int)}...) binary
+ * search the block index then decode a single block, and the values can be read in bulk into a {@code long} array or
+ * iterated with a {@link Cursor}.
+ * <p>
+ * This class is thread-safe (but its cursors are not).
+ */
+public final class RSeriesReader {
+
+    private final MappedByteBuffer buffer;
+    private final RSeriesType type;
+    private final int blockSize;
+    private final int blockCount;
+    private final long count;
+    private final int indexOffset;
+
+    private RSeriesReader(MappedByteBuffer buffer, RSeriesType type, int blockSize, int blockCount, long count,
+                          int indexOffset) {
+        this.buffer = buffer;
+        this.type = type;
+        this.blockSize = blockSize;
+        this.blockCount = blockCount;
+        this.count = count;
+        this.indexOffset = indexOffset;
+    }
+
+    /**
+     * Open a series file.
+     * <p>
+     * The file is closed once mapped, the mapping being released when the reader is garbage collected.
+     *
+     * @param path the path of the file.
+     * @return the reader.
+     * @throws IOException if the file cannot be read, is larger than 2 GiB or is not a (complete) series file.
+     */
+    public static RSeriesReader open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Series file too large: " + path);
+            }
+            if (size < RSeriesFormat.HEADER_SIZE) {
+                throw new IOException("Not a series file: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        if (buffer.getInt(0) != RSeriesFormat.MAGIC) {
+            throw new IOException("Not a series file: " + path);
+        }
+        if (buffer.get(RSeriesFormat.VERSION_POSITION) != RSeriesFormat.VERSION) {
+            throw new IOException("Unsupported series file version: " + path);
+        }
+        RSeriesType type = RSeriesType.of(buffer.get(RSeriesFormat.TYPE_POSITION));
+        int blockSize = buffer.getInt(RSeriesFormat.BLOCK_SIZE_POSITION);
+        int blockCount = buffer.getInt(RSeriesFormat.BLOCK_COUNT_POSITION);
+        long count = buffer.getLong(RSeriesFormat.COUNT_POSITION);
+        long indexOffset = buffer.getLong(RSeriesFormat.INDEX_OFFSET_POSITION);
+        if (type == null || blockSize <= 0 || blockCount < 0 || count < 0
+                || (count + blockSize - 1) / blockSize != blockCount
+                || indexOffset + (long) blockCount * RSeriesFormat.INDEX_ENTRY_SIZE != buffer.capacity()) {
+            throw new IOException("Corrupted series file: " + path);
+        }
+        return new RSeriesReader(buffer, type, blockSize, blockCount, count, (int) indexOffset);
+    }
+
+    /**
+     * Return the type of the values.
+     *
+     * @return the type.
+     */
+    public RSeriesType getType() {
+        return type;
+    }
+
+    /**
+     * Return the number of values.
+     *
+     * @return the number of values.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Return the index of the first value greater than or equal to an encoded value (see {@link RSeriesType}).
+     *
+     * @param value the encoded value.
+     * @return the index of the first value not before the given value, or {@link #size()} if there is none.
+     */
+    public long indexOf(long value) {
+        // Last block whose first value is before the value (the first value not before it is in this block or is
+        // the first value of the next one).
+        int low = 0;
+        int high = blockCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (firstValue(mid) < value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int block = high;
+        if (block < 0) {
+            return 0;
+        }
+        Cursor cursor = new Cursor((long) block * blockSize);
+        long end = Math.min(cursor.index + blockSize, count);
+        while (cursor.index < end) {
+            if (cursor.nextValue() >= value) {
+                return cursor.index - 1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Return the index of the first value on or after a date (at midnight for dates and times).
+     *
+     * @param date the date.
+     * @return the index of the first value not before the date, or {@link #size()} if there is none.
+     */
+    public long indexOf(RDate date) {
+        return indexOf(type.encode(date));
+    }
+
+    /**
+     * Return the index of the first value on or after a date and time (its date for dates).
+     *
+     * @param dateTime the date and time.
+     * @return the index of the first value not before the date and time, or {@link #size()} if there is none.
+     */
+    public long indexOf(RDateTime dateTime) {
+        return indexOf(type.encode(dateTime));
+    }
+
+    /**
+     * Return the index of the first value of a year (or following it).
+     *
+     * @param year the Republican year.
+     * @return the index of the first value not before the first day of the year, or {@link #size()} if there is none.
+     * @throws RepublicanCalendarException if the year is invalid.
+     */
+    public long indexOfYear(int year) {
+        return indexOf(RDate.of(year, RMonth.Vendemiaire, 1));
+    }
+
+    /**
+     * Return the index of the first value of a month (or following it).
+     *
+     * @param year  the Republican year.
+     * @param month the Republican month.
+     * @return the index of the first value not before the first day of the month, or {@link #size()} if there is none.
+     * @throws RepublicanCalendarException if the year is invalid.
+     */
+    public long indexOfMonth(int year, RMonth month) {
+        return indexOf(RDate.of(year, month, 1));
+    }
+
+    /**
+     * Return an encoded value (see {@link RSeriesType}).
+     *
+     * @param index the index of the value.
+     * @return the encoded value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public long getValue(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return cursor(index).nextValue();
+    }
+
+    /**
+     * Return a value as a date.
+     *
+     * @param index the index of the value.
+     * @return the date.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public RDate getDate(long index) {
+        return type.decodeDate(getValue(index));
+    }
+
+    /**
+     * Return a value as a date and time.
+     *
+     * @param index the index of the value.
+     * @return the date and time.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public RDateTime getDateTime(long index) {
+        return type.decodeDateTime(getValue(index));
+    }
+
+    /**
+     * Read encoded values (see {@link RSeriesType}) into an array.
+     *
+     * @param index the index of the first value to read.
+     * @param dst   the array receiving the values.
+     * @param off   the index of the first value to write in the array.
+     * @param len   the maximum number of values to read.
+     * @return the number of values read (less than {@code len} at the end of the series).
+     * @throws IndexOutOfBoundsException if the index is not between 0 and {@link #size()}, or if the array range is
+     *                                   invalid.
+     */
+    public int read(long index, long[] dst, int off, int len) {
+        if (off < 0 || len < 0 || off > dst.length - len) {
+            throw new IndexOutOfBoundsException("Invalid array range");
+        }
+        Cursor cursor = cursor(index);
+        int n = (int) Math.min(len, count - index);
+        for (int i = 0; i < n; i++) {
+            dst[off + i] = cursor.nextValue();
+        }
+        return n;
+    }
+
+    /**
+     * Return a cursor over the values, from the first one.
+     *
+     * @return the cursor.
+     */
+    public Cursor cursor() {
+        return cursor(0);
+    }
+
+    /**
+     * Return a cursor over the values, from a given index.
+     *
+     * @param index the index of the first value returned by the cursor.
+     * @return the cursor.
+     * @throws IndexOutOfBoundsException if the index is not between 0 and {@link #size()}.
+     */
+    public Cursor cursor(long index) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        Cursor cursor = new Cursor(index - index % blockSize);
+        for (long i = index % blockSize; i > 0; i--) {
+            cursor.nextValue();
+        }
+        return cursor;
+    }
+
+    private long firstValue(int block) {
+        return buffer.getLong(indexOffset + block * RSeriesFormat.INDEX_ENTRY_SIZE);
+    }
+
+    private int blockOffset(int block) {
+        return (int) buffer.getLong(indexOffset + block * RSeriesFormat.INDEX_ENTRY_SIZE + 8);
+    }
+
+    /**
+     * A cursor over the encoded values of a series (see {@link RSeriesType}), decoding them one at a time.
+     * <p>
+     * This class is not thread-safe.
+     */
+    public final class Cursor {
+
+        private long index;
+        private long value;
+        private int pos;
+
+        private Cursor(long index) {
+            this.index = index;
+        }
+
+        /**
+         * Return the index of the next value.
+         *
+         * @return the index of the next value ({@link #size()} at the end of the series).
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         * Return whether there are more values.
+         *
+         * @return true if there is a next value.
+         */
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        /**
+         * Return the next encoded value.
+         *
+         * @return the value.
+         * @throws NoSuchElementException if there are no more values.
+         */
+        public long nextValue() {
+            if (index >= count) {
+                throw new NoSuchElementException();
+            }
+            if (index % blockSize == 0) {
+                int block = (int) (index / blockSize);
+                value = firstValue(block);
+                pos = blockOffset(block);
+            } else {
+                long b;
+                long delta = 0;
+                int shift = 0;
+                do {
+                    b = buffer.get(pos++);
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += delta;
+            }
+            index++;
+            return value;
+        }
+    }
+}
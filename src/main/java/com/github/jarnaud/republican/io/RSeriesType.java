@@ -0,0 +1,96 @@
+package com.github.jarnaud.republican.io;
+
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RDateTime;
+import com.github.jarnaud.republican.RInstant;
+import com.github.jarnaud.republican.RTime;
+
+import java.time.ZoneOffset;
+
+/**
+ * The type of the values of a series file, and their encoding as a {@code long}.
+ */
+public enum RSeriesType {
+
+    /**
+     * Republican dates, encoded as epoch days (number of days since 1970-01-01).
+     */
+    DATES(1),
+
+    /**
+     * Republican local dates and times, encoded as the number of Republican microseconds since
+     * An 1 Vendemiaire 1 00:00 (see {@link RInstant#getMicros()}, the local date and time being taken at UTC).
+     */
+    DATE_TIMES(2);
+
+    private final byte id;
+
+    RSeriesType(int id) {
+        this.id = (byte) id;
+    }
+
+    byte getId() {
+        return id;
+    }
+
+    static RSeriesType of(byte id) {
+        for (RSeriesType type : values()) {
+            if (type.id == id) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Encode a date (at midnight for dates and times).
+     *
+     * @param date the date.
+     * @return the encoded value.
+     */
+    public long encode(RDate date) {
+        if (this == DATES) {
+            return date.toEpochDay();
+        }
+        return encode(RDateTime.of(date, RTime.MIN));
+    }
+
+    /**
+     * Encode a date and time (truncated to the date for dates, and to the microsecond for dates and times).
+     *
+     * @param dateTime the date and time.
+     * @return the encoded value.
+     */
+    public long encode(RDateTime dateTime) {
+        if (this == DATES) {
+            return dateTime.toRDate().toEpochDay();
+        }
+        return RInstant.of(dateTime, ZoneOffset.UTC).getMicros();
+    }
+
+    /**
+     * Decode the date of a value.
+     *
+     * @param value the encoded value.
+     * @return the date.
+     */
+    public RDate decodeDate(long value) {
+        if (this == DATES) {
+            return RDate.ofEpochDay(value);
+        }
+        return decodeDateTime(value).toRDate();
+    }
+
+    /**
+     * Decode the date and time of a value (at midnight for dates).
+     *
+     * @param value the encoded value.
+     * @return the date and time.
+     */
+    public RDateTime decodeDateTime(long value) {
+        if (this == DATES) {
+            return RDateTime.of(RDate.ofEpochDay(value), RTime.MIN);
+        }
+        return RInstant.ofMicros(value).toRDateTime(ZoneOffset.UTC);
+    }
+}
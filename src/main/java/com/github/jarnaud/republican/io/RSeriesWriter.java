@@ -0,0 +1,223 @@
+package com.github.jarnaud.republican.io;
+
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RDateTime;
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Writer of a series file: a sorted series of Republican dates or dates and times, delta and varint encoded by blocks
+ * (see {@link RSeriesFormat}), to be read with a {@link RSeriesReader}.
+ * <p>
+ * The values must be written in chronological order (equal values are allowed). A daily series takes about one byte
+ * per value. The file is complete once the writer is closed.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class RSeriesWriter implements Closeable {
+
+    /**
+     * The default number of values per block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final FileChannel channel;
+    private final RSeriesType type;
+    private final int blockSize;
+
+    /**
+     * The encoded values of the current block.
+     */
+    private final ByteBuffer block;
+
+    /**
+     * The first value and offset of each block.
+     */
+    private long[] index = new long[64];
+    private int blockCount;
+
+    private long count;
+    private long previous;
+    private long position = RSeriesFormat.HEADER_SIZE;
+    private boolean closed;
+
+    private RSeriesWriter(FileChannel channel, RSeriesType type, int blockSize) {
+        this.channel = channel;
+        this.type = type;
+        this.blockSize = blockSize;
+        this.block = ByteBuffer.allocate(blockSize * RSeriesFormat.MAX_VARINT_LENGTH);
+    }
+
+    /**
+     * Create a series file (replacing any existing file), with the default block size.
+     *
+     * @param path the path of the file.
+     * @param type the type of the values.
+     * @return the writer.
+     * @throws IOException if the file cannot be created.
+     */
+    public static RSeriesWriter create(Path path, RSeriesType type) throws IOException {
+        return create(path, type, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Create a series file (replacing any existing file).
+     *
+     * @param path      the path of the file.
+     * @param type      the type of the values.
+     * @param blockSize the number of values per block (the larger, the smaller the index but the longer the seeks).
+     * @return the writer.
+     * @throws IOException                 if the file cannot be created.
+     * @throws RepublicanCalendarException if the block size is not positive.
+     */
+    public static RSeriesWriter create(Path path, RSeriesType type, int blockSize) throws IOException {
+        Objects.requireNonNull(type, "type");
+        if (blockSize <= 0) {
+            throw new RepublicanCalendarException("Invalid block size (must be positive)");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new RSeriesWriter(channel, type, blockSize);
+    }
+
+    /**
+     * Return the type of the values.
+     *
+     * @return the type.
+     */
+    public RSeriesType getType() {
+        return type;
+    }
+
+    /**
+     * Return the number of values written.
+     *
+     * @return the number of values.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Write a date (at midnight for a series of dates and times).
+     *
+     * @param date the date.
+     * @throws IOException                 if the file cannot be written.
+     * @throws RepublicanCalendarException if the date is before the previous value.
+     */
+    public void write(RDate date) throws IOException {
+        writeValue(type.encode(date));
+    }
+
+    /**
+     * Write a date and time (truncated to the date for a series of dates).
+     *
+     * @param dateTime the date and time.
+     * @throws IOException                 if the file cannot be written.
+     * @throws RepublicanCalendarException if the date and time is before the previous value.
+     */
+    public void write(RDateTime dateTime) throws IOException {
+        writeValue(type.encode(dateTime));
+    }
+
+    /**
+     * Write an encoded value (see {@link RSeriesType}).
+     *
+     * @param value the value.
+     * @throws IOException                 if the file cannot be written.
+     * @throws RepublicanCalendarException if the value is before the previous value.
+     */
+    public void writeValue(long value) throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed");
+        }
+        if (count > 0 && value < previous) {
+            throw new RepublicanCalendarException("Values must be written in chronological order");
+        }
+        if (count % blockSize == 0) {
+            // First value of a block: stored in the index.
+            flushBlock();
+            if (2 * blockCount == index.length) {
+                index = Arrays.copyOf(index, 2 * index.length);
+            }
+            index[2 * blockCount] = value;
+            index[2 * blockCount + 1] = position;
+            blockCount++;
+        } else {
+            putVarint(block, value - previous);
+        }
+        previous = value;
+        count++;
+    }
+
+    private void flushBlock() throws IOException {
+        block.flip();
+        position = writeFully(block, position);
+        block.clear();
+    }
+
+    /**
+     * Write the last block, the index and the header, and close the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flushBlock();
+            ByteBuffer buffer = ByteBuffer.allocate(blockCount * RSeriesFormat.INDEX_ENTRY_SIZE);
+            buffer.asLongBuffer().put(index, 0, 2 * blockCount);
+            writeFully(buffer, position);
+
+            ByteBuffer header = ByteBuffer.allocate(RSeriesFormat.HEADER_SIZE)
+                    .putInt(RSeriesFormat.MAGIC)
+                    .put(RSeriesFormat.VERSION)
+                    .put(type.getId())
+                    .putShort((short) 0)
+                    .putInt(blockSize)
+                    .putInt(blockCount)
+                    .putLong(count)
+                    .putLong(position);
+            header.flip();
+            writeFully(header, 0);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Write a buffer at a position of the file.
+     *
+     * @return the position following the written bytes.
+     */
+    private long writeFully(ByteBuffer buffer, long filePosition) throws IOException {
+        long pos = filePosition;
+        while (buffer.hasRemaining()) {
+            pos += channel.write(buffer, pos);
+        }
+        return pos;
+    }
+
+    /**
+     * Write an unsigned varint.
+     */
+    static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
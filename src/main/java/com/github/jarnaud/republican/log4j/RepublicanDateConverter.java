@@ -0,0 +1,104 @@
+package com.github.jarnaud.republican.log4j;
+
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RDateTime;
+import com.github.jarnaud.republican.RFormatter;
+import com.github.jarnaud.republican.RTime;
+import com.github.jarnaud.republican.RepublicanClock;
+import org.apache.log4j.helpers.FormattingInfo;
+import org.apache.log4j.helpers.PatternConverter;
+import org.apache.log4j.spi.LoggingEvent;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * Converter rendering the timestamp of a logging event as a Republican date and time, followed by the decimal
+ * milliseconds.
+ * <p>
+ * The formatted date and time up to the decimal second is cached (and the day is cached by a
+ * {@link RepublicanClock}), so that most events only compute and write the milliseconds digits.
+ */
+public class RepublicanDateConverter extends PatternConverter {
+
+    /**
+     * The default pattern of the date and time, up to the decimal second.
+     */
+    public static final String DEFAULT_PATTERN = "y-MM-dd h:mm:ss";
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final boolean padded;
+    private final RFormatter formatter;
+    private final RepublicanClock clock;
+
+    /**
+     * The last formatted decimal second, replaced when a logging event is out of it.
+     */
+    private volatile Second cache;
+
+    /**
+     * Create a converter.
+     *
+     * @param formattingInfo the formatting modifiers (padding and truncation).
+     * @param padded         true if there are formatting modifiers.
+     * @param formatter      the formatter of the date and time up to the decimal second.
+     * @param zone           the zone of the rendered date and time.
+     */
+    public RepublicanDateConverter(FormattingInfo formattingInfo, boolean padded, RFormatter formatter, ZoneId zone) {
+        super(formattingInfo);
+        this.padded = padded;
+        this.formatter = formatter;
+        this.clock = RepublicanClock.of(Clock.system(zone));
+    }
+
+    @Override
+    public void format(StringBuffer sb, LoggingEvent event) {
+        if (padded) {
+            super.format(sb, event);
+        } else {
+            append(sb, event.getTimeStamp());
+        }
+    }
+
+    @Override
+    protected String convert(LoggingEvent event) {
+        StringBuffer sb = new StringBuffer(32);
+        append(sb, event.getTimeStamp());
+        return sb.toString();
+    }
+
+    private void append(StringBuffer sb, long timeStamp) {
+        RDate date = clock.date(timeStamp);
+        long rNanoOfDay = clock.nanoOfDay(timeStamp);
+        long secondOfDay = rNanoOfDay / NANOS_PER_SECOND;
+        Second second = cache;
+        if (second == null || second.secondOfDay != secondOfDay || !second.date.equals(date)) {
+            second = new Second(date, secondOfDay, formatter);
+            cache = second;
+        }
+        int millis = (int) (rNanoOfDay % NANOS_PER_SECOND / NANOS_PER_MILLI);
+        sb.append(second.prefix)
+                .append('.')
+                .append((char) ('0' + millis / 100))
+                .append((char) ('0' + millis / 10 % 10))
+                .append((char) ('0' + millis % 10));
+    }
+
+    /**
+     * Immutable cache of a formatted decimal second.
+     */
+    private static final class Second {
+
+        private final RDate date;
+        private final long secondOfDay;
+        private final String prefix;
+
+        Second(RDate date, long secondOfDay, RFormatter formatter) {
+            this.date = date;
+            this.secondOfDay = secondOfDay;
+            prefix = formatter.format(RDateTime.of(date, RTime.ofNanoOfDay(secondOfDay * NANOS_PER_SECOND)));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.jarnaud.republican.log4j;
+
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.helpers.PatternParser;
+
+/**
+ * A log4j {@link PatternLayout} which also renders the event timestamp as a Republican date and time,
+ * with the {@code %R} conversion character.
+ * <p>
+ * The option of the conversion character is a {@link com.github.jarnaud.republican.RFormatter} pattern for the
+ * date and time up to the decimal second (default: {@value RepublicanDateConverter#DEFAULT_PATTERN}), to which the
+ * decimal milliseconds are appended. For example, with {@code %R %-5p %c - %m%n}:
+ * <pre>
+ * 233-02-05 3:45:12.345 INFO  com.example.Foo - Hello
+ * </pre>
+ * The timestamps are rendered in the default time zone, or in the zone given by a second option (a {@link
+ * java.time.ZoneId} id, eg. {@code %R{y-MM-dd h:mm:ss}{Europe/Paris}}, or {@code %R{}{UTC}} with the default
+ * pattern), as with the {@code %d{pattern}{zone}} of log4j 2. All the other conversion characters are the ones of
+ * {@link PatternLayout}.
+ * <p>
+ * Configuration example:
+ * <pre>
+ * log4j.appender.stdout.layout=com.github.jarnaud.republican.log4j.RepublicanPatternLayout
+ * log4j.appender.stdout.layout.ConversionPattern=%R{'An' y MMM d h'h'mm'm'ss's'} %-5p [%t] %c{1} - %m%n
+ * </pre>
+ */
+public class RepublicanPatternLayout extends PatternLayout {
+
+    /**
+     * Create a layout with the default conversion pattern of {@link PatternLayout}.
+     */
+    public RepublicanPatternLayout() {
+        super();
+    }
+
+    /**
+     * Create a layout with the given conversion pattern.
+     *
+     * @param pattern the conversion pattern.
+     */
+    public RepublicanPatternLayout(String pattern) {
+        super(pattern);
+    }
+
+    @Override
+    protected PatternParser createPatternParser(String pattern) {
+        return new RepublicanPatternParser(pattern);
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.jarnaud.republican.log4j;
+
+import com.github.jarnaud.republican.RFormatter;
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.helpers.PatternParser;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+/**
+ * Pattern parser adding the {@code %R} conversion character (Republican date and time) to the log4j ones.
+ * <p>
+ * The conversion character takes two options: the pattern of the date and time, and the time zone id (eg.
+ * {@code %R{y-MM-dd h:mm:ss}{UTC}}, or {@code %R{}{UTC}} for the default pattern).
+ */
+public class RepublicanPatternParser extends PatternParser {
+
+    /**
+     * The conversion character of the Republican date and time.
+     */
+    public static final char REPUBLICAN_DATE_CHAR = 'R';
+
+    /**
+     * Create a parser for the given conversion pattern.
+     *
+     * @param pattern the conversion pattern.
+     */
+    public RepublicanPatternParser(String pattern) {
+        super(pattern);
+    }
+
+    @Override
+    protected void finalizeConverter(char c) {
+        if (c != REPUBLICAN_DATE_CHAR) {
+            super.finalizeConverter(c);
+            return;
+        }
+        boolean padded = isPadded();
+        String option = extractOption();
+        RFormatter formatter;
+        try {
+            formatter = RFormatter.ofPattern(option == null || option.isEmpty() ? RepublicanDateConverter.DEFAULT_PATTERN : option);
+        } catch (RepublicanCalendarException e) {
+            LogLog.error("Could not instantiate Republican date format with [" + option + "].", e);
+            formatter = RFormatter.ofPattern(RepublicanDateConverter.DEFAULT_PATTERN);
+        }
+        String zoneOption = extractOption();
+        ZoneId zone;
+        try {
+            zone = zoneOption == null ? ZoneId.systemDefault() : ZoneId.of(zoneOption);
+        } catch (DateTimeException e) {
+            LogLog.error("Could not find the time zone [" + zoneOption + "].", e);
+            zone = ZoneId.systemDefault();
+        }
+        addConverter(new RepublicanDateConverter(formattingInfo, padded, formatter, zone));
+        currentLiteral.setLength(0);
+    }
+
+    /**
+     * Indicates if the converter being parsed has formatting modifiers (eg. {@code %-30R}),
+     * ie. if there is anything between the last {@code %} and the conversion character.
+     */
+    private boolean isPadded() {
+        int conversionChar = i - 1;
+        return conversionChar > 0 && pattern.charAt(conversionChar - 1) != '%';
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests verifying bulk conversions give the same results as single-value conversions.
+ */
+public class BulkConverterTest {
+
+    private static final long FIRST_SECOND = RDate.FIRST_DAY.toEpochDay() * 86_400L;
+    private static final int SIZE = 10_000;
+
+    private final Random random = new Random(1792);
+
+    @Test
+    public void testDates() {
+        long[] epochDays = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = RDate.FIRST_DAY.toEpochDay() + random.nextInt(500 * 365);
+        }
+        int[] packedDates = new int[SIZE];
+        BulkConverter.toPackedDates(epochDays, packedDates);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(RPacked.packDate(RDate.ofEpochDay(epochDays[i])), packedDates[i]);
+        }
+
+        long[] back = new long[SIZE];
+        BulkConverter.toEpochDays(packedDates, back);
+        assertArrayEquals(epochDays, back);
+    }
+
+    @Test
+    public void testDates_range() {
+        long[] epochDays = {RDate.FIRST_DAY.toEpochDay(), RDate.FIRST_DAY.toEpochDay() + 1, RDate.FIRST_DAY.toEpochDay() + 2};
+        int[] packedDates = new int[4];
+        BulkConverter.toPackedDates(epochDays, 1, packedDates, 2, 2);
+        assertArrayEquals(new int[]{0, 0, RPacked.packDate(RDate.of(1, 1, 2)), RPacked.packDate(RDate.of(1, 1, 3))}, packedDates);
+
+        assertThrows(RepublicanCalendarException.class, () -> BulkConverter.toPackedDates(epochDays, 2, packedDates, 0, 2));
+        assertThrows(RepublicanCalendarException.class, () -> BulkConverter.toPackedDates(epochDays, 0, packedDates, 3, 2));
+        assertThrows(RepublicanCalendarException.class, () -> BulkConverter.toPackedDates(epochDays, 0, packedDates, 0, -1));
+        assertThrows(RepublicanCalendarException.class, () -> BulkConverter.toPackedDates(new long[]{0, -100_000}, new int[2]));
+    }
+
+    @Test
+    public void testDateTimes() {
+        ZoneOffset offset = ZoneOffset.ofHours(2);
+        long[] epochSeconds = new long[SIZE];
+        int[] nanos = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            epochSeconds[i] = FIRST_SECOND + (long) (random.nextDouble() * 300 * 365 * 86_400L);
+            nanos[i] = random.nextInt(1_000_000_000);
+        }
+        long[] packedDateTimes = new long[SIZE];
+        BulkConverter.toPackedDateTimes(epochSeconds, nanos, offset, packedDateTimes);
+        for (int i = 0; i < SIZE; i++) {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSeconds[i], nanos[i], offset);
+            assertEquals(RPacked.packDateTime(RDateTime.of(dateTime)), packedDateTimes[i]);
+        }
+
+        long[] backSeconds = new long[SIZE];
+        int[] backNanos = new int[SIZE];
+        BulkConverter.toEpochSeconds(packedDateTimes, offset, backSeconds, backNanos);
+        for (int i = 0; i < SIZE; i++) {
+            LocalDateTime dateTime = RPacked.unpackDateTime(packedDateTimes[i]).toLocalDateTime();
+            assertEquals(dateTime.toEpochSecond(offset), backSeconds[i]);
+            assertEquals(dateTime.getNano(), backNanos[i]);
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        long[] epochDays = new long[1];
+        // Month 0, day 0.
+        assertThrows(RepublicanCalendarException.class, () -> BulkConverter.toEpochDays(new int[]{0}, epochDays));
+        int sanculottide6 = RPacked.packDate(RDate.of(3, RMonth.Sanculottide, 6)) + (1 << 9);
+        assertEquals(4, RPacked.dateYear(sanculottide6));
+        assertThrows(RepublicanCalendarException.class, () -> BulkConverter.toEpochDays(new int[]{sanculottide6}, epochDays));
+        assertThrows(RepublicanCalendarException.class, () -> RPacked.unpackDate(sanculottide6));
+
+        long[] packedDateTimes = new long[1];
+        for (int nano : new int[]{-1, 1_000_000_000}) {
+            assertThrows(RepublicanCalendarException.class, () -> RDateTime.ofEpochSecond(0, nano, ZoneOffset.UTC));
+            assertThrows(RepublicanCalendarException.class,
+                    () -> BulkConverter.toPackedDateTimes(new long[]{0}, new int[]{nano}, ZoneOffset.UTC, packedDateTimes));
+        }
+        assertThrows(ArithmeticException.class, () -> RDateTime.ofEpochSecond(Long.MAX_VALUE, 0, ZoneOffset.ofHours(1)));
+        assertThrows(ArithmeticException.class,
+                () -> BulkConverter.toPackedDateTimes(new long[]{Long.MAX_VALUE}, new int[1], ZoneOffset.ofHours(1), packedDateTimes));
+
+        assertThrows(RepublicanCalendarException.class,
+                () -> BulkConverter.toEpochSeconds(new long[]{0}, ZoneOffset.UTC, new long[1], new int[1]));
+    }
+}
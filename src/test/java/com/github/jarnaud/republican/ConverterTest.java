@@ -196,6 +196,17 @@ public class ConverterTest {
                 RDate.of(rYear, rMonth, rDay).toLocalDate()
         );
 
+        // Test epoch day methods:
+
+        assertEquals(
+                LocalDate.of(gYear, gMonth, gDay).toEpochDay(),
+                RDate.of(rYear, rMonth, rDay).toEpochDay()
+        );
+
+        assertEquals(
+                RDate.of(rYear, rMonth, rDay),
+                RDate.ofEpochDay(LocalDate.of(gYear, gMonth, gDay).toEpochDay())
+        );
     }
 
 }
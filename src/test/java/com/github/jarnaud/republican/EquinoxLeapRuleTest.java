@@ -0,0 +1,100 @@
+package com.github.jarnaud.republican;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EquinoxLeapRuleTest {
+
+    private final RLeapRule rule = RLeapRule.EQUINOX;
+
+    @Test
+    public void testHistoricalYears() {
+        // Same as Romme during the historical period.
+        for (int year = 1; year <= 15; year++) {
+            assertEquals(RLeapRule.ROMME.isSextile(year), rule.isSextile(year), "An " + year);
+            assertEquals(RLeapRule.ROMME.daysBeforeYear(year), rule.daysBeforeYear(year), "An " + year);
+        }
+        assertEquals(0, rule.daysBeforeYear(1));
+        assertEquals(LocalDate.of(1795, 9, 23), yearStart(4));
+    }
+
+    @Test
+    public void testSextileYears() {
+        int[] expected = {3, 7, 11, 15, 20, 24, 28, 32, 36, 40, 44, 48, 53, 57, 61, 65, 69, 73, 77, 82, 86, 90, 94, 98};
+        int i = 0;
+        for (int year = 1; year < 100; year++) {
+            if (rule.isSextile(year)) {
+                assertEquals(expected[i++], year);
+            }
+        }
+        assertEquals(expected.length, i);
+        assertFalse(rule.isSextile(0));
+    }
+
+    @Test
+    public void testYearStarts() {
+        assertEquals(LocalDate.of(2020, 9, 22), yearStart(229));
+        // Equinox on 2022-09-23 at 01:03 UTC, when Romme's rule gives the 22nd.
+        assertEquals(LocalDate.of(2022, 9, 23), yearStart(231));
+        assertEquals(LocalDate.of(2022, 9, 22), LocalDate.ofEpochDay(RDate.FIRST_EPOCH_DAY + RLeapRule.ROMME.daysBeforeYear(231)));
+        for (int year = 1; year <= EquinoxTableGenerator.YEARS; year++) {
+            assertEquals(EquinoxTableGenerator.yearStartEpochDay(year), RDate.FIRST_EPOCH_DAY + rule.daysBeforeYear(year), "An " + year);
+        }
+    }
+
+    @Test
+    public void testBeforeTable() {
+        for (int year = -100; year < 1; year++) {
+            assertEquals(RLeapRule.ROMME.daysBeforeYear(year), rule.daysBeforeYear(year), "An " + year);
+            assertFalse(rule.isSextile(year));
+        }
+    }
+
+    @Test
+    public void testAfterTable() {
+        RLeapRuleTest.assertConsistent(rule);
+        int first = EquinoxTableGenerator.YEARS + 1;
+        assertEquals(EquinoxTableGenerator.yearStartEpochDay(first), RDate.FIRST_EPOCH_DAY + rule.daysBeforeYear(first));
+        for (int year = first; year < first + 1000; year++) {
+            assertEquals(RLeapRule.ROMME.isSextile(year), rule.isSextile(year), "An " + year);
+        }
+    }
+
+    @Test
+    public void testResource() throws IOException {
+        // The resource generated by the build is the same as a fresh generation.
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        EquinoxTableGenerator.write(EquinoxTableGenerator.sextileBits(EquinoxTableGenerator.YEARS), EquinoxTableGenerator.YEARS, expected);
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        try (InputStream in = EquinoxLeapRule.class.getResourceAsStream(EquinoxLeapRule.RESOURCE)) {
+            byte[] buffer = new byte[1024];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                actual.write(buffer, 0, n);
+            }
+        }
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+        assertEquals(4 + 8 * ((EquinoxTableGenerator.YEARS + 63) / 64), actual.size());
+    }
+
+    @Test
+    public void testConverters() {
+        YearStartTable table = new YearStartTable(rule, 1000);
+        GRConverter grConverter = new GRConverter(table);
+        RGConverter rgConverter = new RGConverter(table);
+        long epochDay = LocalDate.of(2022, 9, 23).toEpochDay();
+        assertEquals(RPacked.packDate(231, 1, 1), grConverter.convertToPacked(epochDay));
+        assertEquals(RPacked.packDate(230, 13, 6), grConverter.convertToPacked(epochDay - 1));
+        assertEquals(epochDay, rgConverter.toEpochDay(231, 1, 1));
+    }
+
+    private LocalDate yearStart(int year) {
+        return LocalDate.ofEpochDay(RDate.FIRST_EPOCH_DAY + rule.daysBeforeYear(year));
+    }
+}
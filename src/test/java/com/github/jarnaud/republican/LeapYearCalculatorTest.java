@@ -2,6 +2,8 @@ package com.github.jarnaud.republican;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Year;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class LeapYearCalculatorTest {
@@ -57,4 +59,43 @@ public class LeapYearCalculatorTest {
         assertEquals(49, calculator.leapRepublicanYears(204));
     }
 
+    @Test
+    public void testFarFuture() {
+        assertEquals(242_500, calculator.leapRepublicanYears(1_000_000));
+        assertEquals(242_500, calculator.leapRepublicanYears(1_000_003));
+        assertEquals(242_501, calculator.leapRepublicanYears(1_000_004));
+        assertEquals(242_065, calculator.leapYears(1_000_000));
+    }
+
+    @Test
+    public void testSameAsIterative() {
+        for (int year = 1; year <= 10_000; year++) {
+            assertEquals(iterativeLeapRepublicanYears(year), calculator.leapRepublicanYears(year), "An " + year);
+        }
+        for (int year = 1792; year <= 10_000; year++) {
+            assertEquals(iterativeLeapYears(year), calculator.leapYears(year), "Year " + year);
+        }
+    }
+
+    /**
+     * Reference implementation counting leap years one by one.
+     */
+    private int iterativeLeapRepublicanYears(int year) {
+        int nb = 0;
+        for (int y = 1; y <= year; y++) {
+            if (RDate.isSextileYear(y)) nb++;
+        }
+        return nb;
+    }
+
+    /**
+     * Reference implementation counting Gregorian leap years after 1792 one by one.
+     */
+    private int iterativeLeapYears(int year) {
+        int nb = 0;
+        for (int y = 1793; y <= year; y++) {
+            if (Year.isLeap(y)) nb++;
+        }
+        return nb;
+    }
 }
@@ -0,0 +1,89 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests verifying parallel bulk conversions give the same results as sequential bulk conversions.
+ */
+public class ParallelBulkConverterTest {
+
+    private static final long FIRST_SECOND = RDate.FIRST_DAY.toEpochDay() * 86_400L;
+    private static final int SIZE = 100_000;
+
+    private final Random random = new Random(1792);
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelBulkConverter converter = ParallelBulkConverter.of(pool, 1000);
+
+    @AfterEach
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testDates() {
+        long[] epochDays = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = RDate.FIRST_DAY.toEpochDay() + random.nextInt(500 * 365);
+        }
+        int[] expected = new int[SIZE];
+        BulkConverter.toPackedDates(epochDays, expected);
+        int[] packedDates = new int[SIZE];
+        converter.toPackedDates(epochDays, packedDates);
+        assertArrayEquals(expected, packedDates);
+
+        long[] back = new long[SIZE];
+        converter.toEpochDays(packedDates, back);
+        assertArrayEquals(epochDays, back);
+
+        // Common pool, and sub-ranges.
+        int[] shifted = new int[SIZE + 10];
+        ParallelBulkConverter.commonPool().toPackedDates(epochDays, 5, shifted, 10, SIZE - 5);
+        assertEquals(0, shifted[9]);
+        assertEquals(expected[5], shifted[10]);
+        assertEquals(expected[SIZE - 1], shifted[SIZE + 4]);
+    }
+
+    @Test
+    public void testDateTimes() {
+        ZoneOffset offset = ZoneOffset.ofHours(-3);
+        long[] epochSeconds = new long[SIZE];
+        int[] nanos = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            epochSeconds[i] = FIRST_SECOND + (long) (random.nextDouble() * 300 * 365 * 86_400L);
+            nanos[i] = random.nextInt(1_000_000_000);
+        }
+        long[] expected = new long[SIZE];
+        BulkConverter.toPackedDateTimes(epochSeconds, nanos, offset, expected);
+        long[] packedDateTimes = new long[SIZE];
+        converter.toPackedDateTimes(epochSeconds, nanos, offset, packedDateTimes);
+        assertArrayEquals(expected, packedDateTimes);
+
+        long[] expectedSeconds = new long[SIZE];
+        int[] expectedNanos = new int[SIZE];
+        BulkConverter.toEpochSeconds(packedDateTimes, offset, expectedSeconds, expectedNanos);
+        long[] backSeconds = new long[SIZE];
+        int[] backNanos = new int[SIZE];
+        converter.toEpochSeconds(packedDateTimes, offset, backSeconds, backNanos);
+        assertArrayEquals(expectedSeconds, backSeconds);
+        assertArrayEquals(expectedNanos, backNanos);
+    }
+
+    @Test
+    public void testErrors() {
+        long[] epochDays = new long[SIZE];
+        epochDays[SIZE - 1] = RDate.FIRST_EPOCH_DAY - 1;
+        assertThrows(RepublicanCalendarException.class, () -> converter.toPackedDates(epochDays, new int[SIZE]));
+        assertThrows(RepublicanCalendarException.class, () -> converter.toPackedDates(epochDays, new int[SIZE - 1]));
+        assertThrows(RepublicanCalendarException.class, () -> converter.toPackedDates(epochDays, 1, new int[SIZE], 0, SIZE));
+        assertThrows(RepublicanCalendarException.class, () -> ParallelBulkConverter.of(pool, 0));
+        assertEquals(ParallelBulkConverter.DEFAULT_THRESHOLD, ParallelBulkConverter.commonPool().getThreshold());
+    }
+}
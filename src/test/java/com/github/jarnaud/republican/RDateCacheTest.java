@@ -0,0 +1,86 @@
+package com.github.jarnaud.republican;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RDateCacheTest {
+
+    @Test
+    public void testCanonicalInstances() {
+        RDate date = RDate.of(229, RMonth.Frimaire, 11);
+        assertSame(date, RDate.of(229, 3, 11));
+        assertSame(date, RDate.of(LocalDate.of(2020, 12, 1)));
+        assertSame(date, RDate.ofEpochDay(date.toEpochDay()));
+        assertSame(date, RDate.of(229, RMonth.Frimaire, 10).plusDays(1));
+        assertSame(RDate.of(3, RMonth.Sanculottide, 6), RDate.of(3, RMonth.Sanculottide, 6));
+    }
+
+    @Test
+    public void testOutOfCache() {
+        RDate date = RDate.of(RDateCache.DEFAULT_MAX_YEAR + 1, RMonth.Frimaire, 11);
+        assertNotSame(date, RDate.of(RDateCache.DEFAULT_MAX_YEAR + 1, RMonth.Frimaire, 11));
+        assertEquals(date, RDate.of(RDateCache.DEFAULT_MAX_YEAR + 1, RMonth.Frimaire, 11));
+    }
+
+    @Test
+    public void testDisabled() {
+        RDateCache cache = new RDateCache(0);
+        RDate date = cache.get(1, RMonth.Vendemiaire, 1);
+        assertNotSame(date, cache.get(1, RMonth.Vendemiaire, 1));
+        assertEquals(date, cache.get(1, RMonth.Vendemiaire, 1));
+    }
+
+    @Test
+    public void testMaxYear() {
+        assertEquals(RDateCache.DEFAULT_MAX_YEAR, RDateCache.INSTANCE.getMaxYear());
+        assertEquals(0, new RDateCache(-1).getMaxYear());
+        RDateCache cache = new RDateCache(Integer.MAX_VALUE);
+        assertEquals(RDateCache.MAX_CACHED_YEAR, cache.getMaxYear());
+        assertSame(cache.get(RDateCache.MAX_CACHED_YEAR, RMonth.Vendemiaire, 1), cache.get(RDateCache.MAX_CACHED_YEAR, RMonth.Vendemiaire, 1));
+        assertNotSame(cache.get(RDateCache.MAX_CACHED_YEAR + 1, RMonth.Vendemiaire, 1), cache.get(RDateCache.MAX_CACHED_YEAR + 1, RMonth.Vendemiaire, 1));
+        assertEquals(Integer.MAX_VALUE, cache.get(Integer.MAX_VALUE, RMonth.Vendemiaire, 1).getYear());
+    }
+
+    @Test
+    public void testAllDays() {
+        RDateCache cache = new RDateCache(10);
+        for (RMonth month : RMonth.values()) {
+            int length = month == RMonth.Sanculottide ? 6 : 30;
+            for (int day = 1; day <= length; day++) {
+                RDate date = cache.get(3, month, day);
+                assertEquals(3, date.getYear());
+                assertEquals(month, date.getMonth());
+                assertEquals(day, date.getDay());
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentCreation() throws InterruptedException, ExecutionException {
+        RDateCache cache = new RDateCache(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<RDate>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(42, RMonth.Germinal, 12);
+                }));
+            }
+            start.countDown();
+            RDate first = futures.get(0).get();
+            for (Future<RDate> future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
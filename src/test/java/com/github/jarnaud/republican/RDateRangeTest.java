@@ -0,0 +1,133 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RDateRangeTest {
+
+    @Test
+    public void testOf() {
+        RDate start = RDate.of(12, RMonth.Brumaire, 18);
+        RDate end = RDate.of(12, RMonth.Frimaire, 11);
+        RDateRange range = RDateRange.of(start, end);
+        assertEquals(start, range.getStart());
+        assertEquals(end, range.getEndExclusive());
+        assertEquals(start.toEpochDay(), range.getStartEpochDay());
+        assertEquals(end.toEpochDay(), range.getEndEpochDay());
+        assertEquals(23, range.lengthInDays());
+        assertFalse(range.isEmpty());
+        assertEquals(RDateRange.ofClosed(start, end.minusDays(1)), range);
+        assertTrue(RDateRange.of(start, start).isEmpty());
+        assertEquals("[An 12 Brumaire 18, An 12 Frimaire 11)", range.toString());
+
+        assertThrows(RepublicanCalendarException.class, () -> RDateRange.of(end, start));
+        assertThrows(RepublicanCalendarException.class, () -> RDateRange.ofEpochDays(RDate.FIRST_EPOCH_DAY - 1, 0));
+        assertThrows(RepublicanCalendarException.class, () -> RDateRange.ofEpochDays(0, Long.MAX_VALUE));
+        assertThrows(RepublicanCalendarException.class, () -> RDateRange.ofEpochDays(0, GRConverter.MAX_EPOCH_DAY + 1));
+        RDateRange last = RDateRange.ofEpochDays(GRConverter.MAX_EPOCH_DAY - 1, GRConverter.MAX_EPOCH_DAY);
+        assertEquals(RDate.ofEpochDay(GRConverter.MAX_EPOCH_DAY), last.getEndExclusive());
+        assertEquals("[" + last.getStart() + ", " + last.getEndExclusive() + ")", last.toString());
+    }
+
+    @Test
+    public void testOfYearAndMonth() {
+        assertEquals(365, RDateRange.ofYear(2).lengthInDays());
+        assertEquals(366, RDateRange.ofYear(3).lengthInDays());
+        assertEquals(RDate.of(4, RMonth.Vendemiaire, 1), RDateRange.ofYear(3).getEndExclusive());
+        assertEquals(30, RDateRange.ofMonth(3, RMonth.Fructidor).lengthInDays());
+        assertEquals(6, RDateRange.ofMonth(3, RMonth.Sanculottide).lengthInDays());
+        assertEquals(5, RDateRange.ofMonth(4, RMonth.Sanculottide).lengthInDays());
+    }
+
+    @Test
+    public void testContains() {
+        RDateRange range = RDateRange.ofMonth(12, RMonth.Brumaire);
+        assertTrue(range.contains(RDate.of(12, RMonth.Brumaire, 1)));
+        assertTrue(range.contains(RDate.of(12, RMonth.Brumaire, 30)));
+        assertFalse(range.contains(RDate.of(12, RMonth.Vendemiaire, 30)));
+        assertFalse(range.contains(RDate.of(12, RMonth.Frimaire, 1)));
+        assertTrue(range.contains(RDate.of(12, RMonth.Brumaire, 18).toEpochDay()));
+        assertTrue(RDateRange.ofYear(12).encloses(range));
+        assertTrue(range.encloses(range));
+        assertFalse(range.encloses(RDateRange.ofYear(12)));
+    }
+
+    @Test
+    public void testOverlapsAndIntersection() {
+        RDateRange brumaire = RDateRange.ofMonth(12, RMonth.Brumaire);
+        RDateRange frimaire = RDateRange.ofMonth(12, RMonth.Frimaire);
+        RDateRange middle = RDateRange.of(RDate.of(12, RMonth.Brumaire, 21), RDate.of(12, RMonth.Frimaire, 11));
+        assertFalse(brumaire.overlaps(frimaire));
+        assertTrue(brumaire.overlaps(middle));
+        assertTrue(middle.overlaps(frimaire));
+        assertFalse(brumaire.overlaps(RDateRange.of(RDate.of(12, RMonth.Brumaire, 5), RDate.of(12, RMonth.Brumaire, 5))));
+
+        assertEquals(RDateRange.of(RDate.of(12, RMonth.Brumaire, 21), RDate.of(12, RMonth.Frimaire, 1)), brumaire.intersection(middle));
+        assertEquals(brumaire.intersection(middle), middle.intersection(brumaire));
+        assertSame(brumaire, brumaire.intersection(RDateRange.ofYear(12)));
+        RDateRange empty = brumaire.intersection(RDateRange.ofMonth(12, RMonth.Nivose));
+        assertTrue(empty.isEmpty());
+        assertEquals(RDate.of(12, RMonth.Nivose, 1), empty.getStart());
+    }
+
+    @Test
+    public void testDates() {
+        RDateRange range = RDateRange.ofMonth(3, RMonth.Sanculottide);
+        List<RDate> dates = range.dates().collect(Collectors.toList());
+        assertEquals(6, dates.size());
+        assertEquals(RDate.of(3, RMonth.Sanculottide, 6), dates.get(5));
+    }
+
+    @Test
+    public void testDecades() {
+        RDateRange range = RDateRange.of(RDate.of(3, RMonth.Fructidor, 15), RDate.of(4, RMonth.Vendemiaire, 13));
+        List<RDateRange> decades = range.decades();
+        assertEquals(5, decades.size());
+        assertEquals(RDateRange.of(RDate.of(3, RMonth.Fructidor, 15), RDate.of(3, RMonth.Fructidor, 21)), decades.get(0));
+        assertEquals(RDateRange.ofClosed(RDate.of(3, RMonth.Fructidor, 21), RDate.of(3, RMonth.Fructidor, 30)), decades.get(1));
+        assertEquals(RDateRange.ofMonth(3, RMonth.Sanculottide), decades.get(2));
+        assertEquals(RDateRange.of(RDate.of(4, RMonth.Vendemiaire, 1), RDate.of(4, RMonth.Vendemiaire, 11)), decades.get(3));
+        assertEquals(RDateRange.of(RDate.of(4, RMonth.Vendemiaire, 11), RDate.of(4, RMonth.Vendemiaire, 13)), decades.get(4));
+
+        assertEquals(37, RDateRange.ofYear(12).decades().size());
+        assertTrue(RDateRange.of(RDate.MIN, RDate.MIN).decades().isEmpty());
+    }
+
+    @Test
+    public void testMonthsAndYears() {
+        RDateRange range = RDateRange.of(RDate.of(3, RMonth.Thermidor, 15), RDate.of(5, RMonth.Brumaire, 2));
+        List<RDateRange> months = range.months();
+        assertEquals(18, months.size());
+        assertEquals(RDateRange.of(RDate.of(3, RMonth.Thermidor, 15), RDate.of(3, RMonth.Fructidor, 1)), months.get(0));
+        assertEquals(RDateRange.ofMonth(3, RMonth.Fructidor), months.get(1));
+        assertEquals(RDateRange.ofMonth(3, RMonth.Sanculottide), months.get(2));
+        assertEquals(RDateRange.ofMonth(4, RMonth.Vendemiaire), months.get(3));
+        assertEquals(RDateRange.ofMonth(4, RMonth.Sanculottide), months.get(15));
+        assertEquals(RDateRange.ofMonth(5, RMonth.Vendemiaire), months.get(16));
+        assertEquals(RDateRange.of(RDate.of(5, RMonth.Brumaire, 1), RDate.of(5, RMonth.Brumaire, 2)), months.get(17));
+
+        List<RDateRange> years = range.years();
+        assertEquals(3, years.size());
+        assertEquals(RDateRange.of(RDate.of(3, RMonth.Thermidor, 15), RDate.of(4, RMonth.Vendemiaire, 1)), years.get(0));
+        assertEquals(RDateRange.ofYear(4), years.get(1));
+        assertEquals(RDateRange.of(RDate.of(5, RMonth.Vendemiaire, 1), RDate.of(5, RMonth.Brumaire, 2)), years.get(2));
+
+        // The pieces always cover the whole range.
+        RDateRange large = RDateRange.of(RDate.of(1, RMonth.Nivose, 7), RDate.of(250, RMonth.Germinal, 3));
+        for (List<RDateRange> pieces : Arrays.asList(large.decades(), large.months(), large.years())) {
+            assertEquals(large.getStartEpochDay(), pieces.get(0).getStartEpochDay());
+            assertEquals(large.getEndEpochDay(), pieces.get(pieces.size() - 1).getEndEpochDay());
+            for (int i = 1; i < pieces.size(); i++) {
+                assertEquals(pieces.get(i - 1).getEndEpochDay(), pieces.get(i).getStartEpochDay());
+                assertFalse(pieces.get(i).isEmpty());
+            }
+        }
+        assertEquals(250, large.years().size());
+    }
+}
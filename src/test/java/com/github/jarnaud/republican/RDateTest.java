@@ -4,6 +4,11 @@ import com.github.jarnaud.republican.exception.RepublicanCalendarException;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static com.github.jarnaud.republican.RSpecialDay.Revolution;
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +40,39 @@ public class RDateTest {
         // Normal cases are handled by the converter test.
     }
 
+    @Test
+    public void testOfEpochDay() {
+        assertEquals(RDate.MIN, RDate.ofEpochDay(RDate.FIRST_DAY.toEpochDay()));
+        assertEquals(RDate.FIRST_DAY.toEpochDay(), RDate.MIN.toEpochDay());
+        assertThrows(RepublicanCalendarException.class, () -> RDate.ofEpochDay(RDate.FIRST_DAY.toEpochDay() - 1));
+        assertThrows(RepublicanCalendarException.class, () -> RDate.ofEpochDay(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testEpochDay_consecutiveDays() {
+        RDate previous = RDate.MIN;
+        for (long epochDay = RDate.MIN.toEpochDay() + 1; epochDay < RDate.MIN.toEpochDay() + 365 * 1000; epochDay++) {
+            RDate date = RDate.ofEpochDay(epochDay);
+            assertEquals(epochDay, date.toEpochDay());
+            assertEquals(nextDay(previous), date);
+            previous = date;
+        }
+    }
+
+    /**
+     * Reference implementation of the next day, based on the month lengths.
+     */
+    private RDate nextDay(RDate date) {
+        int monthLength = date.isSpecialDay() ? (date.isSextile() ? 6 : 5) : 30;
+        if (date.getDay() < monthLength) {
+            return RDate.of(date.getYear(), date.getMonth(), date.getDay() + 1);
+        }
+        if (date.isSpecialDay()) {
+            return RDate.of(date.getYear() + 1, RMonth.Vendemiaire, 1);
+        }
+        return RDate.of(date.getYear(), date.getMonth().getMonth() + 1, 1);
+    }
+
     @Test
     public void testOfInvalidSpecialDay() {
         assertThrows(RepublicanCalendarException.class, () -> RDate.of(3, RMonth.Sanculottide, 7));
@@ -57,6 +95,26 @@ public class RDateTest {
         assertEquals(3, RDate.of(6, RMonth.Floreal, 30).getDecade());
     }
 
+    @Test
+    public void testDayOfDecade() {
+        assertEquals(1, RDate.of(6, RMonth.Floreal, 1).getDayOfDecade());
+        assertEquals(4, RDate.of(6, RMonth.Floreal, 14).getDayOfDecade());
+        assertEquals(10, RDate.of(6, RMonth.Floreal, 30).getDayOfDecade());
+        assertEquals(6, RDate.of(7, RMonth.Sanculottide, 6).getDayOfDecade());
+        assertEquals(RDayOfDecade.Primidi, RDate.of(6, RMonth.Floreal, 21).getDecadeDay());
+        assertEquals(RDayOfDecade.Quartidi, RDate.of(6, RMonth.Floreal, 14).getDecadeDay());
+        assertEquals(RDayOfDecade.Decadi, RDate.of(6, RMonth.Floreal, 10).getDecadeDay());
+        assertNull(RDate.of(6, RMonth.Sanculottide, 1).getDecadeDay());
+        assertEquals(RDayOfDecade.Nonidi, RDayOfDecade.of(9));
+        assertEquals(9, RDayOfDecade.Nonidi.getValue());
+        assertThrows(RepublicanCalendarException.class, () -> RDayOfDecade.of(11));
+
+        assertEquals(1, RDate.of(6, RMonth.Vendemiaire, 10).getDecadeOfYear());
+        assertEquals(22, RDate.of(6, RMonth.Floreal, 1).getDecadeOfYear());
+        assertEquals(36, RDate.of(6, RMonth.Fructidor, 30).getDecadeOfYear());
+        assertEquals(37, RDate.of(7, RMonth.Sanculottide, 6).getDecadeOfYear());
+    }
+
     @Test
     public void testIsBefore() {
         RDate d1 = RDate.of(6, RMonth.Floreal, 4);
@@ -115,6 +173,59 @@ public class RDateTest {
         assertThrows(RuntimeException.class, () -> RDate.of(1, 1, 1).plusDays(-1));
     }
 
+    @Test
+    public void testPlusDays_specialDays() {
+        assertEquals(RDate.of(3, RMonth.Sanculottide, 6), RDate.of(3, RMonth.Fructidor, 30).plusDays(6));
+        assertEquals(RDate.of(5, RMonth.Vendemiaire, 1), RDate.of(4, RMonth.Fructidor, 30).plusDays(6));
+        assertEquals(RDate.of(209, RMonth.Vendemiaire, 1), RDate.of(208, RMonth.Sanculottide, 6).plusDays(1));
+        assertEquals(RDate.of(1, RMonth.Vendemiaire, 1), RDate.of(229, RMonth.Frimaire, 10).plusDays(-83_344));
+    }
+
+    @Test
+    public void testMinusDays() {
+        assertEquals(RDate.of(1, 1, 1), RDate.of(1, 1, 1).minusDays(0));
+        assertEquals(RDate.of(3, RMonth.Sanculottide, 6), RDate.of(4, RMonth.Vendemiaire, 1).minusDays(1));
+        assertEquals(RDate.of(4, RMonth.Sanculottide, 5), RDate.of(5, RMonth.Vendemiaire, 1).minusDays(1));
+        assertEquals(RDate.of(1, 1, 2), RDate.of(1, 1, 1).minusDays(-1));
+        assertThrows(RepublicanCalendarException.class, () -> RDate.of(1, 1, 1).minusDays(1));
+    }
+
+    @Test
+    public void testPlusDecades() {
+        assertEquals(RDate.of(6, RMonth.Floreal, 14), RDate.of(6, RMonth.Floreal, 4).plusDecades(1));
+        assertEquals(RDate.of(6, RMonth.Prairial, 4), RDate.of(6, RMonth.Floreal, 4).plusDecades(3));
+        assertEquals(RDate.of(6, RMonth.Floreal, 4), RDate.of(6, RMonth.Prairial, 4).plusDecades(-3));
+        // Sanculottide days are counted.
+        assertEquals(RDate.of(7, RMonth.Vendemiaire, 5), RDate.of(6, RMonth.Fructidor, 30).plusDecades(1));
+        assertThrows(RepublicanCalendarException.class, () -> RDate.of(1, 1, 1).plusDecades(-1));
+    }
+
+    @Test
+    public void testPlusMonths() {
+        assertEquals(RDate.of(6, RMonth.Floreal, 4), RDate.of(6, RMonth.Floreal, 4).plusMonths(0));
+        assertEquals(RDate.of(6, RMonth.Prairial, 4), RDate.of(6, RMonth.Floreal, 4).plusMonths(1));
+        assertEquals(RDate.of(7, RMonth.Vendemiaire, 4), RDate.of(6, RMonth.Floreal, 4).plusMonths(6));
+        assertEquals(RDate.of(5, RMonth.Floreal, 4), RDate.of(6, RMonth.Floreal, 4).plusMonths(-13));
+        assertEquals(RDate.of(5, RMonth.Sanculottide, 4), RDate.of(6, RMonth.Vendemiaire, 4).plusMonths(-1));
+        // Day clamped to the length of Sanculottide.
+        assertEquals(RDate.of(6, RMonth.Sanculottide, 5), RDate.of(6, RMonth.Fructidor, 30).plusMonths(1));
+        assertEquals(RDate.of(7, RMonth.Sanculottide, 6), RDate.of(7, RMonth.Fructidor, 30).plusMonths(1));
+        assertEquals(RDate.of(8, RMonth.Vendemiaire, 6), RDate.of(7, RMonth.Sanculottide, 6).plusMonths(1));
+        assertThrows(RepublicanCalendarException.class, () -> RDate.of(1, 1, 1).plusMonths(-1));
+    }
+
+    @Test
+    public void testPlusYears() {
+        assertEquals(RDate.of(6, RMonth.Floreal, 4), RDate.of(6, RMonth.Floreal, 4).plusYears(0));
+        assertEquals(RDate.of(229, RMonth.Floreal, 4), RDate.of(6, RMonth.Floreal, 4).plusYears(223));
+        assertEquals(RDate.of(1, RMonth.Floreal, 4), RDate.of(6, RMonth.Floreal, 4).plusYears(-5));
+        // Sanculottide 6 only exists on sextile years.
+        assertEquals(RDate.of(7, RMonth.Sanculottide, 6), RDate.of(3, RMonth.Sanculottide, 6).plusYears(4));
+        assertEquals(RDate.of(4, RMonth.Sanculottide, 5), RDate.of(3, RMonth.Sanculottide, 6).plusYears(1));
+        assertThrows(RepublicanCalendarException.class, () -> RDate.of(6, RMonth.Floreal, 4).plusYears(-6));
+        assertThrows(RepublicanCalendarException.class, () -> RDate.of(6, RMonth.Floreal, 4).plusYears(Integer.MAX_VALUE));
+    }
+
     @Test
     public void testCompareTo() {
         RDate rd = RDate.of(12, RMonth.Brumaire, 18);
@@ -137,4 +248,42 @@ public class RDateTest {
         assertNotEquals(rd1, null);
         assertEquals(rd2.hashCode(), rd1.hashCode());
     }
+
+    @Test
+    public void testDatesUntil() {
+        RDate start = RDate.of(1, RMonth.Vendemiaire, 1);
+        RDate end = RDate.of(30, RMonth.Nivose, 17);
+        for (long step : new long[]{1, 7, 10, 365, 366, 2000}) {
+            List<RDate> expected = new ArrayList<>();
+            for (RDate date = start; date.isBefore(end); date = date.plusDays(step)) {
+                expected.add(date);
+            }
+            assertEquals(expected, start.datesUntil(end, step).collect(Collectors.toList()), "step " + step);
+            assertEquals(expected, start.datesUntil(end, step).parallel().collect(Collectors.toList()), "step " + step);
+            assertEquals(expected.size(), start.datesUntil(end, step).spliterator().getExactSizeIfKnown());
+        }
+        assertEquals(0, start.datesUntil(start).count());
+        assertEquals(Collections.singletonList(start), start.datesUntil(start.plusDays(1), 10).collect(Collectors.toList()));
+        assertThrows(RepublicanCalendarException.class, () -> end.datesUntil(start));
+        assertThrows(RepublicanCalendarException.class, () -> start.datesUntil(end, 0));
+    }
+
+    @Test
+    public void testDatesUntil_split() {
+        RDate start = RDate.of(3, RMonth.Fructidor, 25);
+        Spliterator<RDate> suffix = start.datesUntil(start.plusDays(21)).spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+        Spliterator<RDate> prefix = suffix.trySplit();
+        assertEquals(10, prefix.estimateSize());
+        assertEquals(11, suffix.estimateSize());
+        List<RDate> dates = new ArrayList<>();
+        prefix.forEachRemaining(dates::add);
+        assertTrue(suffix.tryAdvance(dates::add));
+        suffix.forEachRemaining(dates::add);
+        assertEquals(RDate.of(3, RMonth.Sanculottide, 6), dates.get(11));
+        assertEquals(RDate.of(4, RMonth.Vendemiaire, 9), dates.get(20));
+        assertEquals(start.datesUntil(start.plusDays(21)).collect(Collectors.toList()), dates);
+        assertFalse(suffix.tryAdvance(dates::add));
+        assertNull(suffix.trySplit());
+    }
 }
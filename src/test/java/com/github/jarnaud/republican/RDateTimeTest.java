@@ -1,8 +1,16 @@
 package com.github.jarnaud.republican;
 
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
 import org.junit.jupiter.api.Test;
 
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,6 +22,40 @@ public class RDateTimeTest {
         assertEquals(RDateTime.of(12, RMonth.Floreal, 28, 5, 0), rdt);
     }
 
+    @Test
+    public void testOfInstant() {
+        LocalDateTime dateTime = LocalDateTime.of(1804, 5, 18, 12, 34, 56, 789_123_456);
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        Instant instant = dateTime.atZone(paris).toInstant();
+        assertEquals(RDateTime.of(dateTime), RDateTime.ofInstant(instant, paris));
+        assertEquals(RDateTime.of(dateTime), RDateTime.ofInstant(instant, ZoneOffset.ofHoursMinutesSeconds(0, 9, 21)));
+        assertEquals(RDateTime.of(dateTime.minusMinutes(9).minusSeconds(21)), RDateTime.ofInstant(instant, ZoneOffset.UTC));
+        assertEquals(RDateTime.of(LocalDateTime.of(2021, 3, 28, 3, 0)),
+                RDateTime.ofInstant(Instant.parse("2021-03-28T01:00:00Z"), paris));
+    }
+
+    @Test
+    public void testOfEpochSecond() {
+        LocalDateTime dateTime = LocalDateTime.of(1804, 5, 18, 23, 59, 59, 999_999_999);
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        assertEquals(RDateTime.of(dateTime), RDateTime.ofEpochSecond(epochSecond, 999_999_999, ZoneOffset.UTC));
+        assertEquals(RDateTime.of(dateTime.plusHours(2)), RDateTime.ofEpochSecond(epochSecond, 999_999_999, ZoneOffset.ofHours(2)));
+        assertEquals(RDateTime.of(RDate.MIN, RTime.MIN), RDateTime.ofEpochSecond(RDate.FIRST_EPOCH_DAY * 86_400, 0, ZoneOffset.UTC));
+        assertThrows(RepublicanCalendarException.class, () -> RDateTime.ofEpochSecond(epochSecond, -1, ZoneOffset.UTC));
+        assertThrows(RepublicanCalendarException.class, () -> RDateTime.ofEpochSecond(epochSecond, 1_000_000_000, ZoneOffset.UTC));
+        assertThrows(RepublicanCalendarException.class, () -> RDateTime.ofEpochSecond(RDate.FIRST_EPOCH_DAY * 86_400 - 1, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testOfEpochMilli() {
+        LocalDateTime dateTime = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000);
+        long epochMilli = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+        assertEquals(-1, epochMilli);
+        assertEquals(RDateTime.of(dateTime), RDateTime.ofEpochMilli(epochMilli, ZoneOffset.UTC));
+        assertEquals(RDateTime.of(dateTime.minusHours(5)), RDateTime.ofEpochMilli(epochMilli, ZoneOffset.ofHours(-5)));
+        assertEquals(RDateTime.of(LocalDateTime.of(1970, 1, 1, 0, 0)), RDateTime.ofEpochMilli(0, ZoneOffset.UTC));
+    }
+
     @Test
     public void testOf7() {
         RDateTime rdt = RDateTime.of(1, RMonth.Brumaire, 3, 4, 5, 6, 700);
@@ -52,6 +94,17 @@ public class RDateTimeTest {
         assertEquals(rdt, rdt2.roundSSecond());
     }
 
+    @Test
+    public void testPlus() {
+        RDateTime rdt = RDateTime.of(27, RMonth.Frimaire, 21, 4, 63, 87);
+        assertEquals(RDateTime.of(27, RMonth.Frimaire, 22, 4, 63, 87), rdt.plusDays(1));
+        assertEquals(RDateTime.of(27, RMonth.Frimaire, 20, 4, 63, 87), rdt.minusDays(1));
+        assertEquals(RDateTime.of(27, RMonth.Nivose, 1, 4, 63, 87), rdt.plusDecades(1));
+        assertEquals(RDateTime.of(27, RMonth.Nivose, 21, 4, 63, 87), rdt.plusMonths(1));
+        assertEquals(RDateTime.of(28, RMonth.Frimaire, 21, 4, 63, 87), rdt.plusYears(1));
+        assertSame(rdt, rdt.plusDays(0));
+    }
+
     @Test
     public void testToString() {
         RDateTime rdt = RDateTime.of(27, RMonth.Frimaire, 21, 4, 63, 87);
@@ -95,4 +148,60 @@ public class RDateTimeTest {
         assertNotEquals(rdt, RDateTime.of(27, RMonth.Frimaire, 21, 4, 63, 88, 2300));
         assertNotEquals(rdt, RDateTime.of(27, RMonth.Frimaire, 21, 4, 63, 87, 2301));
     }
+
+    @Test
+    public void testFrom() {
+        RDateTime rdt = RDateTime.of(12, RMonth.Floreal, 28, 5, 0);
+        assertSame(rdt, RDateTime.from(rdt));
+        assertEquals(rdt, RDateTime.from(LocalDateTime.of(1804, 5, 18, 12, 0)));
+        assertThrows(DateTimeException.class, () -> RDateTime.from(RDate.of(12, RMonth.Floreal, 28)));
+    }
+
+    @Test
+    public void testWith() {
+        RDateTime rdt = RDateTime.of(12, RMonth.Floreal, 28, 5, 25, 50);
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 3, 5, 25, 50), rdt.with(ChronoField.DAY_OF_MONTH, 3));
+        assertEquals(RDateTime.of(12, RMonth.Vendemiaire, 1, 5, 25, 50), rdt.with(ChronoField.DAY_OF_YEAR, 1));
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 29, 5, 25, 50),
+                rdt.with(ChronoField.EPOCH_DAY, rdt.getLong(ChronoField.EPOCH_DAY) + 1));
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 28, 9, 25, 50), rdt.with(ChronoField.HOUR_OF_DAY, 9));
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 28, 0, 0, 1), rdt.with(ChronoField.NANO_OF_DAY, RTime.NANOS_PER_SECOND));
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 10, 5, 25, 50), rdt.with(RTemporalAdjusters.nextDecadi()).minusDays(20));
+        assertEquals(RDateTime.of(13, RMonth.Nivose, 1, 5, 25, 50), rdt.with(RDate.of(13, RMonth.Nivose, 1)));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> rdt.with(ChronoField.CLOCK_HOUR_OF_DAY, 1));
+    }
+
+    @Test
+    public void testPlus_temporalUnit() {
+        RDateTime rdt = RDateTime.of(12, RMonth.Floreal, 28, 8, 50, 0);
+        assertTrue(rdt.isSupported(RChronoUnit.MINUTES));
+        assertTrue(rdt.isSupported(ChronoUnit.MONTHS));
+        assertFalse(rdt.isSupported(ChronoUnit.MINUTES));
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 28, 9, 99, 99), rdt.plus(14_999, RChronoUnit.SECONDS));
+        // Carries into the days.
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 29, 0, 50, 0), rdt.plus(2, RChronoUnit.HOURS));
+        assertEquals(RDateTime.of(12, RMonth.Prairial, 2, 0, 50, 0), rdt.plus(32, RChronoUnit.HOURS));
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 27, 9, 50, 0), rdt.minus(9, RChronoUnit.HOURS));
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 27, 8, 50, 0), rdt.minus(RTime.NANOS_PER_DAY, RChronoUnit.NANOS));
+        assertEquals(RDateTime.of(12, RMonth.Prairial, 28, 8, 50, 0), rdt.plus(1, ChronoUnit.MONTHS));
+        assertEquals(RDateTime.of(13, RMonth.Floreal, 28, 8, 50, 0), rdt.plus(1, ChronoUnit.YEARS));
+        assertEquals(RDateTime.of(12, RMonth.Floreal, 18, 8, 50, 0), rdt.minus(10, ChronoUnit.DAYS));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> rdt.plus(1, ChronoUnit.HOURS));
+    }
+
+    @Test
+    public void testUntil() {
+        RDateTime start = RDateTime.of(12, RMonth.Floreal, 28, 8, 0);
+        RDateTime end = RDateTime.of(12, RMonth.Prairial, 1, 2, 0);
+        assertEquals(24, start.until(end, RChronoUnit.HOURS));
+        assertEquals(-24, end.until(start, RChronoUnit.HOURS));
+        assertEquals(2_400, start.until(end, RChronoUnit.MINUTES));
+        assertEquals(2, start.until(end, ChronoUnit.DAYS));
+        assertEquals(-2, end.until(start, ChronoUnit.DAYS));
+        assertEquals(3, start.until(end.with(ChronoField.HOUR_OF_DAY, 8), ChronoUnit.DAYS));
+        assertEquals(0, start.until(end, ChronoUnit.MONTHS));
+        assertEquals(1, start.until(end.plusMonths(1).with(ChronoField.HOUR_OF_DAY, 8), ChronoUnit.MONTHS));
+        assertEquals(24, start.until(end.toLocalDateTime(), RChronoUnit.HOURS));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> start.until(end, ChronoUnit.HOURS));
+    }
 }
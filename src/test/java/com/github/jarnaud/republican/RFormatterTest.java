@@ -0,0 +1,102 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RFormatterTest {
+
+    private static final RDate DATE = RDate.of(12, RMonth.Nivose, 3);
+    private static final RTime TIME = RTime.of(4, 3, 87, 120);
+    private static final RDateTime DATE_TIME = RDateTime.of(DATE, TIME);
+
+    @Test
+    public void testToString() {
+        assertEquals("An 12 Nivose 3", DATE.toString());
+        assertEquals("4h3m87s120", TIME.toString());
+        assertEquals("RDateTime{date=An 12 Nivose 3, time=4h3m87s120}", DATE_TIME.toString());
+    }
+
+    @Test
+    public void testFields() {
+        assertEquals("An XII, 3 Nivose (1)", RFormatter.ofPattern("'An' R, d MMM (D)").format(DATE));
+        assertEquals("0012-04-03", RFormatter.ofPattern("yyyy-MM-dd").format(DATE));
+        assertEquals("3/28", RFormatter.ofPattern("D/dd").format(RDate.of(1, RMonth.Fructidor, 28)));
+        assertEquals("An MDCCCLXXXIX", RFormatter.ofPattern("'An' R").format(RDate.of(1889, 1, 1)));
+        assertEquals("4:03:87.000000120", RFormatter.ofPattern("h:mm:ss.nnnnnnnnn").format(TIME));
+        assertEquals("12 Nivose 4h", RFormatter.ofPattern("y MMM h'h'").format(DATE_TIME));
+        assertEquals("It's 4", RFormatter.ofPattern("'It''s' h").format(TIME));
+        assertEquals("'4'", RFormatter.ofPattern("''h''").format(TIME));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(RepublicanCalendarException.class, () -> RFormatter.ofPattern(null));
+        assertThrows(RepublicanCalendarException.class, () -> RFormatter.ofPattern("yyyy-QQ"));
+        assertThrows(RepublicanCalendarException.class, () -> RFormatter.ofPattern("'An y"));
+        assertThrows(RepublicanCalendarException.class, () -> RFormatter.ofPattern("y h").format(DATE));
+        assertThrows(RepublicanCalendarException.class, () -> RFormatter.ofPattern("y h").format(TIME));
+        assertThrows(RepublicanCalendarException.class, () -> RFormatter.ofPattern("R").format(RDate.of(4000, 1, 1)));
+    }
+
+    @Test
+    public void testBytes() {
+        RFormatter formatter = RFormatter.ofPattern("'An' R d MMM, hh:mm:ss");
+        String expected = "An XII 3 Nivose, 04:03:87";
+        byte[] bytes = new byte[40];
+        int length = formatter.formatTo(DATE_TIME, bytes, 2);
+        assertEquals(expected.length(), length);
+        assertEquals(expected, new String(bytes, 2, length, StandardCharsets.US_ASCII));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> formatter.formatTo(DATE_TIME, bytes, 20));
+        assertEquals(0, bytes[39]);
+
+        assertEquals(4, RFormatter.ofPattern("y-d").formatTo(DATE, bytes, 0));
+        assertEquals(1, RFormatter.ofPattern("h").formatTo(TIME, bytes, 0));
+        assertEquals("?4", new String(bytes, 0, RFormatter.ofPattern("'é'h").formatTo(TIME, bytes, 0), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testByteBuffer() {
+        RFormatter formatter = RFormatter.ofPattern("'An' R d MMM, hh:mm:ss");
+        String expected = "An XII 3 Nivose, 04:03:87";
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(40), ByteBuffer.allocateDirect(40)}) {
+            buffer.position(1);
+            assertEquals(expected.length(), formatter.formatTo(DATE_TIME, buffer));
+            assertEquals(1 + expected.length(), buffer.position());
+            buffer.flip().position(1);
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            assertEquals(expected, new String(bytes, StandardCharsets.US_ASCII));
+            buffer.clear().position(20);
+            assertThrows(BufferOverflowException.class, () -> formatter.formatTo(DATE_TIME, buffer));
+            assertEquals(20, buffer.position());
+        }
+    }
+
+    @Test
+    public void testMaxLength() {
+        RFormatter formatter = RFormatter.ofPattern("'An' R dd MMM, h:mm:ss.n");
+        RTime time = RTime.of(9, 99, 99, 999_999_999);
+        int max = 0;
+        for (RMonth month : RMonth.values()) {
+            max = Math.max(max, formatter.format(RDateTime.of(RDate.of(3888, month, 1), time)).length());
+        }
+        assertEquals(max, formatter.getMaxLength());
+        assertEquals(10, RFormatter.ofPattern("y").getMaxLength());
+        assertEquals(12, RFormatter.ofPattern("yyyyyyyyyyyy").getMaxLength());
+        assertEquals(RFormatter.TIME.format(time).length(), RFormatter.TIME.getMaxLength());
+    }
+
+    @Test
+    public void testAppendable() {
+        StringBuilder sb = new StringBuilder("[");
+        RFormatter.DATE.formatTo(DATE, sb).append(' ');
+        RFormatter.TIME.formatTo(TIME, sb).append(']');
+        assertEquals("[An 12 Nivose 3 4h3m87s120]", sb.toString());
+    }
+}
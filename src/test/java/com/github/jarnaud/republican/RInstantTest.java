@@ -0,0 +1,101 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RInstantTest {
+
+    @Test
+    public void testOfInstant() {
+        assertEquals(RInstant.MIN, RInstant.of(Instant.parse("1792-09-22T00:00:00Z")));
+        assertEquals(RInstant.MICROS_PER_DAY, RInstant.of(Instant.parse("1792-09-23T00:00:00Z")).getMicros());
+        // 12h (normal) is 5h (decimal).
+        assertEquals(5 * RTime.NANOS_PER_HOUR / 1000, RInstant.of(Instant.parse("1792-09-22T12:00:00Z")).getMicros());
+        // A normal second is 1.157407407... decimal seconds, truncated to the decimal microsecond.
+        assertEquals(1_157_407, RInstant.of(Instant.parse("1792-09-22T00:00:01Z")).getMicros());
+        assertThrows(RepublicanCalendarException.class, () -> RInstant.of(Instant.parse("1792-09-21T23:59:59.999999999Z")));
+    }
+
+    @Test
+    public void testToInstant() {
+        assertEquals(Instant.parse("1792-09-22T00:00:00Z"), RInstant.MIN.toInstant());
+        assertEquals(Instant.parse("1792-09-22T12:00:00Z"), RInstant.ofMicros(5 * RTime.NANOS_PER_HOUR / 1000).toInstant());
+        // A decimal microsecond is 864 normal nanoseconds.
+        assertEquals(Instant.parse("1792-09-22T00:00:00.000000864Z"), RInstant.ofMicros(1).toInstant());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            RInstant instant = RInstant.ofMicros(random.nextLong() >>> 18);
+            assertEquals(instant, RInstant.of(instant.toInstant()));
+            assertEquals(instant, RInstant.of(instant.toRDateTime(ZoneOffset.UTC), ZoneOffset.UTC));
+        }
+    }
+
+    @Test
+    public void testRDateTime() {
+        LocalDateTime dateTime = LocalDateTime.of(1804, 5, 18, 12, 34, 56, 789_123_456);
+        ZoneOffset offset = ZoneOffset.ofHoursMinutesSeconds(0, 9, 21);
+        RInstant instant = RInstant.of(dateTime.toInstant(offset));
+
+        assertEquals(instant, RInstant.of(RDateTime.of(dateTime), offset));
+        assertEquals(instant, RInstant.of(RDateTime.of(dateTime.minusMinutes(9).minusSeconds(21)), ZoneOffset.UTC));
+        // Back to a local date and time, truncated to the decimal microsecond.
+        RDateTime local = instant.toRDateTime(offset);
+        RDateTime expected = RDateTime.of(dateTime);
+        assertEquals(expected.toRDate(), local.toRDate());
+        assertEquals(expected.getNanoOfDay() / 1000, local.getNanoOfDay() / 1000, 1);
+
+        assertEquals(RDateTime.of(RDate.of(1, RMonth.Vendemiaire, 1), RTime.of(5, 0)),
+                RInstant.MIN.toRDateTime(ZoneOffset.ofHours(12)));
+        assertThrows(RepublicanCalendarException.class, () -> RInstant.of(RDateTime.of(RDate.MIN, RTime.MIN), ZoneOffset.ofHours(2)));
+        assertThrows(RepublicanCalendarException.class, () -> RInstant.MIN.toRDateTime(ZoneOffset.ofHours(-2)));
+    }
+
+    @Test
+    public void testArithmetic() {
+        RInstant instant = RInstant.of(RDateTime.of(12, RMonth.Floreal, 28, 5, 0), ZoneOffset.UTC);
+        assertEquals(RInstant.of(RDateTime.of(12, RMonth.Prairial, 8, 5, 0), ZoneOffset.UTC), instant.plusDays(10));
+        assertEquals(RInstant.of(RDateTime.of(12, RMonth.Floreal, 28, 5, 1, 40), ZoneOffset.UTC), instant.plusSeconds(140));
+        assertEquals(instant, instant.plusMicros(123).minusMicros(123));
+        assertSame(instant, instant.plusMicros(0));
+        assertEquals(10 * RInstant.MICROS_PER_DAY, instant.microsUntil(instant.plusDays(10)));
+        assertEquals(-10 * RInstant.MICROS_PER_DAY, instant.plusDays(10).microsUntil(instant));
+        assertThrows(RepublicanCalendarException.class, () -> RInstant.MIN.minusMicros(1));
+        assertThrows(ArithmeticException.class, () -> RInstant.MAX.plusMicros(1));
+        assertThrows(RepublicanCalendarException.class, () -> RInstant.ofMicros(-1));
+    }
+
+    @Test
+    public void testCompare() {
+        RInstant a = RInstant.ofMicros(1);
+        RInstant b = RInstant.ofMicros(2);
+        assertTrue(a.isBefore(b));
+        assertFalse(a.isAfter(b));
+        assertTrue(a.compareTo(b) < 0);
+        assertEquals(0, a.compareTo(RInstant.ofMicros(1)));
+        assertEquals(a, RInstant.ofMicros(1));
+        assertEquals(a.hashCode(), RInstant.ofMicros(1).hashCode());
+        assertNotEquals(a, b);
+
+        RInstant[] instants = {b, RInstant.MAX, a, RInstant.MIN};
+        Arrays.sort(instants);
+        assertArrayEquals(new RInstant[]{RInstant.MIN, a, b, RInstant.MAX}, instants);
+    }
+
+    @Test
+    public void testToString() {
+        RInstant instant = RInstant.of(RDateTime.of(12, RMonth.Floreal, 28, 5, 1, 2), ZoneOffset.UTC);
+        assertEquals("RInstant{An 12 Floreal 28 5h1m2s0 UTC}", instant.toString());
+    }
+}
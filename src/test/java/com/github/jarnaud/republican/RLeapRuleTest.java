@@ -0,0 +1,102 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Year;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RLeapRuleTest {
+
+    @Test
+    public void testDefault() {
+        assertSame(RLeapRule.ROMME, RLeapRule.getDefault());
+        assertSame(RLeapRule.ROMME, YearStartTable.ruleOf(null));
+        assertSame(RLeapRule.ROMME, YearStartTable.ruleOf("romme"));
+        assertSame(RLeapRule.CONTINUOUS, YearStartTable.ruleOf("continuous"));
+        assertSame(RLeapRule.EQUINOX, YearStartTable.ruleOf("equinox"));
+        assertTrue(YearStartTable.ruleOf(EveryFourYearsRule.class.getName()) instanceof EveryFourYearsRule);
+        assertThrows(RepublicanCalendarException.class, () -> YearStartTable.ruleOf("gregorian"));
+        assertThrows(RepublicanCalendarException.class, () -> YearStartTable.ruleOf(String.class.getName()));
+    }
+
+    @Test
+    public void testRomme() {
+        RLeapRule rule = RLeapRule.ROMME;
+        assertTrue(rule.isSextile(3));
+        assertTrue(rule.isSextile(15));
+        assertFalse(rule.isSextile(19));
+        assertTrue(rule.isSextile(20));
+        assertFalse(rule.isSextile(100));
+        assertTrue(rule.isSextile(400));
+        assertConsistent(rule);
+    }
+
+    @Test
+    public void testContinuous() {
+        RLeapRule rule = RLeapRule.CONTINUOUS;
+        for (int year = 1; year <= 10_000; year++) {
+            assertEquals(Year.isLeap(year + 1), rule.isSextile(year), "An " + year);
+        }
+        assertTrue(rule.isSextile(3));
+        assertTrue(rule.isSextile(15));
+        assertTrue(rule.isSextile(19));
+        assertFalse(rule.isSextile(20));
+        assertFalse(rule.isSextile(99));
+        assertTrue(rule.isSextile(399));
+        assertConsistent(rule);
+        // Same years as Romme until An XIX, then one day ahead.
+        assertEquals(RLeapRule.ROMME.daysBeforeYear(19), rule.daysBeforeYear(19));
+        assertEquals(RLeapRule.ROMME.daysBeforeYear(20) + 1, rule.daysBeforeYear(20));
+    }
+
+    @Test
+    public void testConverters() {
+        YearStartTable table = new YearStartTable(RLeapRule.CONTINUOUS, 100);
+        GRConverter grConverter = new GRConverter(table);
+        RGConverter rgConverter = new RGConverter(table);
+
+        // An XIX ends with a sixth special day, An XX starts one day later than with Romme.
+        long epochDay = RDate.FIRST_EPOCH_DAY + RLeapRule.CONTINUOUS.daysBeforeYear(20);
+        assertEquals(RPacked.packDate(20, 1, 1), grConverter.convertToPacked(epochDay));
+        assertEquals(RPacked.packDate(19, 13, 6), grConverter.convertToPacked(epochDay - 1));
+        assertEquals(epochDay, rgConverter.toEpochDay(20, 1, 1));
+        assertEquals(RDate.of(20, RMonth.Vendemiaire, 2).toEpochDay(), epochDay);
+
+        // Round trip, inside and outside of the table.
+        for (long day = RDate.FIRST_EPOCH_DAY; day < RDate.FIRST_EPOCH_DAY + 100_000; day += 7) {
+            int packed = grConverter.convertToPacked(day);
+            assertEquals(day, rgConverter.toEpochDay(RPacked.dateYear(packed), RPacked.dateMonth(packed), RPacked.dateDay(packed)));
+        }
+    }
+
+    /**
+     * Check that the first days of the years match the sextile years.
+     */
+    static void assertConsistent(RLeapRule rule) {
+        assertEquals(0, rule.daysBeforeYear(1));
+        for (int year = 1; year <= 10_000; year++) {
+            assertEquals(rule.daysBeforeYear(year) + (rule.isSextile(year) ? 366 : 365), rule.daysBeforeYear(year + 1), "An " + year);
+        }
+        for (int year = 1_000_000; year <= 1_000_400; year++) {
+            assertEquals(rule.daysBeforeYear(year) + (rule.isSextile(year) ? 366 : 365), rule.daysBeforeYear(year + 1), "An " + year);
+        }
+    }
+
+    /**
+     * A custom rule, loaded by name.
+     */
+    public static class EveryFourYearsRule implements RLeapRule {
+
+        @Override
+        public boolean isSextile(int year) {
+            return year % 4 == 3;
+        }
+
+        @Override
+        public long daysBeforeYear(int year) {
+            return 365L * (year - 1) + year / 4;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RPackedTest {
+
+    @Test
+    public void testDate() {
+        RDate date = RDate.of(229, RMonth.Frimaire, 11);
+        int packed = RPacked.packDate(date);
+        assertEquals(229, RPacked.dateYear(packed));
+        assertEquals(3, RPacked.dateMonth(packed));
+        assertEquals(11, RPacked.dateDay(packed));
+        assertEquals(date, RPacked.unpackDate(packed));
+    }
+
+    @Test
+    public void testDate_range() {
+        RDate max = RDate.of(RPacked.MAX_YEAR, RMonth.Sanculottide, 5);
+        assertEquals(max, RPacked.unpackDate(RPacked.packDate(max)));
+        assertTrue(RPacked.packDate(max) > 0);
+        assertThrows(RepublicanCalendarException.class, () -> RPacked.packDate(RDate.of(RPacked.MAX_YEAR + 1, 1, 1)));
+        assertThrows(RepublicanCalendarException.class, () -> RPacked.unpackDate(0));
+    }
+
+    @Test
+    public void testDate_order() {
+        RDate date = RDate.of(1, RMonth.Vendemiaire, 1);
+        int previous = RPacked.packDate(date);
+        for (int i = 0; i < 2000; i++) {
+            date = date.plusDays(1);
+            int packed = RPacked.packDate(date);
+            assertTrue(packed > previous);
+            previous = packed;
+        }
+    }
+
+    @Test
+    public void testTime() {
+        RTime time = RTime.of(4, 63, 87, 123_456_789);
+        long packed = RPacked.packTime(time);
+        assertEquals(4, RPacked.timeHour(packed));
+        assertEquals(63, RPacked.timeMinute(packed));
+        assertEquals(87, RPacked.timeSecond(packed));
+        assertEquals(123_456_789, RPacked.timeNano(packed));
+        assertEquals(time, RPacked.unpackTime(packed));
+        assertTrue(RPacked.packTime(RTime.MIN) < packed);
+        assertTrue(RPacked.packTime(RTime.MAX) > packed);
+    }
+
+    @Test
+    public void testDateTime() {
+        RDateTime dateTime = RDateTime.of(229, RMonth.Frimaire, 11, 4, 63, 87, 123_456_789);
+        long packed = RPacked.packDateTime(dateTime);
+        int packedDate = RPacked.dateTimeDate(packed);
+        assertEquals(229, RPacked.dateYear(packedDate));
+        assertEquals(3, RPacked.dateMonth(packedDate));
+        assertEquals(11, RPacked.dateDay(packedDate));
+        long packedTime = RPacked.dateTimeTime(packed);
+        assertEquals(4, RPacked.timeHour(packedTime));
+        assertEquals(63, RPacked.timeMinute(packedTime));
+        assertEquals(87, RPacked.timeSecond(packedTime));
+        // Nanoseconds are truncated.
+        assertEquals(123_400_000, RPacked.timeNano(packedTime));
+        assertEquals(RDateTime.of(229, RMonth.Frimaire, 11, 4, 63, 87, 123_400_000), RPacked.unpackDateTime(packed));
+    }
+
+    @Test
+    public void testDateTime_order() {
+        RDateTime dt = RDateTime.of(229, RMonth.Frimaire, 11, 9, 99, 99, 999_999_999);
+        assertTrue(RPacked.packDateTime(dt) < RPacked.packDateTime(RDateTime.of(229, RMonth.Frimaire, 12, 0, 0)));
+        assertTrue(RPacked.packDateTime(dt) > RPacked.packDateTime(RDateTime.of(229, RMonth.Frimaire, 11, 9, 99, 99)));
+    }
+}
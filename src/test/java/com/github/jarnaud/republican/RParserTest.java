@@ -0,0 +1,139 @@
+package com.github.jarnaud.republican;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RParserTest {
+
+    @Test
+    public void testParseDate() {
+        assertEquals(RDate.of(12, RMonth.Nivose, 3), parseDate("An 12 Nivose 3"));
+        assertEquals(RDate.of(12, RMonth.Nivose, 3), parseDate("An XII Nivose 3"));
+        assertEquals(RDate.of(3, RMonth.Nivose, 12), parseDate("12 Nivôse an III"));
+        assertEquals(RDate.of(2, RMonth.Vendemiaire, 1), parseDate("1er Vendémiaire an II"));
+        assertEquals(RDate.of(1889, RMonth.Floreal, 30), parseDate("30 FLORÉAL AN mdccclxxxix"));
+        assertEquals(RDate.of(3, RMonth.Sanculottide, 6), parseDate("6 Sans-culottides an 3"));
+        assertEquals(RDate.of(14, RMonth.Fructidor, 9), parseDate("an  XIV\tfructidor 9"));
+    }
+
+    @Test
+    public void testParseDate_toString() {
+        for (RDate date = RDate.of(1, 1, 1); date.getYear() < 30; date = date.plusDays(7)) {
+            assertEquals(date, parseDate(date.toString()));
+        }
+    }
+
+    @Test
+    public void testParseDate_roman() {
+        RFormatter formatter = RFormatter.ofPattern("'An' R MMM d");
+        for (int year = 1; year <= 3999; year++) {
+            RDate date = RDate.of(year, RMonth.Nivose, 3);
+            String text = formatter.format(date);
+            assertEquals(date, parseDate(text));
+            assertEquals(date, parseDate(text.replace("An ", "an ").toLowerCase()));
+        }
+    }
+
+    @Test
+    public void testParseDate_invalid() {
+        assertInvalidDate("", 0);
+        assertInvalidDate("An", 2);
+        assertInvalidDate("An 12 Nivoses 3", 6);
+        assertInvalidDate("An 12 Nivose 31", 13);
+        assertInvalidDate("6 Sanculottide an 4", 0);
+        assertInvalidDate("An XIIa Nivose 3", 6);
+        // Non-canonical Roman numerals.
+        assertInvalidDate("An IIII Nivose 3", 3);
+        assertInvalidDate("An IC Nivose 3", 3);
+        assertInvalidDate("An VX Nivose 3", 3);
+        assertInvalidDate("An XIIII Nivose 3", 3);
+        assertInvalidDate("An MMMM Nivose 3", 3);
+        assertInvalidDate("An 0 Nivose 3", 3);
+        assertInvalidDate("12 Nivose en III", 10);
+        assertInvalidDate("Year 12 Nivose 3", 0);
+    }
+
+    @Test
+    public void testParsePosition() {
+        String text = "1;An 12 Nivose 3;12 Nivôse an III;";
+        ParsePosition position = new ParsePosition(2);
+        assertEquals(RPacked.packDate(RDate.of(12, RMonth.Nivose, 3)), RParser.parsePackedDate(text, position));
+        assertEquals(16, position.getIndex());
+        assertEquals(-1, position.getErrorIndex());
+        position.setIndex(17);
+        assertEquals(RPacked.packDate(RDate.of(3, RMonth.Nivose, 12)), RParser.parsePackedDate(text, position));
+        assertEquals(33, position.getIndex());
+        assertEquals(RParser.FAILURE, RParser.parsePackedDate(text, position));
+        assertEquals(33, position.getIndex());
+        assertEquals(33, position.getErrorIndex());
+    }
+
+    @Test
+    public void testParseBytes() {
+        byte[] utf8 = "x12 Nivôse an III;".getBytes(StandardCharsets.UTF_8);
+        ParsePosition position = new ParsePosition(1);
+        assertEquals(RDate.of(3, RMonth.Nivose, 12), RParser.parseDate(utf8, utf8.length, position));
+        assertEquals(utf8.length - 1, position.getIndex());
+
+        byte[] latin1 = "12 Nivôse an III".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(RDate.of(3, RMonth.Nivose, 12), RParser.parseDate(latin1, latin1.length, new ParsePosition(0)));
+
+        byte[] ascii = "An 12 Nivose 3".getBytes(StandardCharsets.US_ASCII);
+        position = new ParsePosition(0);
+        assertNull(RParser.parseDate(ascii, ascii.length - 1, position));
+        assertEquals(13, position.getErrorIndex());
+    }
+
+    @Test
+    public void testParseTime() {
+        assertEquals(RTime.of(4, 63, 87, 0), parseTime("4h63m87s0"));
+        assertEquals(RTime.of(4, 3, 7, 120), parseTime("4h3m7s120"));
+        assertEquals(RTime.of(9, 99, 99), parseTime("9h99m99s"));
+        assertEquals(RTime.MAX, parseTime(RTime.MAX.toString()));
+        ParsePosition position = new ParsePosition(0);
+        assertNull(RParser.parseTime("10h0m0s0", position));
+        assertEquals(1, position.getErrorIndex());
+        assertEquals(RParser.FAILURE, RParser.parseNanoOfDay("4h100m0s", position));
+        assertEquals(4, position.getErrorIndex());
+        byte[] bytes = "4h63m87s0".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(RTime.of(4, 63, 87).getNanoOfDay(), RParser.parseNanoOfDay(bytes, bytes.length, new ParsePosition(0)));
+    }
+
+    @Test
+    public void testParseDateTime() {
+        RDateTime dateTime = RDateTime.of(12, RMonth.Nivose, 3, 4, 63, 87, 5);
+        assertEquals(dateTime, RParser.parseDateTime(dateTime.toString(), new ParsePosition(0)));
+        assertEquals(dateTime, RParser.parseDateTime("3 Nivôse an XII 4h63m87s5", new ParsePosition(0)));
+        byte[] bytes = dateTime.toString().getBytes(StandardCharsets.US_ASCII);
+        assertEquals(dateTime, RParser.parseDateTime(bytes, bytes.length, new ParsePosition(0)));
+        ParsePosition position = new ParsePosition(0);
+        assertNull(RParser.parseDateTime("RDateTime{date=An 12 Nivose 3, time=4h63m87s5", position));
+        assertEquals(0, position.getIndex());
+        assertTrue(position.getErrorIndex() > 0);
+    }
+
+    private static RDate parseDate(String text) {
+        ParsePosition position = new ParsePosition(0);
+        RDate date = RParser.parseDate(text, position);
+        assertEquals(text.length(), position.getIndex(), text);
+        return date;
+    }
+
+    private static RTime parseTime(String text) {
+        ParsePosition position = new ParsePosition(0);
+        RTime time = RParser.parseTime(text, position);
+        assertEquals(text.length(), position.getIndex(), text);
+        return time;
+    }
+
+    private static void assertInvalidDate(String text, int errorIndex) {
+        ParsePosition position = new ParsePosition(0);
+        assertEquals(RParser.FAILURE, RParser.parsePackedDate(text, position), text);
+        assertEquals(0, position.getIndex(), text);
+        assertEquals(errorIndex, position.getErrorIndex(), text);
+    }
+}
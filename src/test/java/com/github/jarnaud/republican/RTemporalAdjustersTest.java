@@ -0,0 +1,58 @@
+package com.github.jarnaud.republican;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RTemporalAdjustersTest {
+
+    @Test
+    public void testNextDecadi() {
+        assertEquals(RDate.of(6, RMonth.Floreal, 10), RDate.of(6, RMonth.Floreal, 1).with(RTemporalAdjusters.nextDecadi()));
+        assertEquals(RDate.of(6, RMonth.Floreal, 20), RDate.of(6, RMonth.Floreal, 10).with(RTemporalAdjusters.nextDecadi()));
+        assertEquals(RDate.of(6, RMonth.Prairial, 10), RDate.of(6, RMonth.Floreal, 30).with(RTemporalAdjusters.nextDecadi()));
+        assertEquals(RDate.of(6, RMonth.Fructidor, 30), RDate.of(6, RMonth.Fructidor, 29).with(RTemporalAdjusters.nextDecadi()));
+        assertEquals(RDate.of(7, RMonth.Vendemiaire, 10), RDate.of(6, RMonth.Fructidor, 30).with(RTemporalAdjusters.nextDecadi()));
+        assertEquals(RDate.of(8, RMonth.Vendemiaire, 10), RDate.of(7, RMonth.Sanculottide, 6).with(RTemporalAdjusters.nextDecadi()));
+
+        // Same as stepping day by day.
+        RDate date = RDate.of(1, RMonth.Vendemiaire, 1);
+        for (int i = 0; i < 2000; i++) {
+            RDate expected = date.plusDays(1);
+            while (expected.getDecadeDay() != RDayOfDecade.Decadi) {
+                expected = expected.plusDays(1);
+            }
+            assertEquals(expected, date.with(RTemporalAdjusters.nextDecadi()), date.toString());
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test
+    public void testFirstDayOfDecade() {
+        assertEquals(RDate.of(6, RMonth.Floreal, 11), RDate.of(6, RMonth.Floreal, 11).with(RTemporalAdjusters.firstDayOfDecade()));
+        assertEquals(RDate.of(6, RMonth.Floreal, 11), RDate.of(6, RMonth.Floreal, 20).with(RTemporalAdjusters.firstDayOfDecade()));
+        assertEquals(RDate.of(6, RMonth.Floreal, 21), RDate.of(6, RMonth.Floreal, 30).with(RTemporalAdjusters.firstDayOfDecade()));
+        assertEquals(RDate.of(7, RMonth.Sanculottide, 1), RDate.of(7, RMonth.Sanculottide, 6).with(RTemporalAdjusters.firstDayOfDecade()));
+    }
+
+    @Test
+    public void testLastDayOfMonthAndFirstSanculottide() {
+        assertEquals(RDate.of(6, RMonth.Floreal, 30), RDate.of(6, RMonth.Floreal, 2).with(RTemporalAdjusters.lastDayOfMonth()));
+        assertEquals(RDate.of(6, RMonth.Sanculottide, 5), RDate.of(6, RMonth.Sanculottide, 1).with(RTemporalAdjusters.lastDayOfMonth()));
+        assertEquals(RDate.of(7, RMonth.Sanculottide, 6), RDate.of(7, RMonth.Sanculottide, 1).with(RTemporalAdjusters.lastDayOfMonth()));
+        assertEquals(RDate.of(6, RMonth.Sanculottide, 1), RDate.of(6, RMonth.Floreal, 2).with(RTemporalAdjusters.firstSanculottide()));
+        assertEquals(RDate.of(6, RMonth.Sanculottide, 1), RDate.of(6, RMonth.Sanculottide, 5).with(RTemporalAdjusters.firstSanculottide()));
+    }
+
+    @Test
+    public void testLocalDate() {
+        // 1798-05-03 is An 6 Floreal 14.
+        LocalDate date = LocalDate.of(1798, 5, 3);
+        assertEquals(RDate.of(6, RMonth.Floreal, 20).toLocalDate(), date.with(RTemporalAdjusters.nextDecadi()));
+        assertEquals(RDate.of(6, RMonth.Floreal, 11).toLocalDate(), date.with(RTemporalAdjusters.firstDayOfDecade()));
+        assertEquals(RDate.of(6, RMonth.Floreal, 30).toLocalDate(), date.with(RTemporalAdjusters.lastDayOfMonth()));
+        assertEquals(RDate.of(6, RMonth.Sanculottide, 1).toLocalDate(), date.with(RTemporalAdjusters.firstSanculottide()));
+    }
+}
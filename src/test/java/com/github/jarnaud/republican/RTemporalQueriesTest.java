@@ -0,0 +1,25 @@
+package com.github.jarnaud.republican;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RTemporalQueriesTest {
+
+    @Test
+    public void testRDate() {
+        assertEquals(4, RDate.of(6, RMonth.Floreal, 14).query(RTemporalQueries.dayOfDecade()));
+        assertEquals(23, RDate.of(6, RMonth.Floreal, 14).query(RTemporalQueries.decadeOfYear()));
+        assertEquals(6, RDate.of(7, RMonth.Sanculottide, 6).query(RTemporalQueries.dayOfDecade()));
+        assertEquals(37, RDate.of(7, RMonth.Sanculottide, 6).query(RTemporalQueries.decadeOfYear()));
+    }
+
+    @Test
+    public void testLocalDate() {
+        // 1798-05-03 is An 6 Floreal 14.
+        assertEquals(4, LocalDate.of(1798, 5, 3).query(RTemporalQueries.dayOfDecade()));
+        assertEquals(23, LocalDate.of(1798, 5, 3).query(RTemporalQueries.decadeOfYear()));
+    }
+}
@@ -41,6 +41,29 @@ public class RTimeConversionTest {
         assertEquals(RTime.of(8, 61, 44), rTime.withNano(0));
     }
 
+    @Test
+    public void testOfInstant() {
+        Instant instant = LocalDateTime.of(1804, 5, 18, 12, 0).atZone(ZoneId.of("Europe/Paris")).toInstant();
+        assertEquals(RTime.of(5, 0), RTime.ofInstant(instant, ZoneId.of("Europe/Paris")));
+        // Before 1970 (negative epoch second).
+        assertEquals(RTime.of(LocalTime.of(23, 59, 59)), RTime.ofInstant(Instant.ofEpochSecond(-1), ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testOffsetOf() {
+        Instant summer = Instant.parse("2021-07-01T12:00:00Z");
+        Instant winter = Instant.parse("2021-01-01T12:00:00Z");
+        assertEquals(ZoneOffset.ofHours(3), RTime.offsetOf(ZoneOffset.ofHours(3), summer));
+        // Fixed-offset regions (cached), alternating with other zones.
+        for (int i = 0; i < 2; i++) {
+            assertEquals(ZoneOffset.UTC, RTime.offsetOf(ZoneId.of("UTC"), summer));
+            assertEquals(ZoneOffset.ofHours(-1), RTime.offsetOf(ZoneId.of("Etc/GMT+1"), winter));
+            assertEquals(ZoneOffset.ofHours(-1), RTime.offsetOf(ZoneId.of("Etc/GMT+1"), summer));
+            assertEquals(ZoneOffset.ofHours(2), RTime.offsetOf(ZoneId.of("Europe/Paris"), summer));
+            assertEquals(ZoneOffset.ofHours(1), RTime.offsetOf(ZoneId.of("Europe/Paris"), winter));
+        }
+    }
+
     @Test
     public void testRTime_decimalHours() {
         compare(RTime.of(0, 0), LocalTime.of(0, 0));
@@ -92,6 +115,31 @@ public class RTimeConversionTest {
         compare(0, 0, 6, 0, 0, 5);
     }
 
+    @Test
+    public void testRoundTrip_allSeconds() {
+        for (int second = 0; second < 86_400; second++) {
+            LocalTime time = LocalTime.ofSecondOfDay(second);
+            assertEquals(time, RTime.of(time).toLocalTime());
+            assertEquals(time.withNano(1), RTime.of(time.withNano(1)).toLocalTime());
+            assertEquals(time.withNano(999_999_999), RTime.of(time.withNano(999_999_999)).toLocalTime());
+        }
+    }
+
+    @Test
+    public void testExactConversion() {
+        assertEquals(RTime.MIN, RTime.of(LocalTime.MIDNIGHT));
+        assertEquals(RTime.of(5, 0), RTime.of(LocalTime.NOON));
+        assertEquals(RTime.MAX, RTime.of(LocalTime.MAX));
+        assertEquals(LocalTime.MAX, RTime.MAX.toLocalTime());
+        // 1 normal second = 1.157407407... decimal seconds (125/108), rounded up.
+        assertEquals(RTime.of(0, 0, 1, 157_407_408), RTime.of(LocalTime.of(0, 0, 1)));
+        // 1 decimal second = 0.864 normal second.
+        assertEquals(LocalTime.of(0, 0, 0, 864_000_000), RTime.of(0, 0, 1).toLocalTime());
+        // A normal nanosecond is longer than a decimal one: decimal nanoseconds are rounded down.
+        assertEquals(LocalTime.MIDNIGHT, RTime.ofNanoOfDay(1).toLocalTime());
+        assertEquals(LocalTime.ofNanoOfDay(1), RTime.ofNanoOfDay(2).toLocalTime());
+    }
+
     /**
      * Compare conversion of times in both direction.
      * The nanosecond component will be rounded to the closest second.
@@ -3,6 +3,14 @@ package com.github.jarnaud.republican;
 import com.github.jarnaud.republican.exception.RepublicanCalendarException;
 import org.junit.jupiter.api.Test;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class RTimeTest {
@@ -104,4 +112,59 @@ public class RTimeTest {
         assertNotEquals(rt, RTime.of(8, 64, 81, 1500));
         assertNotEquals(rt, RTime.of(8, 64, 80, 1501));
     }
+
+    @Test
+    public void testFrom() {
+        RTime rt = RTime.of(8, 64, 80, 1500);
+        assertSame(rt, RTime.from(rt));
+        assertSame(rt, RTime.from(RDateTime.of(RDate.of(12, RMonth.Floreal, 28), rt)));
+        assertEquals(RTime.of(5, 0, 0), RTime.from(LocalTime.NOON));
+        assertEquals(RTime.of(2, 50, 0), RTime.from(LocalDateTime.of(1804, 5, 18, 6, 0)));
+        assertThrows(DateTimeException.class, () -> RTime.from(LocalDate.of(1804, 5, 18)));
+    }
+
+    @Test
+    public void testWith() {
+        RTime rt = RTime.of(8, 64, 80, 1500);
+        assertEquals(RTime.of(3, 64, 80, 1500), rt.with(ChronoField.HOUR_OF_DAY, 3));
+        assertEquals(RTime.of(8, 12, 80, 1500), rt.with(ChronoField.MINUTE_OF_HOUR, 12));
+        assertEquals(RTime.of(8, 64, 99, 1500), rt.with(ChronoField.SECOND_OF_MINUTE, 99));
+        assertEquals(RTime.of(8, 64, 80, 7), rt.with(ChronoField.NANO_OF_SECOND, 7));
+        assertEquals(RTime.of(0, 0, 1), rt.with(ChronoField.NANO_OF_DAY, RTime.NANOS_PER_SECOND));
+        assertThrows(DateTimeException.class, () -> rt.with(ChronoField.HOUR_OF_DAY, 10));
+        assertThrows(DateTimeException.class, () -> rt.with(ChronoField.MINUTE_OF_HOUR, 100));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> rt.with(ChronoField.CLOCK_HOUR_OF_DAY, 1));
+    }
+
+    @Test
+    public void testPlus() {
+        RTime rt = RTime.of(8, 64, 80, 1500);
+        assertTrue(rt.isSupported(RChronoUnit.HOURS));
+        assertFalse(rt.isSupported(ChronoUnit.HOURS));
+        assertEquals(RTime.of(9, 4, 80, 1500), rt.plus(40, RChronoUnit.MINUTES));
+        assertEquals(RTime.of(8, 64, 81, 1500), rt.plus(1, RChronoUnit.SECONDS));
+        assertEquals(RTime.of(8, 64, 80, 1502), rt.plus(2, RChronoUnit.NANOS));
+        // Wraps around midnight.
+        assertEquals(RTime.of(0, 64, 80, 1500), rt.plus(2, RChronoUnit.HOURS));
+        assertEquals(RTime.of(7, 64, 80, 1500), rt.plus(-11, RChronoUnit.HOURS));
+        assertEquals(RTime.of(7, 64, 80, 1500), rt.minus(1, RChronoUnit.HOURS));
+        assertEquals(rt, rt.plus(10, RChronoUnit.HOURS));
+        assertEquals(rt, rt.plus(Long.MIN_VALUE, RChronoUnit.NANOS).minus(Long.MIN_VALUE, RChronoUnit.NANOS));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> rt.plus(1, ChronoUnit.HOURS));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> rt.plus(1, ChronoUnit.DAYS));
+    }
+
+    @Test
+    public void testUntil() {
+        RTime start = RTime.of(2, 50, 0);
+        RTime end = RTime.of(5, 25, 50, 10);
+        assertEquals(2, start.until(end, RChronoUnit.HOURS));
+        assertEquals(275, start.until(end, RChronoUnit.MINUTES));
+        assertEquals(27_550, start.until(end, RChronoUnit.SECONDS));
+        assertEquals(27_550_000_000_010L, start.until(end, RChronoUnit.NANOS));
+        assertEquals(-2, end.until(start, RChronoUnit.HOURS));
+        assertEquals(-275, RChronoUnit.MINUTES.between(end, start));
+        assertEquals(2, start.until(LocalTime.NOON, RChronoUnit.HOURS));
+        assertThrows(UnsupportedTemporalTypeException.class, () -> start.until(end, ChronoUnit.HOURS));
+    }
 }
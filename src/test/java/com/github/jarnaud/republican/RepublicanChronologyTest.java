@@ -0,0 +1,138 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+import static java.time.temporal.ChronoField.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the integration of the Republican calendar with the java.time chronology API.
+ */
+public class RepublicanChronologyTest {
+
+    @Test
+    public void testLookup() {
+        assertEquals(RepublicanChronology.INSTANCE, Chronology.of("Republican"));
+        assertSame(RepublicanChronology.INSTANCE, RDate.of(1, 1, 1).getChronology());
+    }
+
+    @Test
+    public void testDate() {
+        RepublicanChronology chrono = RepublicanChronology.INSTANCE;
+        assertEquals(RDate.of(12, RMonth.Nivose, 3), chrono.date(12, 4, 3));
+        assertEquals(RDate.of(12, RMonth.Nivose, 3), chrono.date(REra.REPUBLICAN, 12, 4, 3));
+        assertEquals(RDate.of(12, RMonth.Nivose, 3), chrono.dateYearDay(12, 93));
+        assertEquals(RDate.of(3, RMonth.Sanculottide, 6), chrono.dateYearDay(3, 366));
+        assertThrows(RepublicanCalendarException.class, () -> chrono.dateYearDay(4, 366));
+        assertEquals(RDate.of(1, 1, 1), chrono.dateEpochDay(RDate.FIRST_EPOCH_DAY));
+        assertEquals(RDate.of(LocalDate.of(2000, 1, 1)), chrono.date(LocalDate.of(2000, 1, 1)));
+    }
+
+    @Test
+    public void testIsLeapYear() {
+        assertTrue(RepublicanChronology.INSTANCE.isLeapYear(3));
+        assertFalse(RepublicanChronology.INSTANCE.isLeapYear(4));
+        assertTrue(RepublicanChronology.INSTANCE.isLeapYear(20));
+    }
+
+    @Test
+    public void testFromAndToLocalDate() {
+        LocalDate date = LocalDate.of(1804, 12, 2);
+        RDate rDate = RDate.from(date);
+        assertEquals(RDate.of(13, RMonth.Frimaire, 11), rDate);
+        assertEquals(date, LocalDate.from(rDate));
+        assertEquals(rDate, date.atStartOfDay().query(RDate::from));
+        assertTrue(rDate.isEqual(date));
+        assertEquals(0, rDate.compareTo(RDate.of(13, RMonth.Frimaire, 11)));
+        assertTrue(rDate.compareTo(date) != 0);
+    }
+
+    @Test
+    public void testFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd").withChronology(RepublicanChronology.INSTANCE);
+        assertEquals("0013-03-11", formatter.format(LocalDate.of(1804, 12, 2)));
+        assertEquals("0013-03-11", formatter.format(RDate.of(13, RMonth.Frimaire, 11)));
+        assertEquals(RDate.of(13, RMonth.Frimaire, 11), RDate.from(formatter.parse("0013-03-11")));
+    }
+
+    @Test
+    public void testOfPattern() {
+        DateTimeFormatter formatter = RepublicanChronology.ofPattern("d MMMM yyyy GGGG", Locale.FRENCH);
+        assertEquals("11 Frimaire 0013 Ere Republicaine", formatter.format(LocalDate.of(1804, 12, 2)));
+        assertEquals("11 Frimaire 0013 Ere Republicaine", formatter.format(RDate.of(13, RMonth.Frimaire, 11)));
+        assertEquals(RDate.of(13, RMonth.Frimaire, 11), RDate.from(formatter.parse("11 Frimaire 0013 Ere Republicaine")));
+
+        formatter = RepublicanChronology.ofPattern("'Month' MMM, 'GGG' G [y]", Locale.FRENCH);
+        assertEquals("Month Sanculottide, GGG ER 3", formatter.format(RDate.of(3, RMonth.Sanculottide, 6)));
+        assertEquals("2", RepublicanChronology.ofPattern("M").format(RDate.of(3, RMonth.Brumaire, 6)));
+        assertEquals("Brumaire", RepublicanChronology.ofPattern("LLLL").format(RDate.of(3, RMonth.Brumaire, 6)));
+
+        assertThrows(DateTimeException.class, () -> RepublicanChronology.ofPattern("EEEE").format(RDate.of(3, RMonth.Brumaire, 6)));
+        assertThrows(IllegalArgumentException.class, () -> RepublicanChronology.ofPattern("MMMM]"));
+    }
+
+    @Test
+    public void testGetLong() {
+        RDate rDate = RDate.of(13, RMonth.Frimaire, 11);
+        assertEquals(71, rDate.getLong(DAY_OF_YEAR));
+        assertEquals(LocalDate.of(1804, 12, 2).toEpochDay(), rDate.getLong(EPOCH_DAY));
+        assertEquals(13 * 13 + 2, rDate.getLong(PROLEPTIC_MONTH));
+        assertEquals(13, rDate.getLong(YEAR_OF_ERA));
+        assertEquals(1, rDate.getLong(ERA));
+        assertEquals(5, RDate.of(4, RMonth.Sanculottide, 1).range(DAY_OF_MONTH).getMaximum());
+        assertEquals(366, RDate.of(3, RMonth.Sanculottide, 1).range(DAY_OF_YEAR).getMaximum());
+    }
+
+    @Test
+    public void testWith() {
+        RDate rDate = RDate.of(3, RMonth.Fructidor, 30);
+        assertEquals(RDate.of(3, RMonth.Fructidor, 1), rDate.with(DAY_OF_MONTH, 1));
+        assertEquals(RDate.of(3, RMonth.Sanculottide, 6), rDate.with(MONTH_OF_YEAR, 13));
+        assertEquals(RDate.of(4, RMonth.Sanculottide, 5), rDate.with(MONTH_OF_YEAR, 13).with(YEAR, 4));
+        assertEquals(RDate.of(3, RMonth.Vendemiaire, 1), rDate.with(DAY_OF_YEAR, 1));
+        assertEquals(RDate.of(1, 1, 1), rDate.with(EPOCH_DAY, RDate.FIRST_EPOCH_DAY));
+        assertEquals(RDate.of(3, RMonth.Fructidor, 1), rDate.with(RDate.of(1, RMonth.Fructidor, 1).with(YEAR, 3)));
+        assertThrows(DateTimeException.class, () -> rDate.with(DAY_OF_MONTH, 31));
+        assertThrows(DateTimeException.class, () -> rDate.with(HOUR_OF_DAY, 1));
+    }
+
+    @Test
+    public void testPlusAndUntil() {
+        RDate start = RDate.of(3, RMonth.Fructidor, 30);
+        assertEquals(RDate.of(3, RMonth.Sanculottide, 6), start.plus(1, ChronoUnit.MONTHS));
+        assertEquals(RDate.of(13, RMonth.Fructidor, 30), start.plus(1, ChronoUnit.DECADES));
+        assertEquals(RDate.of(3, RMonth.Fructidor, 29), start.minus(1, ChronoUnit.DAYS));
+        assertEquals(7, start.until(RDate.of(4, RMonth.Vendemiaire, 1), ChronoUnit.DAYS));
+        assertEquals(1, start.until(RDate.of(4, RMonth.Vendemiaire, 1), ChronoUnit.MONTHS));
+        assertEquals(13, start.until(RDate.of(4, RMonth.Fructidor, 30), ChronoUnit.MONTHS));
+        assertEquals(1, start.until(RDate.of(4, RMonth.Fructidor, 30), ChronoUnit.YEARS));
+        assertEquals(-1, RDate.of(4, RMonth.Fructidor, 30).until(start, ChronoUnit.YEARS));
+        assertEquals(7, start.until(LocalDate.of(1795, 9, 23), ChronoUnit.DAYS));
+        assertThrows(DateTimeException.class, () -> start.plus(1, ChronoUnit.HOURS));
+    }
+
+    @Test
+    public void testPeriod() {
+        RDate start = RDate.of(3, RMonth.Fructidor, 30);
+        RDate end = RDate.of(5, RMonth.Brumaire, 2);
+        ChronoPeriod period = start.until(end);
+        assertEquals(RepublicanChronology.INSTANCE, period.getChronology());
+        assertEquals(1, period.get(ChronoUnit.YEARS));
+        assertEquals(2, period.get(ChronoUnit.MONTHS));
+        assertEquals(2, period.get(ChronoUnit.DAYS));
+        assertEquals(end, start.plus(period));
+        assertEquals(start.plus(1, ChronoUnit.MONTHS), start.plus(RepublicanChronology.INSTANCE.period(0, 1, 0)));
+        assertEquals(RDate.of(4, RMonth.Vendemiaire, 1), start.plus(RepublicanChronology.INSTANCE.period(0, 1, 1)));
+        ChronoPeriod negative = end.until(start);
+        assertEquals(start, end.plus(negative));
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.jarnaud.republican;
+
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RepublicanClockTest {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    @Test
+    public void testNow() {
+        Clock clock = Clock.fixed(Instant.parse("2020-12-08T18:40:29Z"), PARIS);
+        assertEquals(RDate.of(LocalDate.of(2020, 12, 8)), RDate.now(clock));
+        assertEquals(RDateTime.of(LocalDateTime.of(2020, 12, 8, 19, 40, 29)), RDateTime.now(clock));
+        assertEquals(RTime.now(clock).getNanoOfDay(), RDateTime.now(clock).getNanoOfDay());
+        assertNotNull(RDate.now());
+        assertNotNull(RDateTime.now(PARIS));
+        assertThrows(RepublicanCalendarException.class, () -> RepublicanClock.of(null));
+    }
+
+    @Test
+    public void testAcrossDaysAndTransitions() {
+        MutableClock clock = new MutableClock(Instant.parse("2021-03-27T12:00:00Z"), PARIS);
+        RepublicanClock rClock = RepublicanClock.of(clock);
+        // Every 7 minutes over 2 days including a summer time transition.
+        for (int i = 0; i < 2 * 24 * 60 / 7; i++) {
+            assertClock(clock, rClock);
+            clock.instant = clock.instant.plusSeconds(7 * 60 + 1).plusNanos(123_456_789);
+        }
+        // Winter time transition (the local time goes backward).
+        clock.instant = Instant.parse("2021-10-31T00:59:59Z");
+        assertClock(clock, rClock);
+        assertEquals(ZoneOffset.ofHours(2), rClock.offset());
+        clock.instant = Instant.parse("2021-10-31T01:00:00Z");
+        assertClock(clock, rClock);
+        assertEquals(ZoneOffset.ofHours(1), rClock.offset());
+        // Clock going backward.
+        clock.instant = Instant.parse("2021-10-30T23:59:59Z");
+        assertClock(clock, rClock);
+    }
+
+    @Test
+    public void testCachedDate() {
+        MutableClock clock = new MutableClock(Instant.parse("2021-03-27T00:00:00Z"), ZoneOffset.UTC);
+        RepublicanClock rClock = RepublicanClock.of(clock);
+        RDate date = rClock.date();
+        clock.instant = Instant.parse("2021-03-27T23:59:59.999999999Z");
+        assertSame(date, rClock.date());
+        assertEquals(RTime.MAX, rClock.time());
+        clock.instant = Instant.parse("2021-03-28T00:00:00Z");
+        assertEquals(date.plusDays(1), rClock.date());
+        assertEquals(0, rClock.nanoOfDay());
+    }
+
+    @Test
+    public void testEpochMilli() {
+        RepublicanClock rClock = RepublicanClock.system(PARIS);
+        long start = Instant.parse("2021-03-27T22:00:00Z").toEpochMilli();
+        // Every 77 ms over 3 hours, across midnight and a summer time transition, then backward.
+        for (long epochMilli = start; epochMilli < start + 3 * 3_600_000; epochMilli += 77_777) {
+            assertEpochMilli(rClock, epochMilli);
+        }
+        assertEpochMilli(rClock, start - 1);
+        assertEpochMilli(rClock, Instant.parse("2021-10-31T00:59:59.999Z").toEpochMilli());
+        assertEpochMilli(rClock, Instant.parse("2021-10-31T01:00:00Z").toEpochMilli());
+    }
+
+    private static void assertEpochMilli(RepublicanClock rClock, long epochMilli) {
+        RDateTime expected = RDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), PARIS);
+        assertEquals(expected.toRDate(), rClock.date(epochMilli), Instant.ofEpochMilli(epochMilli).toString());
+        assertEquals(expected.getNanoOfDay(), rClock.nanoOfDay(epochMilli), Instant.ofEpochMilli(epochMilli).toString());
+    }
+
+    private static void assertClock(Clock clock, RepublicanClock rClock) {
+        LocalDateTime expected = LocalDateTime.now(clock);
+        assertEquals(RDateTime.of(expected), rClock.dateTime(), clock.instant().toString());
+        assertEquals(RDate.of(expected.toLocalDate()), rClock.date());
+        assertEquals(RTime.of(expected.toLocalTime()), rClock.time());
+        assertEquals(PARIS.equals(clock.getZone()) ? PARIS.getRules().getOffset(clock.instant()) : ZoneOffset.UTC, rClock.offset());
+    }
+
+    /**
+     * Clock whose instant can be changed.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+        private final ZoneId zone;
+
+        MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.jarnaud.republican;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class YearStartTableTest {
+
+    private final LeapYearCalculator calculator = new LeapYearCalculator();
+
+    @Test
+    public void testSameAsCalculator() {
+        // Small table to test both the table and the computed fallback.
+        YearStartTable table = new YearStartTable(RLeapRule.ROMME, 1000);
+        for (int year = 1; year <= 5000; year++) {
+            assertEquals(calculator.daysBeforeRepublicanYear(year), table.daysBeforeYear(year), "An " + year);
+            assertEquals(RDate.isSextileYear(year), table.isSextile(year), "An " + year);
+        }
+        assertEquals(1000, table.size());
+    }
+
+    @Test
+    public void testLazyGrowth() {
+        YearStartTable table = new YearStartTable(RLeapRule.ROMME, 10_000);
+        assertEquals(0, table.size());
+        table.daysBeforeYear(12);
+        assertEquals(255, table.size());
+        table.daysBeforeYear(300);
+        assertEquals(511, table.size());
+        table.daysBeforeYear(5000);
+        assertEquals(5000, table.size());
+        // Years above the maximum are computed.
+        table.daysBeforeYear(20_000);
+        assertEquals(5000, table.size());
+        table.daysBeforeYear(5001);
+        assertEquals(10_000, table.size());
+    }
+
+    @Test
+    public void testDisabled() {
+        YearStartTable table = new YearStartTable(RLeapRule.ROMME, 0);
+        assertEquals(calculator.daysBeforeRepublicanYear(229), table.daysBeforeYear(229));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void testYearOf() {
+        YearStartTable table = new YearStartTable(RLeapRule.ROMME, 500);
+        for (int year = 1; year <= 1000; year++) {
+            long days = calculator.daysBeforeRepublicanYear(year);
+            assertEquals(year, table.yearOf(days));
+            assertEquals(year, table.yearOf(days + 364));
+            assertEquals(year - 1, table.yearOf(days - 1));
+        }
+    }
+
+    @Test
+    public void testConcurrentGrowth() throws InterruptedException, ExecutionException {
+        YearStartTable table = new YearStartTable(RLeapRule.ROMME, 100_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int first = t;
+                futures.add(executor.submit(() -> {
+                    for (int year = 1 + first; year <= 100_000; year += 97) {
+                        assertEquals(calculator.daysBeforeRepublicanYear(year), table.daysBeforeYear(year));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
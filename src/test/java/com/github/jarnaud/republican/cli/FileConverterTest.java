@@ -0,0 +1,169 @@
+package com.github.jarnaud.republican.cli;
+
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RDateTime;
+import com.github.jarnaud.republican.RFormatter;
+import com.github.jarnaud.republican.RPacked;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileConverterTest {
+
+    private final Random random = new Random(1792);
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testDates() throws IOException {
+        List<LocalDate> dates = randomDates(5_000);
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        RFormatter formatter = RFormatter.ofPattern(FileConverter.DEFAULT_DATE_PATTERN);
+        for (int i = 0; i < dates.size(); i++) {
+            // Mix of line endings, and some empty lines (ignored).
+            input.append(dates.get(i)).append(i % 3 == 0 ? "\r\n" : "\n").append(i % 100 == 0 ? "\n" : "");
+            expected.append(formatter.format(RDate.of(dates.get(i)))).append('\n');
+        }
+        input.setLength(input.length() - 1); // No new line at the end of the file.
+
+        assertEquals(expected.toString(), convert(input.toString()));
+        assertEquals(expected.toString(), convert(input.toString(), "--threads", "3", "--chunk-size", "257"));
+        assertEquals(expected.toString(), convert(input.toString(), "--threads", "1", "--chunk-size", "1000"));
+    }
+
+    @Test
+    public void testDates_longLines() throws IOException {
+        // Lines longer than the estimated bytes per line, so that the output grows.
+        String pattern = "'Le' d MMM 'de l''An' R (y-MM-dd), 'decade' D";
+        RFormatter formatter = RFormatter.ofPattern(pattern);
+        List<LocalDate> dates = randomDates(1_000);
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (LocalDate date : dates) {
+            input.append(date).append('\n');
+            expected.append(formatter.format(RDate.of(date))).append('\n');
+        }
+        assertEquals(expected.toString(), convert(input.toString(), "--pattern", pattern, "--chunk-size", "300"));
+    }
+
+    @Test
+    public void testDates_binary() throws IOException {
+        List<LocalDate> dates = randomDates(1_000);
+        StringBuilder input = new StringBuilder();
+        dates.forEach(date -> input.append(date).append('\n'));
+        Path output = convertFile(input.toString(), "--binary", "--chunk-size", "500");
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertEquals(4 * dates.size(), bytes.remaining());
+        for (LocalDate date : dates) {
+            assertEquals(RPacked.packDate(RDate.of(date)), bytes.getInt());
+        }
+    }
+
+    @Test
+    public void testTimestamps() throws IOException {
+        ZoneOffset offset = ZoneOffset.ofHours(1);
+        RFormatter formatter = RFormatter.ofPattern("y-MM-dd h:mm:ss.nnnn");
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        List<Instant> instants = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Instant instant = Instant.ofEpochSecond(-5_000_000_000L + (long) (random.nextDouble() * 10_000_000_000L), random.nextInt(1_000_000_000));
+            instants.add(instant);
+            input.append(i % 2 == 0 ? instant.toString() : instant.atOffset(ZoneOffset.ofHours(-7)).toString()).append('\n');
+            RDateTime dateTime = RDateTime.of(LocalDateTime.ofInstant(instant, offset));
+            expected.append(formatter.format(RPacked.unpackDateTime(RPacked.packDateTime(dateTime)))).append('\n');
+        }
+        assertEquals(expected.toString(), convert(input.toString(), "--timestamps", "--offset", "+01:00",
+                "--pattern", "y-MM-dd h:mm:ss.nnnn", "--chunk-size", "4096"));
+
+        Path output = convertFile(input.toString(), "--timestamps", "--binary", "--offset", "+01:00");
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(output));
+        for (Instant instant : instants) {
+            assertEquals(RPacked.packDateTime(RDateTime.of(LocalDateTime.ofInstant(instant, offset))), bytes.getLong());
+        }
+        assertFalse(bytes.hasRemaining());
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        assertEquals("", convert(""));
+        assertEquals("", convert("\n\n"));
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+        Path input = Files.write(dir.resolve("invalid.txt"), "1804-05-18\n1792-09-21\n".getBytes(StandardCharsets.US_ASCII));
+        Path output = dir.resolve("output.txt");
+        assertEquals(1, FileConverter.run(new PrintStream(errors), input.toString(), output.toString()));
+        assertTrue(errors.toString().contains("Invalid date at byte 11"), errors.toString());
+
+        errors.reset();
+        assertEquals(1, FileConverter.run(new PrintStream(errors), "--timestamps", input.toString(), output.toString()));
+        assertTrue(errors.toString().contains("Invalid timestamp at byte 0"), errors.toString());
+
+        errors.reset();
+        Path invalidTime = Files.write(dir.resolve("invalid-time.txt"), "2020-01-01Tab:30Z\n".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(1, FileConverter.run(new PrintStream(errors), "--timestamps", invalidTime.toString(), output.toString()));
+        assertTrue(errors.toString().contains("Invalid timestamp at byte 0"), errors.toString());
+
+        assertEquals(1, FileConverter.run(new PrintStream(errors), dir.resolve("missing.txt").toString(), output.toString()));
+        assertEquals(2, FileConverter.run(new PrintStream(errors), input.toString()));
+        assertEquals(2, FileConverter.run(new PrintStream(errors), "--threads", "0", input.toString(), output.toString()));
+        assertEquals(2, FileConverter.run(new PrintStream(errors), "--chunk-size", "100", input.toString(), output.toString()));
+        assertEquals(2, FileConverter.run(new PrintStream(errors), "--pattern", "y h", input.toString(), output.toString()));
+        assertEquals(2, FileConverter.run(new PrintStream(errors), "--timestamps", "--offset", "+25:00", input.toString(), output.toString()));
+
+        errors.reset();
+        assertEquals(2, FileConverter.run(new PrintStream(errors), "--offset", "+01:00", input.toString(), output.toString()));
+        assertTrue(errors.toString().contains("Option --offset requires --timestamps"), errors.toString());
+
+        errors.reset();
+        String longPattern = String.join("", Collections.nCopies(30, "MMM "));
+        assertEquals(2, FileConverter.run(new PrintStream(errors), "--pattern", longPattern, input.toString(), output.toString()));
+        assertTrue(errors.toString().contains("Pattern output is too long"), errors.toString());
+        assertEquals(2, FileConverter.run(new PrintStream(errors), "--unknown", input.toString(), output.toString()));
+    }
+
+    private List<LocalDate> randomDates(int count) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dates.add(RDate.FIRST_DAY.plusDays(random.nextInt(400 * 365)));
+        }
+        return dates;
+    }
+
+    private String convert(String input, String... options) throws IOException {
+        return new String(Files.readAllBytes(convertFile(input, options)), StandardCharsets.US_ASCII);
+    }
+
+    private Path convertFile(String input, String... options) throws IOException {
+        Path inputFile = Files.write(dir.resolve("input.txt"), input.getBytes(StandardCharsets.US_ASCII));
+        Path outputFile = dir.resolve("output.bin");
+        String[] args = new String[options.length + 2];
+        System.arraycopy(options, 0, args, 0, options.length);
+        args[options.length] = inputFile.toString();
+        args[options.length + 1] = outputFile.toString();
+        assertEquals(0, FileConverter.run(new PrintStream(errors), args), errors::toString);
+        return outputFile;
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.jarnaud.republican.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IsoParserTest {
+
+    @Test
+    public void testParseEpochDay() {
+        for (LocalDate date = LocalDate.of(1600, 1, 1); date.getYear() < 2500; date = date.plusDays(1)) {
+            assertEquals(date.toEpochDay(), parseEpochDay(date.toString()));
+        }
+        assertEquals(IsoParser.FAILURE, parseEpochDay("2021-02-29"));
+        assertEquals(IsoParser.FAILURE, parseEpochDay("2021-13-01"));
+        assertEquals(IsoParser.FAILURE, parseEpochDay("2021-00-01"));
+        assertEquals(IsoParser.FAILURE, parseEpochDay("2021-01-00"));
+        assertEquals(IsoParser.FAILURE, parseEpochDay("2021/01/01"));
+        assertEquals(IsoParser.FAILURE, parseEpochDay("2021-1-01"));
+        assertEquals(IsoParser.FAILURE, parseEpochDay("2021-01-011"));
+        assertEquals(IsoParser.FAILURE, parseEpochDay("20x1-01-01"));
+    }
+
+    @Test
+    public void testParseEpochSecond() {
+        assertInstant("1804-05-18T12:34:56.789Z", "1804-05-18T12:34:56.789Z");
+        assertInstant("1804-05-18T12:34:56Z", "1804-05-18T12:34:56Z");
+        assertInstant("1804-05-18T12:34:00Z", "1804-05-18T12:34Z");
+        assertInstant("1804-05-18T12:34:00Z", "1804-05-18 12:34");
+        assertInstant("1804-05-18T12:34:56.000000001Z", "1804-05-18T12:34:56.000000001");
+        assertInstant("1804-05-18T10:34:56.5Z", "1804-05-18T12:34:56.5+02:00");
+        assertInstant("1804-05-18T14:04:56.5Z", "1804-05-18T12:34:56.5-0130");
+        assertInstant("1804-05-18T07:34:56Z", "1804-05-18T12:34:56+05");
+        for (String invalid : new String[]{"1804-05-18", "1804-05-18T24:00", "1804-05-18T12:60", "1804-05-18T12:34:61",
+                "1804-05-18T12:34:56.", "1804-05-18T12:34:56.1234567890", "1804-05-18T12:34:56ZZ", "1804-05-18T12:34:56+2",
+                "1804-05-18T12:34:56+19:00", "1804-05-18X12:34", "1804-05-18T12-34",
+                "1804-05-18Tab:30Z", "1804-05-18T-1:30", "1804-05-18T1a:30", "1804-05-18T12:3b"}) {
+            assertEquals(IsoParser.FAILURE, parseEpochSecond(invalid, new int[1]), invalid);
+        }
+    }
+
+    private static void assertInstant(String expected, String text) {
+        Instant instant = OffsetDateTime.parse(expected).toInstant();
+        int[] nanos = new int[2];
+        assertEquals(instant.getEpochSecond(), parseEpochSecond(text, nanos), text);
+        assertEquals(instant.getNano(), nanos[1], text);
+    }
+
+    private static long parseEpochDay(String text) {
+        ByteBuffer buf = ByteBuffer.wrap((" " + text + "\n").getBytes(StandardCharsets.US_ASCII));
+        return IsoParser.parseEpochDay(buf, 1, buf.limit() - 1);
+    }
+
+    private static long parseEpochSecond(String text, int[] nanos) {
+        ByteBuffer buf = ByteBuffer.wrap((" " + text + "\n").getBytes(StandardCharsets.US_ASCII));
+        return IsoParser.parseEpochSecond(buf, 1, buf.limit() - 1, nanos, nanos.length - 1);
+    }
+}
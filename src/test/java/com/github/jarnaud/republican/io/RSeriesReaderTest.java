@@ -0,0 +1,144 @@
+package com.github.jarnaud.republican.io;
+
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RDateTime;
+import com.github.jarnaud.republican.RInstant;
+import com.github.jarnaud.republican.RMonth;
+import com.github.jarnaud.republican.RTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RSeriesReaderTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Write a daily series of dates (each date twice), from An 10 to An 20, in blocks of 100 values.
+     */
+    private Path writeDates() throws IOException {
+        Path path = dir.resolve("dates.rser");
+        try (RSeriesWriter writer = RSeriesWriter.create(path, RSeriesType.DATES, 100)) {
+            RDate end = RDate.of(20, RMonth.Vendemiaire, 1);
+            for (RDate date = RDate.of(10, RMonth.Vendemiaire, 1); date.isBefore(end); date = date.plusDays(1)) {
+                writer.write(date);
+                writer.write(date);
+            }
+        }
+        return path;
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        RSeriesReader reader = RSeriesReader.open(writeDates());
+        assertEquals(RSeriesType.DATES, reader.getType());
+        long days = RDate.of(20, RMonth.Vendemiaire, 1).toEpochDay() - RDate.of(10, RMonth.Vendemiaire, 1).toEpochDay();
+        assertEquals(2 * days, reader.size());
+
+        RSeriesReader.Cursor cursor = reader.cursor();
+        long expected = RDate.of(10, RMonth.Vendemiaire, 1).toEpochDay();
+        for (long i = 0; i < reader.size(); i++) {
+            assertTrue(cursor.hasNext());
+            assertEquals(i, cursor.getIndex());
+            assertEquals(expected + i / 2, cursor.nextValue());
+        }
+        assertFalse(cursor.hasNext());
+        assertThrows(NoSuchElementException.class, cursor::nextValue);
+
+        assertEquals(RDate.of(10, RMonth.Vendemiaire, 1), reader.getDate(0));
+        assertEquals(RDate.of(10, RMonth.Brumaire, 1), reader.getDate(61));
+        assertEquals(RDateTime.of(RDate.of(10, RMonth.Brumaire, 1), RTime.MIN), reader.getDateTime(60));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.getValue(reader.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.getValue(-1));
+
+        // Bulk read across blocks, and at the end of the series.
+        long[] values = new long[300];
+        assertEquals(250, reader.read(150, values, 50, 250));
+        for (int i = 0; i < 250; i++) {
+            assertEquals(expected + (150 + i) / 2, values[50 + i]);
+        }
+        assertEquals(10, reader.read(reader.size() - 10, values, 0, 300));
+        assertEquals(0, reader.read(reader.size(), values, 0, 300));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.read(0, values, 200, 101));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.read(reader.size() + 1, values, 0, 1));
+    }
+
+    @Test
+    public void testIndexOf() throws IOException {
+        RSeriesReader reader = RSeriesReader.open(writeDates());
+        long first = RDate.of(10, RMonth.Vendemiaire, 1).toEpochDay();
+        assertEquals(0, reader.indexOf(Long.MIN_VALUE));
+        assertEquals(0, reader.indexOf(first));
+        assertEquals(reader.size(), reader.indexOf(Long.MAX_VALUE));
+        // Each value starts at an even index, including at block boundaries (the first value of a block being equal
+        // to the last one of the previous block).
+        for (long day = 0; day < reader.size() / 2; day++) {
+            assertEquals(2 * day, reader.indexOf(first + day));
+        }
+
+        assertEquals(0, reader.indexOfYear(9));
+        assertEquals(0, reader.indexOfYear(10));
+        assertEquals(2 * 365, reader.indexOfYear(11));
+        assertEquals(reader.size(), reader.indexOfYear(20));
+        assertEquals(2 * (365 + 60), reader.indexOfMonth(11, RMonth.Frimaire));
+        assertEquals(RDate.of(15, RMonth.Germinal, 1), reader.getDate(reader.indexOfMonth(15, RMonth.Germinal)));
+        assertEquals(RDate.of(15, RMonth.Germinal, 1), reader.getDate(reader.indexOf(RDate.of(15, RMonth.Germinal, 1))));
+    }
+
+    @Test
+    public void testDateTimes() throws IOException {
+        Path path = dir.resolve("date-times.rser");
+        RDateTime start = RDateTime.of(RDate.of(228, RMonth.Nivose, 1), RTime.of(1, 2, 3));
+        RInstant instant = RInstant.of(start, ZoneOffset.UTC);
+        try (RSeriesWriter writer = RSeriesWriter.create(path, RSeriesType.DATE_TIMES, 16)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.write(instant.plusMicros(i * 37_000_000L).toRDateTime(ZoneOffset.UTC));
+            }
+        }
+        RSeriesReader reader = RSeriesReader.open(path);
+        assertEquals(RSeriesType.DATE_TIMES, reader.getType());
+        assertEquals(1000, reader.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(instant.plusMicros(i * 37_000_000L).toRDateTime(ZoneOffset.UTC), reader.getDateTime(i));
+        }
+        assertEquals(0, reader.indexOf(start));
+        assertEquals(1, reader.indexOf(instant.plusMicros(1).toRDateTime(ZoneOffset.UTC)));
+        assertEquals(0, reader.indexOfYear(228));
+        assertEquals(0, reader.indexOf(RDate.of(228, RMonth.Nivose, 1)));
+        assertEquals(reader.size(), reader.indexOfMonth(228, RMonth.Germinal));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        Path path = dir.resolve("empty.rser");
+        RSeriesWriter.create(path, RSeriesType.DATES).close();
+        RSeriesReader reader = RSeriesReader.open(path);
+        assertEquals(0, reader.size());
+        assertEquals(0, reader.indexOfYear(5));
+        assertFalse(reader.cursor().hasNext());
+    }
+
+    @Test
+    public void testOpen_invalid() throws IOException {
+        Path path = dir.resolve("invalid.rser");
+        Files.write(path, new byte[10]);
+        assertThrows(IOException.class, () -> RSeriesReader.open(path));
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> RSeriesReader.open(path));
+
+        // Truncated file.
+        Path dates = writeDates();
+        byte[] bytes = Files.readAllBytes(dates);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> RSeriesReader.open(path));
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.jarnaud.republican.io;
+
+import com.github.jarnaud.republican.RDate;
+import com.github.jarnaud.republican.RMonth;
+import com.github.jarnaud.republican.exception.RepublicanCalendarException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RSeriesWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testWrite() throws IOException {
+        Path path = dir.resolve("dates.rser");
+        RDate start = RDate.of(10, RMonth.Vendemiaire, 1);
+        try (RSeriesWriter writer = RSeriesWriter.create(path, RSeriesType.DATES)) {
+            assertEquals(RSeriesType.DATES, writer.getType());
+            for (int i = 0; i < 10_000; i++) {
+                writer.write(start.plusDays(i));
+            }
+            assertEquals(10_000, writer.size());
+        }
+        // Header, one byte per delta (the first value of the 10 blocks being in the index) and the index.
+        long expected = RSeriesFormat.HEADER_SIZE + (10_000 - 10) + 10 * RSeriesFormat.INDEX_ENTRY_SIZE;
+        assertEquals(expected, Files.size(path));
+
+        ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(path));
+        assertEquals(RSeriesFormat.MAGIC, header.getInt(0));
+        assertEquals(RSeriesFormat.VERSION, header.get(RSeriesFormat.VERSION_POSITION));
+        assertEquals(RSeriesType.DATES.getId(), header.get(RSeriesFormat.TYPE_POSITION));
+        assertEquals(RSeriesWriter.DEFAULT_BLOCK_SIZE, header.getInt(RSeriesFormat.BLOCK_SIZE_POSITION));
+        assertEquals(10, header.getInt(RSeriesFormat.BLOCK_COUNT_POSITION));
+        assertEquals(10_000, header.getLong(RSeriesFormat.COUNT_POSITION));
+        assertEquals(expected - 10 * RSeriesFormat.INDEX_ENTRY_SIZE, header.getLong(RSeriesFormat.INDEX_OFFSET_POSITION));
+    }
+
+    @Test
+    public void testWrite_invalid() throws IOException {
+        Path path = dir.resolve("dates.rser");
+        assertThrows(RepublicanCalendarException.class, () -> RSeriesWriter.create(path, RSeriesType.DATES, 0));
+
+        RSeriesWriter writer = RSeriesWriter.create(path, RSeriesType.DATES);
+        writer.write(RDate.of(2, RMonth.Nivose, 5));
+        writer.write(RDate.of(2, RMonth.Nivose, 5));
+        assertThrows(RepublicanCalendarException.class, () -> writer.write(RDate.of(2, RMonth.Nivose, 4)));
+        writer.close();
+        writer.close();
+        assertThrows(IOException.class, () -> writer.write(RDate.of(2, RMonth.Nivose, 6)));
+    }
+
+    @Test
+    public void testPutVarint() {
+        ByteBuffer buffer = ByteBuffer.allocate(RSeriesFormat.MAX_VARINT_LENGTH);
+        RSeriesWriter.putVarint(buffer, 0);
+        assertEquals(1, buffer.position());
+        buffer.clear();
+        RSeriesWriter.putVarint(buffer, 300);
+        assertEquals(2, buffer.position());
+        assertEquals((byte) 0xAC, buffer.get(0));
+        assertEquals((byte) 0x02, buffer.get(1));
+        buffer.clear();
+        RSeriesWriter.putVarint(buffer, Long.MAX_VALUE);
+        assertEquals(9, buffer.position());
+        buffer.clear();
+        RSeriesWriter.putVarint(buffer, -1L);
+        assertEquals(RSeriesFormat.MAX_VARINT_LENGTH, buffer.position());
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.jarnaud.republican.log4j;
+
+import com.github.jarnaud.republican.RDateTime;
+import com.github.jarnaud.republican.RFormatter;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RepublicanPatternLayoutTest {
+
+    private static final Logger LOGGER = Logger.getLogger(RepublicanPatternLayoutTest.class);
+
+    @Test
+    public void testDefaultPattern() {
+        RepublicanPatternLayout layout = new RepublicanPatternLayout("%R %p %m%n");
+        LocalDateTime dateTime = LocalDateTime.of(2020, 12, 8, 19, 40, 29, 123_000_000);
+        String expected = RFormatter.ofPattern(RepublicanDateConverter.DEFAULT_PATTERN).format(RDateTime.of(dateTime))
+                + "." + String.format("%03d", RDateTime.of(dateTime).getNano() / 1_000_000);
+        assertEquals(expected + " INFO Hello" + System.lineSeparator(), layout.format(event(dateTime, "Hello")));
+    }
+
+    @Test
+    public void testCustomPattern() {
+        RepublicanPatternLayout layout = new RepublicanPatternLayout("[%R{'An' R MMM d, h'h'mm'm'ss's'}] %m");
+        // The decimal second 8h61m45s starts at 20:40:29.280 (86,145 x 0.864 s).
+        assertEquals("[An CCXXIX Frimaire 18, 8h61m44s.998] Hello",
+                layout.format(event(LocalDateTime.of(2020, 12, 8, 20, 40, 29, 279_000_000), "Hello")));
+        assertEquals("[An CCXXIX Frimaire 18, 8h61m45s.000] Hello",
+                layout.format(event(LocalDateTime.of(2020, 12, 8, 20, 40, 29, 280_000_000), "Hello")));
+        assertEquals("[An CCXXIX Frimaire 18, 8h61m45s.998] Hello",
+                layout.format(event(LocalDateTime.of(2020, 12, 8, 20, 40, 30, 143_000_000), "Hello")));
+        assertEquals("[An CCXXIX Frimaire 18, 8h61m46s.000] Hello",
+                layout.format(event(LocalDateTime.of(2020, 12, 8, 20, 40, 30, 144_000_000), "Hello")));
+    }
+
+    @Test
+    public void testZone() {
+        LocalDateTime utc = LocalDateTime.of(2020, 12, 8, 18, 40, 29, 123_000_000);
+        long timeStamp = utc.toInstant(ZoneOffset.UTC).toEpochMilli();
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), LOGGER, timeStamp, Level.INFO, "", null);
+        RFormatter formatter = RFormatter.ofPattern(RepublicanDateConverter.DEFAULT_PATTERN);
+        RDateTime rUtc = RDateTime.of(utc);
+        RDateTime rParis = RDateTime.of(utc.plusHours(1));
+        assertEquals(formatter.format(rUtc) + String.format(".%03d", rUtc.getNano() / 1_000_000),
+                new RepublicanPatternLayout("%R{}{UTC}").format(event));
+        assertEquals(formatter.format(rParis) + String.format(".%03d", rParis.getNano() / 1_000_000),
+                new RepublicanPatternLayout("%R{" + RepublicanDateConverter.DEFAULT_PATTERN + "}{Europe/Paris}").format(event));
+        // Unknown zone: default zone.
+        assertEquals(new RepublicanPatternLayout("%R").format(event), new RepublicanPatternLayout("%R{}{Nowhere/Atlantis}").format(event));
+    }
+
+    @Test
+    public void testPadding() {
+        RepublicanPatternLayout layout = new RepublicanPatternLayout("%-25R|");
+        LocalDateTime dateTime = LocalDateTime.of(2020, 12, 8, 19, 40, 29);
+        String formatted = new RepublicanPatternLayout("%R").format(event(dateTime, ""));
+        assertEquals(String.format("%-25s|", formatted), layout.format(event(dateTime, "")));
+    }
+
+    @Test
+    public void testConsecutiveEvents() {
+        RepublicanPatternLayout layout = new RepublicanPatternLayout("%R");
+        RFormatter formatter = RFormatter.ofPattern(RepublicanDateConverter.DEFAULT_PATTERN);
+        LocalDateTime start = LocalDateTime.of(2021, 3, 27, 23, 30);
+        // Every 77 ms over 3 hours, across midnight (and a summer time transition in Europe).
+        for (LocalDateTime dateTime = start; dateTime.isBefore(start.plusHours(3)); dateTime = dateTime.plusNanos(77_777_000)) {
+            LoggingEvent event = event(dateTime, "");
+            // NB: the local date time may not exist (summer time transition), use the one of the event.
+            RDateTime rDateTime = RDateTime.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(event.getTimeStamp()), ZoneId.systemDefault()));
+            String expected = formatter.format(rDateTime) + "." + String.format("%03d", rDateTime.getNano() / 1_000_000);
+            assertEquals(expected, layout.format(event));
+        }
+    }
+
+    private static LoggingEvent event(LocalDateTime dateTime, String message) {
+        long timeStamp = dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new LoggingEvent(Logger.class.getName(), LOGGER, timeStamp, Level.INFO, message, null);
+    }
+}